@@ -0,0 +1,159 @@
+package com.yoga.backend.common.config;
+
+import com.yoga.backend.common.exeption.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해싱을 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * <p>
+ * 로그인이 몰려도 동시에 실행되는 해싱 수와 대기열 길이가 제한됨. 대기열이 가득 찼거나, 앞선 작업 수와 최근 해싱 시간으로 계산한 예상 대기
+ * 시간이 최대 대기 시간을 넘으면 대기열에 넣지 않고 바로 {@link PasswordHashingBusyException}을 던짐
+ * <p>
+ * 격리는 부분적임. 해싱 CPU 사용량은 풀 크기로 제한되지만, 받아들인 요청의 스레드는 자기 해싱이 끝날 때까지(최대 대기 시간) 기다림. 그래서
+ * 대기열과 최대 대기 시간을 짧게 두어, 요청 스레드가 묶이는 시간을 해싱 몇 번 분량으로 제한
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int threads;
+    private final long waitTimeoutNanos;
+    // 최근 해싱 한 번의 평균 시간 (지수 이동 평균). 예상 대기 시간 계산용
+    private final AtomicLong averageHashNanos = new AtomicLong();
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * @param delegate          실제 해싱을 수행할 인코더
+     * @param threads           해싱 스레드 수
+     * @param queueCapacity     대기열 최대 길이
+     * @param waitTimeoutMillis 해싱 완료까지 최대 대기 시간. 예상 대기 시간이 이보다 길면 바로 거절
+     * @param meterRegistry     메트릭 레지스트리
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+        long waitTimeoutMillis, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.threads = threads;
+        this.waitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable,
+                    "password-hash-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+            .description("해싱 대기열 길이")
+            .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("실행 중인 해싱 작업 수")
+            .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash.latency")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.latency")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+            .description("대기열 초과나 예상 대기 시간 초과로 거절한 해싱 요청 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> measure(encodeTimer, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(
+            () -> measure(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        // 기다려도 시간 안에 끝나지 않을 요청은 대기열에 넣지 않음
+        int queued = executor.getQueue().size();
+        long expectedWaitNanos = (queued / threads + 1) * averageHashNanos.get();
+        if (expectedWaitNanos > waitTimeoutNanos) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 예상 대기 시간 초과. 대기열 길이: {}, 예상 대기: {}ms", queued,
+                TimeUnit.NANOSECONDS.toMillis(expectedWaitNanos));
+            throw new PasswordHashingBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기열 초과. 대기열 길이: {}", executor.getQueue().size());
+            throw new PasswordHashingBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                e);
+        }
+
+        try {
+            return future.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingBusyException("비밀번호 처리 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("비밀번호 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 실패", cause);
+        }
+    }
+
+    /**
+     * 해싱 시간을 메트릭과 평균 해싱 시간에 반영
+     */
+    private <T> T measure(Timer timer, Supplier<T> hashing) {
+        long startedAt = System.nanoTime();
+        try {
+            return hashing.get();
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            timer.record(elapsed, TimeUnit.NANOSECONDS);
+            averageHashNanos.getAndUpdate(
+                average -> average == 0 ? elapsed : average + (elapsed - average) / 8);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,35 @@
+package com.yoga.backend.common.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마 변경 관리 (db/migration)
+ * <p>
+ * 테이블은 아직 JPA(ddl-auto)가 만들므로, 엔티티 매핑이 끝난 뒤 스케줄러와 웹 서버가 시작되기 전에 migration을 적용. 기존 DB는 버전 0을
+ * 기준으로 잡아 V1부터 적용
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration.baselineOnMigrate(true).baselineVersion("0");
+    }
+
+    // 기본 전략은 JPA보다 먼저 실행되므로 아무것도 하지 않고, 아래에서 적용
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+        };
+    }
+
+    @Bean
+    public SmartInitializingSingleton flywayMigrationAfterJpa(Flyway flyway) {
+        return () -> flyway.migrate();
+    }
+}
@@ -7,7 +7,9 @@ import com.yoga.backend.common.handler.CustomAuthenticationSuccessHandler;
 import com.yoga.backend.common.filter.JWTTokenValidatorFilter;
 import com.yoga.backend.common.handler.CustomLoginFailureHandler;
 import com.yoga.backend.common.util.JwtUtil;
+import com.yoga.backend.fcm.DeviceTokenService;
 import com.yoga.backend.members.repository.UsersRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Arrays;
 import java.util.Collections;
@@ -41,8 +43,9 @@ public class ProjectSecurityConfig {
 
 
     @Bean
-    public CustomAuthenticationSuccessHandler customAuthenticationSuccessHandler() {
-        return new CustomAuthenticationSuccessHandler(jwtUtil, userRepository);
+    public CustomAuthenticationSuccessHandler customAuthenticationSuccessHandler(
+        DeviceTokenService deviceTokenService) {
+        return new CustomAuthenticationSuccessHandler(jwtUtil, userRepository, deviceTokenService);
     }
 
     @Bean
@@ -83,6 +86,7 @@ public class ProjectSecurityConfig {
                         SecurityConstants.JWT_HEADER,
                         SecurityConstants.REFRESH_TOKEN_HEADER,
                         FcmConstants.FCM_HEADER,
+                        FcmConstants.PLATFORM_HEADER,
                         "SIGNALING-API-KEY",
                         "Content-Type"
                     ));
@@ -155,12 +159,21 @@ public class ProjectSecurityConfig {
     }
 
     /**
-     * BCryptPasswordEncoder 반환
+     * 전용 스레드 풀에서 동작하는 BCryptPasswordEncoder 반환
      *
+     * @param meterRegistry     메트릭 레지스트리
+     * @param threads           해싱 스레드 수 (기본값: CPU 코어 수)
+     * @param queueCapacity     해싱 대기열 길이
+     * @param waitTimeoutMillis 해싱 최대 대기 시간. 요청 스레드가 묶이는 최대 시간이라 해싱 몇 번 분량으로 짧게 둠
      * @return PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+        @Value("${password.hash.threads:0}") int threads,
+        @Value("${password.hash.queue-capacity:16}") int queueCapacity,
+        @Value("${password.hash.wait-timeout-ms:1000}") long waitTimeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity,
+            waitTimeoutMillis, meterRegistry);
     }
 }
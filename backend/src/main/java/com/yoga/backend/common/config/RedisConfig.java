@@ -5,16 +5,26 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yoga.backend.common.serializer.LiveLectureDtoRedisSerializer;
+import com.yoga.backend.common.service.TeacherAvailabilityIndex;
+import com.yoga.backend.common.service.TokenSessionCache;
+import com.yoga.backend.livelectures.dto.LiveLectureDto;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 public class RedisConfig {
 
+    /**
+     * 타입이 정해지지 않은 값용 템플릿. 캐시마다 값 타입이 정해진 경우에는 아래처럼 타입별 직렬화 빈을 따로 등록해 사용
+     */
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -38,4 +48,28 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * 날짜별 강의 캐시 값 직렬화. 버전 바이트가 붙은 바이너리 형식
+     */
+    @Bean
+    public RedisSerializer<LiveLectureDto> liveLectureDtoRedisSerializer() {
+        return new LiveLectureDtoRedisSerializer();
+    }
+
+    /**
+     * 세션 캐시, 강사 가용 인덱스 무효화 채널 구독
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory connectionFactory, TokenSessionCache tokenSessionCache,
+        TeacherAvailabilityIndex teacherAvailabilityIndex) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenSessionCache,
+            new ChannelTopic(TokenSessionCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(teacherAvailabilityIndex,
+            new ChannelTopic(TeacherAvailabilityIndex.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
\ No newline at end of file
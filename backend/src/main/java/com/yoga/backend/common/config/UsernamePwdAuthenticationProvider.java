@@ -1,6 +1,7 @@
 package com.yoga.backend.common.config;
 
 import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.exeption.PasswordHashingBusyException;
 import com.yoga.backend.members.repository.UsersRepository;
 import com.yoga.backend.members.service.UsersService;
 import java.util.ArrayList;
@@ -9,6 +10,7 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -60,10 +62,17 @@ public class UsernamePwdAuthenticationProvider implements AuthenticationProvider
                 throw new BadCredentialsException("계정이 삭제되었습니다.");
             }
 
+            // 비밀번호 확인은 한 번만 수행
+            boolean passwordMatches;
+            try {
+                passwordMatches = passwordEncoder.matches(pwd, user.getPwd());
+            } catch (PasswordHashingBusyException e) {
+                throw new AuthenticationServiceException(e.getMessage(), e);
+            }
+
             // 탈퇴 진행 중인 사용자 확인
             if (user.getDeletedAt() != null) {
-                // 비밀번호 확인
-                if (passwordEncoder.matches(pwd, user.getPwd())) {
+                if (passwordMatches) {
                     usersService.recoverAccount(user);
 
                     user = usersRepository.findById(user.getId())
@@ -76,7 +85,7 @@ public class UsernamePwdAuthenticationProvider implements AuthenticationProvider
                 }
             }
 
-            if (passwordEncoder.matches(pwd, user.getPwd())) {
+            if (passwordMatches) {
                 log.info("사용자 인증 성공: {}", username);
                 return new UsernamePasswordAuthenticationToken(username, pwd,
                     getGrantedAuthorities(user.getRole()));
@@ -2,4 +2,5 @@ package com.yoga.backend.common.constants;
 
 public class FcmConstants {
     public static final String FCM_HEADER = "FCM-TOKEN";
+    public static final String PLATFORM_HEADER = "FCM-PLATFORM";
 }
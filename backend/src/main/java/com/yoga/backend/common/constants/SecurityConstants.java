@@ -4,5 +4,6 @@ public class SecurityConstants {
 
     public static final String JWT_HEADER = "Authorization";
     public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
+    public static final String TOKEN_CLAIMS_ATTRIBUTE = "yoga.tokenClaims";
 
 }
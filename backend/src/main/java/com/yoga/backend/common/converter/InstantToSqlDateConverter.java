@@ -4,6 +4,8 @@ import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import java.sql.Date;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 
 
 @Converter(autoApply = false)
@@ -18,4 +20,14 @@ public class InstantToSqlDateConverter implements AttributeConverter<Instant, Da
     public Instant convertToEntityAttribute(Date date) {
         return date == null ? null : Instant.ofEpochMilli(date.getTime());
     }
-}
\ No newline at end of file
+
+    /**
+     * 날짜를 DATE 컬럼과 비교할 파라미터 값으로. 컬럼을 함수로 감싸지 않고 범위 조건으로 비교할 때 사용
+     *
+     * @param date 날짜
+     * @return convertToDatabaseColumn을 거치면 같은 날짜가 되는 시각
+     */
+    public static Instant toInstant(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -20,4 +20,14 @@ public class InstantToSqlTimeConverter implements AttributeConverter<Instant, Ti
     public Instant convertToEntityAttribute(Time time) {
         return time == null ? null : time.toLocalTime().atDate(LocalDate.now()).atZone(ZoneId.systemDefault()).toInstant();
     }
+
+    /**
+     * 시각을 TIME 컬럼과 비교할 파라미터 값으로
+     *
+     * @param time 시각
+     * @return convertToDatabaseColumn을 거치면 같은 시각이 되는 값
+     */
+    public static Instant toInstant(LocalTime time) {
+        return time.atDate(LocalDate.now()).atZone(ZoneId.systemDefault()).toInstant();
+    }
 }
@@ -0,0 +1,38 @@
+package com.yoga.backend.common.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 기기별 FCM 토큰 엔티티 클래스. 한 사용자가 여러 기기에서 알림을 받을 수 있도록 토큰마다 한 행
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "device_token", indexes = {
+    @Index(name = "idx_device_token_user", columnList = "user_id")
+})
+public class DeviceToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 토큰 ID (Primary Key)
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private Users user; // 토큰 소유 사용자
+
+    @Column(length = 512, nullable = false, unique = true)
+    private String token; // FCM 토큰
+
+    @Column(length = 20, nullable = false)
+    private String platform; // 기기 종류 (ANDROID, IOS, WEB, UNKNOWN)
+
+    @Column(nullable = false)
+    private Instant lastSeenAt; // 마지막으로 토큰이 확인된 시각
+
+    @Column(nullable = false)
+    private Instant createdAt; // 등록 시각
+}
@@ -0,0 +1,22 @@
+package com.yoga.backend.common.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 스케줄 작업별로 DB에 쓴 가장 큰 fencing 토큰. 더 작은 토큰을 가진 이전 임대 보유자의 쓰기를 거부하는 데 사용
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "job_fence")
+public class JobFence {
+
+    @Id
+    @Column(name = "fence_name", length = 100)
+    private String fenceName; // 보호하는 쓰기 대상 이름 (Primary Key)
+
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken; // 마지막으로 쓴 임대의 토큰
+}
@@ -0,0 +1,57 @@
+package com.yoga.backend.common.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 수강 내역 엔티티 클래스. 끝난 강의 회차를 사용자별로 한 행씩 기록하며, 기록한 뒤에는 수정하지 않음
+ * <p>
+ * 강의 제목은 기록 시점 값을 저장하고, 강사 닉네임과 프로필 이미지는 조회 시 강사 정보에서 가져옴
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "lecture_history", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_lecture_history_user_live_date", columnNames = {"user_id",
+        "live_id", "lecture_date"})
+}, indexes = {
+    @Index(name = "idx_lecture_history_user_date", columnList = "user_id, lecture_date, start_time, live_id")
+})
+public class LectureHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 내역 ID (Primary Key)
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId; // 내역 소유 사용자 (강사 또는 학생)
+
+    @Column(name = "live_id", nullable = false)
+    private Long liveId; // 강의 ID
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "teacher_id", nullable = false)
+    private Users teacher; // 강의한 강사
+
+    @Column(nullable = false)
+    private Boolean teaching; // 내가 강의한 회차인지
+
+    @Column(name = "lecture_date", nullable = false)
+    private LocalDate lectureDate; // 강의 날짜 (한국 기준)
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime; // 시작 시간 (한국 기준)
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime; // 종료 시간
+
+    @Column(length = 30, nullable = false)
+    private String liveTitle; // 기록 시점의 강의 제목
+
+    @Column(nullable = false)
+    private Instant frozenAt; // 기록 시각
+}
@@ -0,0 +1,25 @@
+package com.yoga.backend.common.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 사용자별 수강 내역 기록 위치. 이 날짜까지의 회차는 lecture_history에 모두 기록됨
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "lecture_history_watermark", indexes = {
+    @Index(name = "idx_lecture_history_watermark_through", columnList = "frozen_through")
+})
+public class LectureHistoryWatermark {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId; // 사용자 ID (Primary Key)
+
+    @Column(name = "frozen_through", nullable = false)
+    private LocalDate frozenThrough; // 기록을 마친 마지막 날짜
+}
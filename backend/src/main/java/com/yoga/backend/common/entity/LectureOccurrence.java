@@ -0,0 +1,45 @@
+package com.yoga.backend.common.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 강의 회차 엔티티 클래스. 반복 강의를 날짜별로 펼쳐 저장해 날짜/시간 범위 조회를 인덱스로 처리
+ * <p>
+ * 어제부터 일정 기간까지만 유지하며, 강의 생성/수정/삭제 시 함께 갱신
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "lecture_occurrence", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_lecture_occurrence_live_date", columnNames = {"live_id",
+        "lecture_date"})
+}, indexes = {
+    @Index(name = "idx_lecture_occurrence_date_start", columnList = "lecture_date, start_time, live_id"),
+    @Index(name = "idx_lecture_occurrence_teacher_date", columnList = "teacher_id, lecture_date, start_time, live_id")
+})
+public class LectureOccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 회차 ID (Primary Key)
+
+    @Column(name = "live_id", nullable = false)
+    private Long liveId; // 강의 ID
+
+    @Column(name = "teacher_id", nullable = false)
+    private Integer teacherId; // 강사 ID
+
+    @Column(name = "lecture_date", nullable = false)
+    private LocalDate lectureDate; // 강의 날짜 (한국 기준)
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime; // 시작 시간 (한국 기준)
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime; // 종료 시간. 시작 시간보다 이르면 다음날 종료
+
+}
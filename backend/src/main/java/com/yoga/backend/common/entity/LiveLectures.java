@@ -3,8 +3,11 @@ package com.yoga.backend.common.entity;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.yoga.backend.common.converter.InstantToSqlDateConverter;
 import com.yoga.backend.common.converter.InstantToSqlTimeConverter;
+import com.yoga.backend.common.util.DayMask;
 import jakarta.persistence.*;
+import java.time.DayOfWeek;
 import java.time.Instant;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -54,10 +57,28 @@ public class LiveLectures {
     @JoinColumn(name = "user_id")
     private Users user; // 강사 ID (Foreign Key)
 
-    @Column(length = 100, nullable = false)
-    private String availableDay; // 가능한 강의 요일
+    @Column(name = "available_day_mask", nullable = false, columnDefinition = "TINYINT UNSIGNED")
+    private int availableDayMask; // 가능한 강의 요일 비트 (DayMask, 월=1 ... 일=64)
 
     @Column(nullable = false)
     private Boolean isOnAir = false; // 강의 오픈 여부
 
+    @Setter(AccessLevel.NONE)
+    @Column(nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer reservedSeats = 0; // 예약 중인 좌석 수 (LectureSeatService의 조건부 UPDATE로만 변경)
+
+    /**
+     * 해당 요일에 강의가 있는지 확인
+     */
+    public boolean runsOn(DayOfWeek dayOfWeek) {
+        return DayMask.contains(availableDayMask, dayOfWeek);
+    }
+
+    /**
+     * 주어진 요일 비트 중 하나라도 강의가 있는지 확인
+     */
+    public boolean runsOnAny(int days) {
+        return DayMask.intersects(availableDayMask, days);
+    }
+
 }
@@ -0,0 +1,65 @@
+package com.yoga.backend.common.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 알림 outbox 엔티티 클래스. 강의 변경과 같은 트랜잭션에서 저장하고, 커밋 후 릴레이가 처리
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_outbox_status_next_attempt", columnList = "status, nextAttemptAt")
+})
+public class NotificationOutbox {
+
+    public enum EventType {
+        LECTURE_CREATED, // 강의 생성
+        LECTURE_UPDATED, // 강의 수정
+        LECTURE_DELETED // 강의 삭제
+    }
+
+    public enum Status {
+        PENDING, // 처리 대기
+        DONE, // 처리 완료
+        FAILED // 재시도 횟수 초과
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // outbox ID (Primary Key)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30, nullable = false)
+    private EventType eventType; // 이벤트 종류
+
+    @Column(nullable = false)
+    private Long liveId; // 강의 ID
+
+    @Column(length = 30)
+    private String liveTitle; // 강의 제목 (삭제 알림용)
+
+    @Column(columnDefinition = "TEXT")
+    private String recipientUserIds; // 알림 받을 사용자 ID, 쉼표로 구분 (삭제 알림용)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private Status status = Status.PENDING; // 처리 상태
+
+    @Column(nullable = false)
+    private int attempts; // 처리 시도 횟수
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt; // 다음 처리 가능 시각. 처리 중에는 점유 만료 시각
+
+    @Column(length = 500)
+    private String lastError; // 마지막 실패 사유
+
+    @Column(nullable = false)
+    private Instant createdAt; // 생성 시각
+
+    private Instant processedAt; // 처리 완료 시각
+}
@@ -85,7 +85,7 @@ public class Users {// 여러 사용자나 프로세스가 동시에 같은 회
     private Boolean isDeleted = false;
 
     @Column(length = 512)
-    private String fcmToken;
+    private String fcmToken; // 이전 단일 기기 토큰. V4 마이그레이션에서 device_token 테이블로 옮기고 비움
 
     public int getId() {
         return id;
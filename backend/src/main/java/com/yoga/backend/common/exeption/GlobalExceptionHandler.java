@@ -19,4 +19,16 @@ public class GlobalExceptionHandler {
         response.put("data", new Object[]{});
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, Object>> handlePasswordHashingBusyException(
+        PasswordHashingBusyException e) {
+        Map<String, Object> response = new HashMap<>();
+
+        response.put("message", e.getMessage());
+        response.put("data", new Object[]{});
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header("Retry-After", "1")
+            .body(response);
+    }
 }
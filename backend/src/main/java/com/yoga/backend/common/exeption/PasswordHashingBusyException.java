@@ -0,0 +1,15 @@
+package com.yoga.backend.common.exeption;
+
+/**
+ * 비밀번호 해싱 대기열이 가득 찼을 때 발생
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
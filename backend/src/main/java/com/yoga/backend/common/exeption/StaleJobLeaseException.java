@@ -0,0 +1,11 @@
+package com.yoga.backend.common.exeption;
+
+/**
+ * 임대를 잃은 스케줄 작업이 DB에 쓰려고 할 때 발생. 쓰기 트랜잭션은 롤백됨
+ */
+public class StaleJobLeaseException extends RuntimeException {
+
+    public StaleJobLeaseException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yoga.backend.common.constants.SecurityConstants;
 import com.yoga.backend.common.entity.Users;
 import com.yoga.backend.common.util.JwtUtil;
+import com.yoga.backend.common.util.TokenClaims;
 import com.yoga.backend.members.repository.UsersRepository;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -19,7 +20,6 @@ import java.util.Map;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -47,15 +47,28 @@ public class JWTTokenValidatorFilter extends OncePerRequestFilter {
         if (null != jwt && jwt.startsWith("Bearer ")) {
             jwt = jwtUtil.extractToken(jwt);
             try {
-                JwtUtil.TokenStatus tokenStatus = jwtUtil.isTokenValid(jwt);
+                // 서명 검증은 요청당 한 번만 수행
+                TokenClaims tokenClaims = null;
+                JwtUtil.TokenStatus tokenStatus;
+                try {
+                    tokenClaims = jwtUtil.parseAccessToken(jwt);
+                    tokenStatus = jwtUtil.isTokenValid(tokenClaims);
+                } catch (ExpiredJwtException e) {
+                    tokenStatus = JwtUtil.TokenStatus.EXPIRED;
+                } catch (JwtException | IllegalArgumentException e) {
+                    tokenStatus = JwtUtil.TokenStatus.INVALID;
+                }
                 log.info("토큰 검증 결과: {}", tokenStatus);
                 switch (tokenStatus) {
                     case VALID:
-                        String email = jwtUtil.getEmailFromToken(jwt);
-                        String role = jwtUtil.getRoleFromToken(jwt);
-                        Authentication auth = new UsernamePasswordAuthenticationToken(email, null,
+                        String email = tokenClaims.getEmail();
+                        String role = tokenClaims.getRole();
+                        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                            email, null,
                             AuthorityUtils.createAuthorityList("ROLE_" + role.toUpperCase()));
+                        auth.setDetails(tokenClaims);
                         SecurityContextHolder.getContext().setAuthentication(auth);
+                        request.setAttribute(SecurityConstants.TOKEN_CLAIMS_ATTRIBUTE, tokenClaims);
                         log.info("유효한 토큰으로 인증 성공: {}", email);
                         filterChain.doFilter(request, response);
                         break;
@@ -95,23 +108,29 @@ public class JWTTokenValidatorFilter extends OncePerRequestFilter {
             try {
                 Claims refreshClaims = jwtUtil.validateToken(refreshToken);
 
-                String email = (String) refreshClaims.get("email");
-
-                Optional<Users> userOptional = usersRepository.findByEmail(email);
-
-                if (userOptional.isPresent()) {
-                    Users user = userOptional.get();
-                    String role = user.getRole(); // 사용자의 역할을 가져옴
+                String email = refreshClaims.get("email", String.class);
+                Integer userId = refreshClaims.get("userId", Integer.class);
+                // 로그인할 때 redis에 기록한 역할로 DB 조회 없이 재발급. 탈퇴하면 기록이 지워짐
+                String role = userId != null ? jwtUtil.findAccountRole(userId) : null;
+                if (role == null) {
+                    // 기록이 없으면(탈퇴, 이전 토큰) DB에서 탈퇴 여부와 역할 확인
+                    Optional<Users> userOptional = userId != null
+                        ? usersRepository.findByIdAndIsDeletedFalse(userId)
+                        : usersRepository.findByEmailAndIsDeletedFalse(email);
+                    if (userOptional.isEmpty()) {
+                        sendUnauthorizedResponse(response, "사용자를 찾을 수 없습니다.");
+                        return;
+                    }
+                    userId = userOptional.get().getId();
+                    role = userOptional.get().getRole();
+                }
 
-                    String newAccessToken = jwtUtil.generateAccessToken(email, role);
+                String newAccessToken = jwtUtil.generateAccessToken(email, userId, role);
 
-                    log.info("리프레시 토큰으로 새 액세스 토큰 생성 성공: {}", email);
-                    response.setStatus(HttpServletResponse.SC_CREATED);
-                    response.setHeader(SecurityConstants.JWT_HEADER, newAccessToken);
-                    response.getWriter().flush();
-                } else {
-                    sendUnauthorizedResponse(response, "사용자를 찾을 수 없습니다.");
-                }
+                log.info("리프레시 토큰으로 새 액세스 토큰 생성 성공: {}", email);
+                response.setStatus(HttpServletResponse.SC_CREATED);
+                response.setHeader(SecurityConstants.JWT_HEADER, newAccessToken);
+                response.getWriter().flush();
 
             } catch (ExpiredJwtException e) {
                 log.warn("만료된 리프레시 토큰 감지: {}", e.getMessage());
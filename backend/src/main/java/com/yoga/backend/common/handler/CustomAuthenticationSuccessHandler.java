@@ -1,16 +1,17 @@
 package com.yoga.backend.common.handler;
 
 import com.google.gson.Gson;
+import com.yoga.backend.common.constants.FcmConstants;
 import com.yoga.backend.common.constants.SecurityConstants;
 import com.yoga.backend.common.entity.Users;
 import com.yoga.backend.common.util.JwtUtil;
+import com.yoga.backend.fcm.DeviceTokenService;
 import com.yoga.backend.members.repository.UsersRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -27,17 +28,20 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
 
     private final JwtUtil jwtUtil;
     private final UsersRepository usersRepository;
+    private final DeviceTokenService deviceTokenService;
 
-    public CustomAuthenticationSuccessHandler(JwtUtil jwtUtil, UsersRepository usersRepository) {
+    public CustomAuthenticationSuccessHandler(JwtUtil jwtUtil, UsersRepository usersRepository,
+        DeviceTokenService deviceTokenService) {
         this.jwtUtil = jwtUtil;
         this.usersRepository = usersRepository;
+        this.deviceTokenService = deviceTokenService;
     }
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
         Authentication authentication) throws IOException {
 
-        String fcmToken = request.getHeader("FCM-TOKEN");
+        String fcmToken = request.getHeader(FcmConstants.FCM_HEADER);
         String email = authentication.getName();
         log.info("사용자 인증 성공: {}", email);
 
@@ -47,16 +51,16 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
             .orElse("");
 
         jwtUtil.invalidateToken(email);
-        Optional<Users> users = usersRepository.findByEmail(email);
-        if (users.isPresent() && fcmToken != null && !fcmToken.isEmpty()) {
-            Users user = users.get();
-            user.setFcmToken(fcmToken);
-            usersRepository.save(user);
+        Users user = usersRepository.findByEmail(email)
+            .orElseThrow(() -> new IllegalStateException("인증된 사용자를 찾을 수 없음: " + email));
+        if (fcmToken != null && !fcmToken.isEmpty()) {
+            deviceTokenService.register(user.getId(), fcmToken,
+                request.getHeader(FcmConstants.PLATFORM_HEADER));
         }
 
         log.info("JWT 토큰 생성 완료: {}", email);
-        String accessToken = jwtUtil.generateAccessToken(email, role);
-        String refreshToken = jwtUtil.generateRefreshToken(email);
+        String accessToken = jwtUtil.generateAccessToken(email, user.getId(), role);
+        String refreshToken = jwtUtil.generateRefreshToken(email, user.getId(), role);
 
         response.setHeader(SecurityConstants.JWT_HEADER, accessToken);
         response.setHeader(SecurityConstants.REFRESH_TOKEN_HEADER, refreshToken);
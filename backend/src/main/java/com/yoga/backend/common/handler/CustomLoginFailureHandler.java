@@ -1,6 +1,7 @@
 package com.yoga.backend.common.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoga.backend.common.exeption.PasswordHashingBusyException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -22,9 +23,21 @@ public class CustomLoginFailureHandler implements AuthenticationFailureHandler {
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
         AuthenticationException exception) throws IOException {
+        Map<String, Object> data = new HashMap<>();
+
+        // 비밀번호 해싱 대기열 초과는 인증 실패가 아닌 일시적 과부하
+        if (exception.getCause() instanceof PasswordHashingBusyException) {
+            log.warn("로그인 요청 과부하: {}", exception.getMessage());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            data.put("message", exception.getMessage());
+            data.put("data", new Object[]{});
+            response.getWriter().write(objectMapper.writeValueAsString(data));
+            return;
+        }
+
         response.setStatus(HttpStatus.UNAUTHORIZED.value());
 
-        Map<String, Object> data = new HashMap<>();
         log.warn("로그인 실패: {}", exception.getMessage());
         data.put("message", "로그인 실패: " + exception.getMessage());
         data.put("data", new Object[]{});
@@ -0,0 +1,31 @@
+package com.yoga.backend.common.repository;
+
+import com.yoga.backend.common.entity.JobFence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 스케줄 작업 fencing 토큰 리포지토리 인터페이스
+ */
+public interface JobFenceRepository extends JpaRepository<JobFence, String> {
+
+    /**
+     * 처음 쓰는 대상이면 토큰 0으로 행 생성
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_fence (fence_name, fencing_token) VALUES (:fenceName, 0)",
+        nativeQuery = true)
+    int ensure(@Param("fenceName") String fenceName);
+
+    /**
+     * 토큰이 기록된 값 이상일 때만 기록. 행 잠금은 트랜잭션이 끝날 때까지 유지되어 같은 대상의 쓰기가 토큰 순으로 직렬화됨
+     *
+     * @return 기록했으면 1, 더 큰 토큰이 이미 기록됐으면 0
+     */
+    @Modifying
+    @Query("UPDATE JobFence f SET f.fencingToken = :token "
+        + "WHERE f.fenceName = :fenceName AND f.fencingToken <= :token")
+    int advance(@Param("fenceName") String fenceName, @Param("token") long token);
+}
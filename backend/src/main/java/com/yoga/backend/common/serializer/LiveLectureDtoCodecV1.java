@@ -0,0 +1,120 @@
+package com.yoga.backend.common.serializer;
+
+import com.yoga.backend.livelectures.dto.LiveLectureDto;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * LiveLectureDto 바이너리 형식 1
+ * <p>
+ * null이 아닌 필드 비트(2byte), 필드 값 순서대로. 시간은 epoch ms로 저장
+ */
+public class LiveLectureDtoCodecV1 implements RedisValueCodec<LiveLectureDto> {
+
+    static final byte VERSION = 1;
+
+    private static final int LIVE_ID = 1;
+    private static final int LIVE_TITLE = 1 << 1;
+    private static final int LIVE_CONTENT = 1 << 2;
+    private static final int START_DATE = 1 << 3;
+    private static final int END_DATE = 1 << 4;
+    private static final int START_TIME = 1 << 5;
+    private static final int END_TIME = 1 << 6;
+    private static final int MAX_LIVE_NUM = 1 << 7;
+    private static final int AVAILABLE_DAY = 1 << 8;
+    private static final int REG_DATE = 1 << 9;
+    private static final int USER_ID = 1 << 10;
+
+    @Override
+    public byte version() {
+        return VERSION;
+    }
+
+    @Override
+    public void write(LiveLectureDto dto, DataOutput out) throws IOException {
+        int present = flag(dto.getLiveId(), LIVE_ID) | flag(dto.getLiveTitle(), LIVE_TITLE)
+            | flag(dto.getLiveContent(), LIVE_CONTENT) | flag(dto.getStartDate(), START_DATE)
+            | flag(dto.getEndDate(), END_DATE) | flag(dto.getStartTime(), START_TIME)
+            | flag(dto.getEndTime(), END_TIME) | flag(dto.getMaxLiveNum(), MAX_LIVE_NUM)
+            | flag(dto.getAvailableDay(), AVAILABLE_DAY) | flag(dto.getRegDate(), REG_DATE)
+            | flag(dto.getUserId(), USER_ID);
+
+        out.writeShort(present);
+        if (dto.getLiveId() != null) {
+            out.writeLong(dto.getLiveId());
+        }
+        writeString(out, dto.getLiveTitle());
+        writeString(out, dto.getLiveContent());
+        writeInstant(out, dto.getStartDate());
+        writeInstant(out, dto.getEndDate());
+        writeInstant(out, dto.getStartTime());
+        writeInstant(out, dto.getEndTime());
+        if (dto.getMaxLiveNum() != null) {
+            out.writeInt(dto.getMaxLiveNum());
+        }
+        writeString(out, dto.getAvailableDay());
+        writeInstant(out, dto.getRegDate());
+        if (dto.getUserId() != null) {
+            out.writeInt(dto.getUserId());
+        }
+    }
+
+    @Override
+    public LiveLectureDto read(DataInput in) throws IOException {
+        int present = in.readUnsignedShort();
+
+        LiveLectureDto dto = new LiveLectureDto();
+        if ((present & LIVE_ID) != 0) {
+            dto.setLiveId(in.readLong());
+        }
+        if ((present & LIVE_TITLE) != 0) {
+            dto.setLiveTitle(in.readUTF());
+        }
+        if ((present & LIVE_CONTENT) != 0) {
+            dto.setLiveContent(in.readUTF());
+        }
+        if ((present & START_DATE) != 0) {
+            dto.setStartDate(Instant.ofEpochMilli(in.readLong()));
+        }
+        if ((present & END_DATE) != 0) {
+            dto.setEndDate(Instant.ofEpochMilli(in.readLong()));
+        }
+        if ((present & START_TIME) != 0) {
+            dto.setStartTime(Instant.ofEpochMilli(in.readLong()));
+        }
+        if ((present & END_TIME) != 0) {
+            dto.setEndTime(Instant.ofEpochMilli(in.readLong()));
+        }
+        if ((present & MAX_LIVE_NUM) != 0) {
+            dto.setMaxLiveNum(in.readInt());
+        }
+        if ((present & AVAILABLE_DAY) != 0) {
+            dto.setAvailableDay(in.readUTF());
+        }
+        if ((present & REG_DATE) != 0) {
+            dto.setRegDate(Instant.ofEpochMilli(in.readLong()));
+        }
+        if ((present & USER_ID) != 0) {
+            dto.setUserId(in.readInt());
+        }
+        return dto;
+    }
+
+    private static int flag(Object value, int bit) {
+        return value != null ? bit : 0;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void writeInstant(DataOutput out, Instant value) throws IOException {
+        if (value != null) {
+            out.writeLong(value.toEpochMilli());
+        }
+    }
+}
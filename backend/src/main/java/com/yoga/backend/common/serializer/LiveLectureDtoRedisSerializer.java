@@ -0,0 +1,15 @@
+package com.yoga.backend.common.serializer;
+
+import com.yoga.backend.livelectures.dto.LiveLectureDto;
+
+/**
+ * 날짜별 강의 캐시({@code yoga:lectures:*})의 LiveLectureDto 직렬화. JSON 대신 고정 순서의 바이너리로 저장해 크기와 변환 비용을 줄임
+ * <p>
+ * 형식을 바꿀 때는 새 버전 codec을 현재 codec으로 두고 {@link LiveLectureDtoCodecV1}은 이전 codec으로 넘김
+ */
+public class LiveLectureDtoRedisSerializer extends VersionedRedisSerializer<LiveLectureDto> {
+
+    public LiveLectureDtoRedisSerializer() {
+        super(new LiveLectureDtoCodecV1());
+    }
+}
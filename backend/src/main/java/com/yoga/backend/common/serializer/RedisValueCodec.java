@@ -0,0 +1,24 @@
+package com.yoga.backend.common.serializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 한 버전의 redis 값 형식. {@link VersionedRedisSerializer}가 버전 바이트를 붙이고, 본문 읽기/쓰기만 담당
+ * <p>
+ * 형식을 바꿀 때는 기존 codec을 고치지 않고 버전을 올린 codec을 추가해, 배포 중에 남아 있는 이전 값도 읽을 수 있게 함
+ *
+ * @param <T> 값 타입
+ */
+public interface RedisValueCodec<T> {
+
+    /**
+     * 값 앞에 붙는 형식 버전. 1~127. JSON 값의 첫 글자('{', '[', '"')와 겹치지 않게 1부터 순서대로 사용
+     */
+    byte version();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+}
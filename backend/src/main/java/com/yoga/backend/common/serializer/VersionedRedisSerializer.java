@@ -0,0 +1,82 @@
+package com.yoga.backend.common.serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 버전 바이트 + {@link RedisValueCodec} 본문으로 저장하는 redis 직렬화
+ * <p>
+ * 쓰기는 현재 codec으로만 하고, 읽기는 첫 바이트의 버전에 맞는 codec으로 함. 등록되지 않은 버전이나 이전 JSON 값은 null로 읽어 캐시
+ * 미스로 처리
+ *
+ * @param <T> 값 타입
+ */
+public class VersionedRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final RedisValueCodec<T> current;
+    private final RedisValueCodec<T>[] readers;
+
+    /**
+     * @param current  값을 쓸 codec
+     * @param previous 읽기만 지원할 이전 버전 codec
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public VersionedRedisSerializer(RedisValueCodec<T> current, RedisValueCodec<T>... previous) {
+        this.current = current;
+        this.readers = new RedisValueCodec[Byte.MAX_VALUE + 1];
+        register(current);
+        for (RedisValueCodec<T> codec : previous) {
+            register(codec);
+        }
+    }
+
+    private void register(RedisValueCodec<T> codec) {
+        byte version = codec.version();
+        if (version <= 0) {
+            throw new IllegalArgumentException("codec 버전은 1 이상이어야 합니다: " + version);
+        }
+        if (readers[version] != null) {
+            throw new IllegalArgumentException("같은 버전의 codec이 이미 있습니다: " + version);
+        }
+        readers[version] = codec;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(current.version());
+            current.write(value, out);
+        } catch (IOException e) {
+            throw new SerializationException("redis 값 직렬화 실패: " + value.getClass().getName(),
+                e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0 || bytes[0] <= 0) {
+            return null;
+        }
+        RedisValueCodec<T> codec = readers[bytes[0]];
+        if (codec == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(
+            new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            return codec.read(in);
+        } catch (IOException e) {
+            throw new SerializationException("redis 값 역직렬화 실패, 버전: " + bytes[0], e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.yoga.backend.common.service;
+
+import com.yoga.backend.common.exeption.StaleJobLeaseException;
+import com.yoga.backend.common.repository.JobFenceRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스케줄 작업 쓰기의 fencing 확인
+ * <p>
+ * 작업은 쓰기 트랜잭션마다 {@link ScheduledJobLock}이 발급한 토큰으로 먼저 확인. 더 최근 임대를 얻은 서버가 같은 대상에 이미 썼으면 예외를
+ * 던져 트랜잭션을 롤백하므로, 오래 멈췄다 깨어난 이전 보유자는 아무것도 쓰지 못함
+ */
+@Service
+public class ScheduledJobFence {
+
+    private final JobFenceRepository jobFenceRepository;
+
+    public ScheduledJobFence(JobFenceRepository jobFenceRepository) {
+        this.jobFenceRepository = jobFenceRepository;
+    }
+
+    /**
+     * 현재 트랜잭션의 쓰기가 가장 최근 임대의 쓰기인지 확인 (호출한 트랜잭션에 참여)
+     *
+     * @param fenceName    보호하는 쓰기 대상 이름
+     * @param fencingToken 임대의 fencing 토큰
+     * @throws StaleJobLeaseException 더 최근 임대가 이미 쓴 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void check(String fenceName, long fencingToken) {
+        jobFenceRepository.ensure(fenceName);
+        if (jobFenceRepository.advance(fenceName, fencingToken) == 0) {
+            throw new StaleJobLeaseException("임대를 잃은 작업의 쓰기 거부 - 대상: " + fenceName);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.yoga.backend.common.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 여러 서버 중 한 곳에서만 스케줄 작업을 실행하기 위한 redis 임대(lease) 락
+ * <p>
+ * SET NX PX로 임대를 얻고, 작업 중에는 주기적으로 연장. 서버가 죽으면 임대가 만료되어 다른 서버가 이어받음. 임대마다 단조 증가하는
+ * fencing 토큰을 발급하며, DB에 쓰는 작업은 {@link ScheduledJobFence}로 토큰을 확인해 임대를 잃은 이전 보유자의 쓰기를 거부
+ */
+@Slf4j
+@Service
+public class ScheduledJobLock implements DisposableBean {
+
+    private static final String LOCK_KEY_PREFIX = "yoga:lock:";
+    private static final String FENCE_KEY = "yoga:lock-fence";
+
+    // 임대를 얻으면 fencing 토큰 발급, 얻지 못하면 0. 토큰은 redis 서버 시각(마이크로초)과 직전 토큰 + 1 중 큰 값이라 모든 작업에서
+    // 단조 증가하고, fence 키가 사라져도 DB에 남은 이전 토큰보다 작아지지 않음
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+        "if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 0 end "
+            + "local time = redis.call('TIME') "
+            + "local token = tonumber(time[1]) * 1000000 + tonumber(time[2]) "
+            + "local last = tonumber(redis.call('GET', KEYS[2]) or '0') "
+            + "if token <= last then token = last + 1 end "
+            + "redis.call('SET', KEYS[2], string.format('%.0f', token)) "
+            + "return token", Long.class);
+
+    // 내가 가진 임대일 때만 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    // 내가 가진 임대일 때만 해제. 남은 최소 보유 시간이 있으면 그만큼만 유지
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+            + "if tonumber(ARGV[2]) > 0 then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+            + "return redis.call('DEL', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId;
+    private final ScheduledExecutorService renewer;
+
+    public ScheduledJobLock(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+        this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lock-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 임대를 얻은 경우에만 작업 실행
+     *
+     * @param jobName 작업 이름
+     * @param lease   임대 기간. 작업 중에는 1/3 주기로 연장
+     * @param minHold 작업이 빨리 끝나도 임대를 유지할 최소 시간. 서버 간 시계 차이로 같은 cron이 두 번 실행되는 것을 막음
+     * @param task    fencing 토큰을 받아 실행할 작업
+     * @return 실행 여부. 다른 서버가 실행 중이거나 redis에 접근할 수 없으면 false
+     */
+    public boolean runExclusively(String jobName, Duration lease, Duration minHold,
+        LongConsumer task) {
+        String lockKey = LOCK_KEY_PREFIX + jobName;
+        // 같은 서버가 다시 얻은 임대와 구분되도록 임대마다 값을 새로 만듦
+        String owner = nodeId + ":" + UUID.randomUUID();
+        Long fencingToken;
+        try {
+            fencingToken = stringRedisTemplate.execute(ACQUIRE_SCRIPT,
+                Arrays.asList(lockKey, FENCE_KEY), owner, String.valueOf(lease.toMillis()));
+        } catch (Exception e) {
+            // redis 장애로 임대를 확인할 수 없으면 이번 실행은 건너뜀. 호출한 스케줄러나 이벤트 리스너로 예외를 넘기지 않음
+            log.error("작업 임대 획득 실패, 실행 생략 - 작업: {}", jobName, e);
+            return false;
+        }
+        if (fencingToken == null || fencingToken == 0) {
+            log.debug("다른 서버가 작업 실행 중 - 작업: {}", jobName);
+            return false;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long renewPeriod = Math.max(1, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(
+            () -> renew(lockKey, owner, lease), renewPeriod, renewPeriod, TimeUnit.MILLISECONDS);
+        try {
+            task.accept(fencingToken);
+            return true;
+        } finally {
+            renewal.cancel(false);
+            long remainingHold = minHold.toMillis() - (System.currentTimeMillis() - startedAt);
+            release(lockKey, owner, Math.max(0, remainingHold));
+        }
+    }
+
+    /**
+     * 임대를 얻은 경우에만 작업 실행. DB에 쓰지 않거나 쓰기가 멱등인 작업용
+     *
+     * @param jobName 작업 이름
+     * @param lease   임대 기간
+     * @param minHold 최소 보유 시간
+     * @param task    실행할 작업
+     * @return 실행 여부
+     */
+    public boolean runExclusively(String jobName, Duration lease, Duration minHold,
+        Runnable task) {
+        return runExclusively(jobName, lease, minHold, fencingToken -> task.run());
+    }
+
+    private void renew(String lockKey, String owner, Duration lease) {
+        try {
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT,
+                Collections.singletonList(lockKey), owner, String.valueOf(lease.toMillis()));
+            if (renewed == null || renewed == 0) {
+                log.warn("작업 임대를 잃음 - 키: {}", lockKey);
+            }
+        } catch (Exception e) {
+            log.warn("작업 임대 연장 실패 - 키: {}", lockKey, e);
+        }
+    }
+
+    private void release(String lockKey, String owner, long remainingHoldMillis) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(lockKey), owner,
+                String.valueOf(remainingHoldMillis));
+        } catch (Exception e) {
+            log.warn("작업 임대 해제 실패 - 키: {}", lockKey, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        renewer.shutdownNow();
+    }
+}
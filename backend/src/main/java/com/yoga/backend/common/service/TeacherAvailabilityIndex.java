@@ -0,0 +1,357 @@
+package com.yoga.backend.common.service;
+
+import com.yoga.backend.common.converter.InstantToSqlDateConverter;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.common.util.LectureRecurrence;
+import com.yoga.backend.teacher.repository.TeacherRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 강사 필터를 위한 강의 가용 인덱스
+ * <p>
+ * 끝나지 않았고 남은 좌석이 있는 강의를 종료 날짜 내림차순 배열로 들고, 요일 비트별, 1:1/1:다별 BitSet을 만들어 둠. 필터는 BitSet 교집합과
+ * 종료 날짜 구간 자르기로 후보를 고른 뒤 시간대만 비교
+ * <p>
+ * 예약으로 강의가 마감되면 pub/sub으로 모든 노드에 알려 인덱스에서 그 강의만 제외. 강의 생성/수정/삭제와 좌석 재계산은 pub/sub으로 모든
+ * 노드의 인덱스를 낡은 것으로 표시하고 다음 조회에서 다시 만듦
+ */
+@Slf4j
+@Component
+public class TeacherAvailabilityIndex implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "yoga:teacher-availability:invalidate";
+    // 마감된 강의 알림 메시지 접두사. 그 외 메시지는 전체 무효화
+    private static final String CLOSED_MESSAGE_PREFIX = "closed:";
+
+    private final TeacherRepository teacherRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 무효화가 일어날 때마다 증가. 다시 만드는 중 무효화가 끼어들면 만든 인덱스를 바로 낡은 것으로 봄
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    // 마지막으로 다시 만들기 시작한 뒤 마감된 강의. 만드는 중에 온 알림도 새 인덱스에 반영하기 위해 보관
+    private final Set<Long> closedSinceBuild = ConcurrentHashMap.newKeySet();
+    // 마감 반영과 새 인덱스 교체가 서로 덮어쓰지 않도록 보호
+    private final Object patchMonitor = new Object();
+
+    public TeacherAvailabilityIndex(TeacherRepository teacherRepository,
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${teacher.availability.ttl-seconds:60}") long ttlSeconds) {
+        this.teacherRepository = teacherRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        // 무효화 메시지가 유실되어도 ttl 이후에는 다시 만듦
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 조건에 맞는 강의가 하나라도 있는 강사 ID 조회
+     *
+     * @param startTime  시간대 시작 (하루 중 밀리초)
+     * @param endTime    시간대 끝 (하루 중 밀리초)
+     * @param days       수강 가능한 요일 비트. 강의 요일이 모두 이 안에 있어야 함
+     * @param period     필터 기간 (0: 일주일 후, 1: 한 달 후, 2: 세 달 후, 3: 전체 기간)
+     * @param maxLiveNum 최대 수강자 수 (0: 1대1, 1: 1대다, 2: 전체)
+     * @return 강사 ID 목록
+     */
+    public List<Integer> findTeacherIds(long startTime, long endTime, int days, int period,
+        int maxLiveNum) {
+        Snapshot current = current();
+
+        BitSet candidates = new BitSet(current.size);
+        // 강의 요일 비트가 days의 부분집합인 강의
+        for (int mask = days & DayMask.ALL; ; mask = (mask - 1) & days) {
+            candidates.or(current.byDayMask[mask]);
+            if (mask == 0) {
+                break;
+            }
+        }
+        if (maxLiveNum == 0) {
+            candidates.and(current.single);
+        } else if (maxLiveNum == 1) {
+            candidates.and(current.group);
+        }
+        // 종료 날짜 내림차순이므로 기준 날짜 이전에 끝나는 강의는 뒤쪽 구간
+        candidates.clear(current.countEndingAfter(periodStart(period)), current.size);
+        candidates.andNot(current.closed);
+
+        BitSet teachers = new BitSet();
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (current.startMillis[i] >= startTime && current.endMillis[i] <= endTime) {
+                teachers.set(current.teacherIds[i]);
+            }
+        }
+        return teachers.stream().boxed().toList();
+    }
+
+    /**
+     * 강의, 예약 변경이 커밋된 뒤 모든 노드의 인덱스를 낡은 것으로 표시. 트랜잭션 밖이면 바로 표시
+     */
+    public void invalidateAfterCommit() {
+        runAfterCommit(this::invalidate);
+    }
+
+    /**
+     * 예약으로 남은 좌석이 없어진 강의를 커밋된 뒤 모든 노드의 인덱스에서 제외. 인덱스를 다시 만들지 않음
+     *
+     * @param liveId 마감된 강의 ID
+     */
+    public void closeAfterCommit(Long liveId) {
+        runAfterCommit(() -> close(liveId));
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+        } else {
+            action.run();
+        }
+    }
+
+    private void invalidate() {
+        invalidationSequence.incrementAndGet();
+        publish("lecture");
+    }
+
+    private void close(Long liveId) {
+        applyClosed(liveId);
+        publish(CLOSED_MESSAGE_PREFIX + liveId);
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            log.error("강사 가용 인덱스 변경 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        log.debug("강사 가용 인덱스 변경 수신: {}", body);
+        if (body.startsWith(CLOSED_MESSAGE_PREFIX)) {
+            try {
+                applyClosed(Long.valueOf(body.substring(CLOSED_MESSAGE_PREFIX.length())));
+                return;
+            } catch (NumberFormatException e) {
+                log.warn("알 수 없는 강사 가용 인덱스 메시지: {}", body);
+            }
+        }
+        invalidationSequence.incrementAndGet();
+    }
+
+    /**
+     * 현재 인덱스에서 강의를 제외. 다시 만드는 중이면 새 인덱스에도 반영되도록 기록
+     */
+    private void applyClosed(Long liveId) {
+        synchronized (patchMonitor) {
+            closedSinceBuild.add(liveId);
+            Snapshot current = snapshot;
+            if (current != null) {
+                snapshot = current.withClosed(liveId);
+            }
+        }
+    }
+
+    /**
+     * 현재 인덱스. 낡았으면 한 스레드만 다시 만들고, 그동안 다른 요청은 이전 인덱스를 사용
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && !isStale(current)) {
+            return current;
+        }
+        if (current != null && !rebuildLock.tryLock()) {
+            return current;
+        }
+        if (current == null) {
+            rebuildLock.lock();
+        }
+        try {
+            current = snapshot;
+            if (current == null || isStale(current)) {
+                current = replace(build());
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private boolean isStale(Snapshot current) {
+        return current.sequence != invalidationSequence.get()
+            || current.builtAt.plus(ttl).isBefore(Instant.now())
+            || !current.today.equals(LocalDate.now());
+    }
+
+    /**
+     * 만드는 동안 마감된 강의를 반영한 뒤 교체
+     */
+    private Snapshot replace(Snapshot built) {
+        synchronized (patchMonitor) {
+            for (Long liveId : closedSinceBuild) {
+                built = built.withClosed(liveId);
+            }
+            snapshot = built;
+            return built;
+        }
+    }
+
+    private Snapshot build() {
+        long sequence = invalidationSequence.get();
+        // 이보다 먼저 커밋된 마감은 아래 조회에 반영되어 있음
+        closedSinceBuild.clear();
+        LocalDate today = LocalDate.now();
+        // 종료 날짜 내림차순
+        List<Object[]> rows = teacherRepository.findAvailabilityRows(
+            InstantToSqlDateConverter.toInstant(today));
+        InstantToSqlDateConverter dateConverter = new InstantToSqlDateConverter();
+
+        Snapshot built = new Snapshot(rows.size(), sequence, today);
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            built.teacherIds[i] = (Integer) row[0];
+            built.byDayMask[((Integer) row[1]) & DayMask.ALL].set(i);
+            built.startMillis[i] = toMillisOfDay((Instant) row[2]);
+            built.endMillis[i] = toMillisOfDay((Instant) row[3]);
+            built.endEpochDays[i] = dateConverter.convertToDatabaseColumn((Instant) row[4])
+                .toLocalDate().toEpochDay();
+            if ((Integer) row[5] > 1) {
+                built.group.set(i);
+            } else {
+                built.single.set(i);
+            }
+            built.positions.put((Long) row[6], i);
+        }
+        log.info("강사 가용 인덱스 생성: 강의 {}개", built.size);
+        return built;
+    }
+
+    private static LocalDate periodStart(int period) {
+        LocalDate today = LocalDate.now();
+        return switch (period) {
+            case 0 -> today.plusWeeks(1);
+            case 1 -> today.plusMonths(1);
+            case 2 -> today.plusMonths(3);
+            default -> today;
+        };
+    }
+
+    private static int toMillisOfDay(Instant time) {
+        return (int) (LectureRecurrence.toLocalTime(time).toNanoOfDay() / 1_000_000);
+    }
+
+    /**
+     * 한 시점의 인덱스. 만든 뒤에는 바꾸지 않고, 마감된 강의는 closed만 바꾼 사본으로 교체
+     */
+    private static final class Snapshot {
+
+        private final int size;
+        private final long sequence;
+        private final LocalDate today;
+        private final Instant builtAt;
+        private final int[] teacherIds;
+        private final int[] startMillis;
+        private final int[] endMillis;
+        private final long[] endEpochDays; // 내림차순
+        private final BitSet[] byDayMask;
+        private final BitSet single;
+        private final BitSet group;
+        private final Map<Long, Integer> positions; // 강의 ID -> 배열 위치
+        private final BitSet closed; // 만든 뒤 마감된 강의
+
+        private Snapshot(int size, long sequence, LocalDate today) {
+            this.size = size;
+            this.sequence = sequence;
+            this.today = today;
+            this.builtAt = Instant.now();
+            this.teacherIds = new int[size];
+            this.startMillis = new int[size];
+            this.endMillis = new int[size];
+            this.endEpochDays = new long[size];
+            this.byDayMask = new BitSet[DayMask.ALL + 1];
+            for (int mask = 0; mask <= DayMask.ALL; mask++) {
+                byDayMask[mask] = new BitSet();
+            }
+            this.single = new BitSet();
+            this.group = new BitSet();
+            this.positions = new HashMap<>(Math.max(16, size * 2));
+            this.closed = new BitSet();
+        }
+
+        private Snapshot(Snapshot source, BitSet closed) {
+            this.size = source.size;
+            this.sequence = source.sequence;
+            this.today = source.today;
+            this.builtAt = source.builtAt;
+            this.teacherIds = source.teacherIds;
+            this.startMillis = source.startMillis;
+            this.endMillis = source.endMillis;
+            this.endEpochDays = source.endEpochDays;
+            this.byDayMask = source.byDayMask;
+            this.single = source.single;
+            this.group = source.group;
+            this.positions = source.positions;
+            this.closed = closed;
+        }
+
+        /**
+         * 강의를 제외한 사본. 인덱스에 없거나 이미 제외된 강의면 그대로
+         */
+        private Snapshot withClosed(Long liveId) {
+            Integer position = positions.get(liveId);
+            if (position == null || closed.get(position)) {
+                return this;
+            }
+            BitSet nextClosed = (BitSet) closed.clone();
+            nextClosed.set(position);
+            return new Snapshot(this, nextClosed);
+        }
+
+        /**
+         * 종료 날짜가 date보다 뒤인 강의 수. 배열 앞쪽 [0, n) 구간
+         */
+        private int countEndingAfter(LocalDate date) {
+            long epochDay = date.toEpochDay();
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (endEpochDays[mid] > epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
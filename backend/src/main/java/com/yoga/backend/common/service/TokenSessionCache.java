@@ -0,0 +1,132 @@
+package com.yoga.backend.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * redis 세션 조회 앞단의 로컬 캐시. 이메일별로 유효한 토큰의 해시를 보관
+ * <p>
+ * 토큰 발급, 무효화, 로그아웃 시 pub/sub 채널로 이메일을 발행하고, 모든 노드가 이를 구독해 캐시를 비움
+ */
+@Slf4j
+@Component
+public class TokenSessionCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "yoga:session:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    // 이메일 -> 유효한 토큰 해시, 또는 redis 조회 중임을 나타내는 표식
+    private final Cache<String, Entry> cache;
+
+    // 조회 표식 발급용. 이메일마다 표식을 따로 두므로 다른 사용자의 무효화는 조회 결과 저장에 영향 없음
+    private final AtomicLong lookupSequence = new AtomicLong();
+
+    public TokenSessionCache(StringRedisTemplate stringRedisTemplate,
+        @Value("${session.cache.max-size:100000}") long maxSize,
+        @Value("${session.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        // 무효화 메시지가 유실되어도 ttl 이후에는 redis를 다시 확인
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    /**
+     * 캐시된 토큰과 일치하는지 확인
+     *
+     * @param email 사용자 이메일
+     * @param token 액세스 토큰
+     * @return 캐시 적중 여부
+     */
+    public boolean matches(String email, String token) {
+        Entry entry = cache.getIfPresent(email);
+        return entry != null && entry.tokenHash != null && entry.tokenHash.equals(hash(token));
+    }
+
+    /**
+     * redis 조회 전에 호출해 이메일에 조회 표식을 남기고 그 순번을 얻음
+     *
+     * @param email 사용자 이메일
+     * @return 조회 순번
+     */
+    public long startLookup(String email) {
+        long sequence = lookupSequence.incrementAndGet();
+        cache.put(email, new Entry(sequence, null));
+        return sequence;
+    }
+
+    /**
+     * redis에서 확인한 유효 토큰을 캐시. 조회 이후 그 이메일이 무효화되었거나 다른 조회가 시작되어 표식이 바뀌었다면 저장하지 않음
+     *
+     * @param email    사용자 이메일
+     * @param token    액세스 토큰
+     * @param sequence {@link #startLookup(String)}으로 얻은 조회 순번
+     */
+    public void put(String email, String token, long sequence) {
+        Entry pending = cache.getIfPresent(email);
+        if (pending != null && pending.tokenHash == null && pending.sequence == sequence) {
+            // 그사이 표식이 지워지거나 바뀌었으면 교체하지 않음 (Entry는 동일성으로 비교)
+            cache.asMap().replace(email, pending, new Entry(sequence, hash(token)));
+        }
+    }
+
+    /**
+     * 로컬 캐시를 비우고 다른 노드에도 무효화 발행
+     *
+     * @param email 사용자 이메일
+     */
+    public void invalidate(String email) {
+        evict(email);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, email);
+        } catch (Exception e) {
+            log.error("세션 캐시 무효화 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evict(String email) {
+        cache.invalidate(email);
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                .formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없음", e);
+        }
+    }
+
+    /**
+     * 캐시 값. tokenHash가 null이면 redis 조회 중인 표식
+     */
+    private static final class Entry {
+
+        private final long sequence;
+        private final String tokenHash;
+
+        private Entry(long sequence, String tokenHash) {
+            this.sequence = sequence;
+            this.tokenHash = tokenHash;
+        }
+    }
+}
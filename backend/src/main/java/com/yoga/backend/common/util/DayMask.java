@@ -0,0 +1,105 @@
+package com.yoga.backend.common.util;
+
+import java.time.DayOfWeek;
+
+/**
+ * 요일 비트 연산. 월=1, 화=2, 수=4, ... 일=64 의 7비트로 강의 요일을 표현
+ * <p>
+ * DB의 live_lectures.available_day_mask 컬럼과 같은 값이므로 쿼리 조건에도 그대로 사용
+ */
+public final class DayMask {
+
+    public static final int NONE = 0;
+    public static final int ALL = 0x7F;
+
+    private DayMask() {
+    }
+
+    /**
+     * 요일 하나의 비트
+     */
+    public static int of(DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
+
+    /**
+     * "MON,WED,FRI" 형식의 요일 문자열을 요일 비트로
+     *
+     * @param days 요일 문자열
+     * @return 요일 비트. 알 수 없는 값은 무시
+     */
+    public static int parse(String days) {
+        if (days == null) {
+            return NONE;
+        }
+        int mask = NONE;
+        for (String day : days.split(",")) {
+            String trimmed = day.trim().toUpperCase();
+            if (trimmed.length() < 3) {
+                continue;
+            }
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                if (dayOfWeek.name().startsWith(trimmed.substring(0, 3))) {
+                    mask |= of(dayOfWeek);
+                    break;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 요일 비트를 "MON,WED,FRI" 형식으로
+     *
+     * @param mask 요일 비트
+     * @return 요일 문자열
+     */
+    public static String format(int mask) {
+        StringBuilder days = new StringBuilder();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            if (contains(mask, dayOfWeek)) {
+                if (days.length() > 0) {
+                    days.append(',');
+                }
+                days.append(abbreviation(dayOfWeek));
+            }
+        }
+        return days.toString();
+    }
+
+    /**
+     * 요일 세 글자 약어 (MON, TUE, ...)
+     */
+    public static String abbreviation(DayOfWeek dayOfWeek) {
+        return dayOfWeek.name().substring(0, 3);
+    }
+
+    public static boolean contains(int mask, DayOfWeek dayOfWeek) {
+        return (mask & of(dayOfWeek)) != 0;
+    }
+
+    /**
+     * mask의 요일이 모두 days 안에 있는지
+     */
+    public static boolean isSubsetOf(int mask, int days) {
+        return (mask & days) == mask;
+    }
+
+    public static boolean intersects(int mask, int other) {
+        return (mask & other) != 0;
+    }
+
+    /**
+     * 각 요일의 전날, 다음날까지 더한 비트. 자정을 넘기는 강의와 겹칠 수 있는 요일을 고를 때 사용
+     */
+    public static int withAdjacentDays(int mask) {
+        int days = mask & ALL;
+        int nextDays = ((days << 1) | (days >>> 6)) & ALL;
+        int previousDays = ((days >>> 1) | (days << 6)) & ALL;
+        return days | nextDays | previousDays;
+    }
+
+    public static int count(int mask) {
+        return Integer.bitCount(mask & ALL);
+    }
+}
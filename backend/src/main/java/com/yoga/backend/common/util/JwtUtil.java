@@ -2,11 +2,13 @@ package com.yoga.backend.common.util;
 
 import com.yoga.backend.common.constants.SecurityConstants;
 import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.service.TokenSessionCache;
 import com.yoga.backend.members.repository.UsersRepository;
 import io.github.cdimascio.dotenv.Dotenv;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -25,6 +27,8 @@ import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Slf4j
 @Component
@@ -37,11 +41,16 @@ public class JwtUtil {
         EXPIRED
     }
 
+    // 리프레시 토큰을 발급한 활성 계정의 역할. 리프레시할 때 DB 대신 확인
+    private static final String ACCOUNT_KEY_PREFIX = "yoga:account:";
+
     private final UsersRepository userRepository;
+    private final TokenSessionCache tokenSessionCache;
 
     @Autowired
-    public JwtUtil(UsersRepository userRepository) {
+    public JwtUtil(UsersRepository userRepository, TokenSessionCache tokenSessionCache) {
         this.userRepository = userRepository;
+        this.tokenSessionCache = tokenSessionCache;
     }
 
     @Autowired
@@ -50,6 +59,7 @@ public class JwtUtil {
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
     private SecretKey key;
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
@@ -59,6 +69,10 @@ public class JwtUtil {
             throw new IllegalStateException("JWT_SECRET가 환경 변수에 설정되지 않았음.");
         }
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        // 파서는 스레드 안전하므로 한 번만 생성해 재사용
+        this.jwtParser = Jwts.parser()
+            .verifyWith(key)
+            .build();
 
         String accessTokenExpirationStr = dotenv.get("ACCESS_TOKEN_EXPIRATION");
         if (accessTokenExpirationStr == null || accessTokenExpirationStr.isEmpty()) {
@@ -76,12 +90,16 @@ public class JwtUtil {
             this.accessTokenExpiration, this.refreshTokenExpiration);
     }
 
-    // refresh token 생성
-    public String generateRefreshToken(String email) {
+    // refresh token 생성. 토큰이 만료될 때까지 계정 역할을 redis에 기록
+    public String generateRefreshToken(String email, int userId, String role) {
+        redisTemplate.opsForValue().set(ACCOUNT_KEY_PREFIX + userId, role,
+            refreshTokenExpiration, TimeUnit.MILLISECONDS);
         return Jwts.builder()
             .issuer("Yoga Navi")
             .subject("Refresh Token")
             .claim("email", email)
+            .claim("userId", userId)
+            .claim("role", role)
             .issuedAt(new Date())
             .expiration(
                 new Date(System.currentTimeMillis() + refreshTokenExpiration))
@@ -92,11 +110,7 @@ public class JwtUtil {
     // 토큰 검증
     public Claims validateToken(String token) {
         try {
-            return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (JwtException e) {
             log.error("토큰 검증 실패: {}", e.getMessage());
             throw e;
@@ -110,19 +124,56 @@ public class JwtUtil {
         return bearerToken; // 또는 null을 반환하거나 예외를 던질 수 있습니다.
     }
 
-    // 토큰에서 이메일 추출
-    public String getEmailFromToken(String bearerToken) {
-        String token = extractToken(bearerToken);
+    /**
+     * 액세스 토큰을 한 번 검증하고 클레임을 추출
+     *
+     * @param token Bearer 접두사가 제거된 액세스 토큰
+     * @return 검증된 토큰 클레임
+     */
+    public TokenClaims parseAccessToken(String token) {
         Claims claims = validateToken(token);
-        return claims.get("email", String.class);
+        return new TokenClaims(token, claims.get("email", String.class),
+            claims.get("role", String.class), claims.get("userId", Integer.class));
+    }
+
+    /**
+     * 현재 요청에서 필터가 이미 검증한 클레임을 재사용하고, 없으면 새로 검증
+     *
+     * @param bearerToken Authorization 헤더 값
+     * @return 검증된 토큰 클레임
+     */
+    public TokenClaims resolveClaims(String bearerToken) {
+        String token = extractToken(bearerToken);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(SecurityConstants.TOKEN_CLAIMS_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof TokenClaims tokenClaims && tokenClaims.getToken().equals(token)) {
+                return tokenClaims;
+            }
+        }
+        return parseAccessToken(token);
+    }
 
+    // 토큰에서 이메일 추출
+    public String getEmailFromToken(String bearerToken) {
+        return resolveClaims(bearerToken).getEmail();
     }
 
+    /**
+     * 토큰의 userId 클레임으로 사용자 ID 조회. DB 조회 없음
+     *
+     * @param bearerToken Authorization 헤더 값
+     * @return 사용자 ID
+     */
     public int getUserIdFromToken(String bearerToken) {
-        String token = extractToken(bearerToken);
-        Claims claims = validateToken(token);
-        String email = claims.get("email", String.class);
+        TokenClaims tokenClaims = resolveClaims(bearerToken);
+        if (tokenClaims.getUserId() != null) {
+            return tokenClaims.getUserId();
+        }
 
+        // userId 클레임이 없는 이전 토큰은 이메일로 조회
+        String email = tokenClaims.getEmail();
         Optional<Users> userOptional = userRepository.findByEmail(email);
 
         if (userOptional.isPresent()) {
@@ -133,18 +184,17 @@ public class JwtUtil {
     }
 
     public String getRoleFromToken(String bearerToken) {
-        String token = extractToken(bearerToken);
-        Claims claims = validateToken(token);
-        return claims.get("role", String.class);
+        return resolveClaims(bearerToken).getRole();
     }
 
 
     //=============아래로 동시성 고려
-    public String generateAccessToken(String email, String role) {
+    public String generateAccessToken(String email, int userId, String role) {
         String token = Jwts.builder()
             .issuer("Yoga Navi")
             .subject("JWT Token")
             .claim("email", email)
+            .claim("userId", userId)
             .claim("role", role)
             .issuedAt(new Date())
             .expiration(
@@ -163,6 +213,7 @@ public class JwtUtil {
                 return operations.exec();
             }
         });
+        tokenSessionCache.invalidate(email);
 
         return token;
     }
@@ -177,16 +228,59 @@ public class JwtUtil {
                 return operations.exec();
             }
         });
+        tokenSessionCache.invalidate(email);
     }
 
 
+    /**
+     * 로그인할 때 기록한 계정 역할 조회. 기록이 없으면(탈퇴, 만료, 이전 토큰) null이므로 DB에서 확인해야 함
+     *
+     * @param userId 사용자 ID
+     * @return DB의 역할, 기록이 없으면 null
+     */
+    public String findAccountRole(int userId) {
+        return redisTemplate.opsForValue().get(ACCOUNT_KEY_PREFIX + userId);
+    }
+
+    /**
+     * 탈퇴한 계정의 세션과 역할 기록 삭제. 이후 리프레시는 DB 확인에서 거부됨
+     *
+     * @param userId 사용자 ID
+     * @param email  세션 키인 이메일
+     */
+    public void revokeAccount(int userId, String email) {
+        redisTemplate.delete(ACCOUNT_KEY_PREFIX + userId);
+        invalidateToken(email);
+    }
+
     public TokenStatus isTokenValid(String token) {
         try {
+            return isTokenValid(parseAccessToken(token));
+        } catch (ExpiredJwtException e) {
+            return TokenStatus.EXPIRED;
+        } catch (Exception e) {
+            return TokenStatus.INVALID;
+        }
+    }
+
+    /**
+     * 이미 서명 검증된 클레임으로 redis 세션만 확인
+     *
+     * @param tokenClaims 검증된 토큰 클레임
+     * @return 토큰 상태
+     */
+    public TokenStatus isTokenValid(TokenClaims tokenClaims) {
+        try {
+            String token = tokenClaims.getToken();
+            String email = tokenClaims.getEmail();
 
-            Claims claims = validateToken(token);
-            String email = claims.get("email", String.class);
+            // 로컬 캐시에 있으면 redis 조회 생략
+            if (tokenSessionCache.matches(email, token)) {
+                return TokenStatus.VALID;
+            }
+            long sequence = tokenSessionCache.startLookup(email);
 
-            return redisTemplate.execute(new SessionCallback<TokenStatus>() {
+            TokenStatus status = redisTemplate.execute(new SessionCallback<TokenStatus>() {
                 @Override
                 public TokenStatus execute(RedisOperations operations) throws DataAccessException {
                     operations.multi();
@@ -203,8 +297,11 @@ public class JwtUtil {
                     return TokenStatus.NOT_FOUND;
                 }
             });
-        } catch (ExpiredJwtException e) {
-            return TokenStatus.EXPIRED;
+
+            if (status == TokenStatus.VALID) {
+                tokenSessionCache.put(email, token, sequence);
+            }
+            return status;
         } catch (Exception e) {
             return TokenStatus.INVALID;
         }
@@ -224,6 +321,7 @@ public class JwtUtil {
                     return (Long) results.get(0);
                 }
             });
+            tokenSessionCache.invalidate(email);
 
             if (result != null && result > 0) {
                 log.info("사용자 {}가 로그아웃 됨" + email);
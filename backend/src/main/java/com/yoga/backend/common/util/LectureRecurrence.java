@@ -0,0 +1,274 @@
+package com.yoga.backend.common.util;
+
+import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.common.entity.MyLiveLecture;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 강의 반복 일정. 기간과 요일 비트({@link DayMask})로 강의가 열리는 날짜를 계산
+ * <p>
+ * 하루씩 넘기며 요일 문자열을 비교하지 않고, 요일별로 다음 강의까지 남은 일수를 미리 구해 강의 날짜만 건너뜀. 종료 시간이 시작 시간보다
+ * 이르면 자정을 넘겨 다음날 끝나는 강의로 봄
+ */
+public class LectureRecurrence {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int dayMask;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    // 요일(월=0)별로 그날 포함 다음 강의까지의 일수. 강의 요일이 없으면 -1
+    private final int[] daysUntilNext = new int[7];
+
+    public LectureRecurrence(LocalDate startDate, LocalDate endDate, int dayMask,
+        LocalTime startTime, LocalTime endTime) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.dayMask = dayMask & DayMask.ALL;
+        this.startTime = startTime;
+        this.endTime = endTime;
+
+        for (int day = 0; day < 7; day++) {
+            daysUntilNext[day] = -1;
+            for (int offset = 0; offset < 7; offset++) {
+                if ((this.dayMask & (1 << ((day + offset) % 7))) != 0) {
+                    daysUntilNext[day] = offset;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 강의 전체 기간의 반복 일정
+     *
+     * @param lecture 강의
+     * @return 반복 일정
+     */
+    public static LectureRecurrence of(LiveLectures lecture) {
+        return new LectureRecurrence(toKoreaDate(lecture.getStartDate()),
+            toKoreaDate(lecture.getEndDate()), lecture.getAvailableDayMask(),
+            toLocalTime(lecture.getStartTime()), toLocalTime(lecture.getEndTime()));
+    }
+
+    /**
+     * 예약 기간으로 좁힌 반복 일정
+     *
+     * @param lecture     강의
+     * @param reservation 예약
+     * @return 반복 일정
+     */
+    public static LectureRecurrence of(LiveLectures lecture, MyLiveLecture reservation) {
+        return of(lecture, reservation.getStartDate(), reservation.getEndDate());
+    }
+
+    /**
+     * 주어진 기간으로 좁힌 반복 일정
+     *
+     * @param lecture   강의
+     * @param startDate 시작 날짜
+     * @param endDate   종료 날짜
+     * @return 반복 일정
+     */
+    public static LectureRecurrence of(LiveLectures lecture, Instant startDate, Instant endDate) {
+        return new LectureRecurrence(toKoreaDate(startDate), toKoreaDate(endDate),
+            lecture.getAvailableDayMask(), toLocalTime(lecture.getStartTime()),
+            toLocalTime(lecture.getEndTime()));
+    }
+
+    /**
+     * TIME 컬럼 값(UTC 기준으로 저장된 한국 시각)을 LocalTime으로
+     */
+    public static LocalTime toLocalTime(Instant time) {
+        return LocalTime.ofInstant(time, ZoneOffset.UTC);
+    }
+
+    /**
+     * DATE 컬럼 값을 한국 날짜로
+     */
+    public static LocalDate toKoreaDate(Instant date) {
+        return date.atZone(ZoneOffset.UTC).withZoneSameInstant(KOREA_ZONE).toLocalDate();
+    }
+
+    /**
+     * 해당 날짜에 강의가 열리는지 확인
+     *
+     * @param date 날짜
+     * @return 강의 여부
+     */
+    public boolean occursOn(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate)
+            && DayMask.contains(dayMask, date.getDayOfWeek());
+    }
+
+    /**
+     * 해당 날짜 이후(당일 포함) 첫 강의 날짜
+     *
+     * @param from 기준 날짜
+     * @return 강의 날짜. 더 이상 없으면 null
+     */
+    public LocalDate next(LocalDate from) {
+        LocalDate date = from.isBefore(startDate) ? startDate : from;
+        if (date.isAfter(endDate)) {
+            return null;
+        }
+        int offset = daysUntilNext[date.getDayOfWeek().getValue() - 1];
+        if (offset < 0) {
+            return null;
+        }
+        LocalDate next = date.plusDays(offset);
+        return next.isAfter(endDate) ? null : next;
+    }
+
+    /**
+     * 해당 날짜 이전(당일 포함) 마지막 강의 날짜
+     *
+     * @param onOrBefore 기준 날짜
+     * @return 강의 날짜. 없으면 null
+     */
+    public LocalDate previous(LocalDate onOrBefore) {
+        LocalDate date = onOrBefore.isAfter(endDate) ? endDate : onOrBefore;
+        if (date.isBefore(startDate) || dayMask == 0) {
+            return null;
+        }
+        int day = date.getDayOfWeek().getValue() - 1;
+        for (int offset = 0; offset < 7; offset++) {
+            if ((dayMask & (1 << Math.floorMod(day - offset, 7))) != 0) {
+                LocalDate previous = date.minusDays(offset);
+                return previous.isBefore(startDate) ? null : previous;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 기간 안의 강의 날짜 목록
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to   종료 날짜 (포함)
+     * @return 강의 날짜 오름차순
+     */
+    public List<LocalDate> occurrences(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = next(from); date != null && !date.isAfter(to);
+            date = next(date.plusDays(1))) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    /**
+     * 기간 안의 강의 횟수. 주 단위로 계산해 기간 길이와 무관하게 일정한 비용
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to   종료 날짜 (포함)
+     * @return 강의 횟수
+     */
+    public long count(LocalDate from, LocalDate to) {
+        LocalDate first = from.isBefore(startDate) ? startDate : from;
+        LocalDate last = to.isAfter(endDate) ? endDate : to;
+        if (first.isAfter(last)) {
+            return 0;
+        }
+        long days = ChronoUnit.DAYS.between(first, last) + 1;
+        long count = (days / 7) * DayMask.count(dayMask);
+        int firstDay = first.getDayOfWeek().getValue() - 1;
+        for (int i = 0; i < days % 7; i++) {
+            if ((dayMask & (1 << ((firstDay + i) % 7))) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 자정을 넘겨 다음날 끝나는 강의인지
+     */
+    public boolean isOvernight() {
+        return endTime.isBefore(startTime);
+    }
+
+    /**
+     * 해당 날짜 강의의 시작 시각
+     */
+    public LocalDateTime startOf(LocalDate occurrence) {
+        return occurrence.atTime(startTime);
+    }
+
+    /**
+     * 해당 날짜 강의의 종료 시각. 자정을 넘기는 강의는 다음날
+     */
+    public LocalDateTime endOf(LocalDate occurrence) {
+        return isOvernight() ? occurrence.plusDays(1).atTime(endTime)
+            : occurrence.atTime(endTime);
+    }
+
+    /**
+     * 두 반복 일정에 시간이 겹치는 강의가 있는지 확인. 자정을 넘기는 강의는 다음날 강의와도 비교
+     *
+     * @param other 비교할 반복 일정
+     * @return 겹치면 true
+     */
+    public boolean overlaps(LectureRecurrence other) {
+        // 상대 강의가 전날 시작해 넘어오거나 다음날로 넘어가는 경우까지 포함하는 범위
+        LocalDate from = max(startDate, other.startDate.minusDays(1));
+        LocalDate to = min(endDate, other.endDate.plusDays(1));
+        if (from.isAfter(to)) {
+            return false;
+        }
+
+        // 요일 패턴은 1주 단위로 반복되므로, 기간 경계를 포함해 최대 2주만 확인
+        LocalDate until = min(to, from.plusDays(13));
+        for (LocalDate date = next(from); date != null && !date.isAfter(until);
+            date = next(date.plusDays(1))) {
+            LocalDateTime start = startOf(date);
+            LocalDateTime end = endOf(date);
+            for (int shift = -1; shift <= 1; shift++) {
+                LocalDate otherDate = date.plusDays(shift);
+                if (other.occursOn(otherDate) && start.isBefore(other.endOf(otherDate))
+                    && other.startOf(otherDate).isBefore(end)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public int getDayMask() {
+        return dayMask;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,35 @@
+package com.yoga.backend.common.util;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 클레임. 요청당 한 번만 파싱해 필터와 컨트롤러가 공유
+ */
+public class TokenClaims {
+
+    private final String token;
+    private final String email;
+    private final String role;
+    private final Integer userId; // userId 클레임 도입 이전 토큰은 null
+
+    public TokenClaims(String token, String email, String role, Integer userId) {
+        this.token = token;
+        this.email = email;
+        this.role = role;
+        this.userId = userId;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,233 @@
+package com.yoga.backend.fcm;
+
+import com.yoga.backend.common.service.ScheduledJobLock;
+import com.yoga.backend.fcm.repository.DeviceTokenRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 기기별 FCM 토큰 관리
+ * <p>
+ * 같은 토큰이 짧은 간격으로 다시 들어오면 DB에 쓰지 않음. FCM이 등록 해제됐다고 알린 토큰은 redis에 모아 두었다가 주기적으로 한꺼번에
+ * 삭제
+ */
+@Slf4j
+@Service
+public class DeviceTokenService {
+
+    public static final String UNKNOWN_PLATFORM = "UNKNOWN";
+
+    private static final String SEEN_KEY_PREFIX = "yoga:fcm:seen:";
+    private static final String DEAD_TOKENS_KEY = "yoga:fcm:dead-tokens";
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final Duration JOB_LEASE = Duration.ofMinutes(5);
+    private static final Duration DAILY_JOB_MIN_HOLD = Duration.ofMinutes(1);
+
+    private final DeviceTokenRepository deviceTokenRepository;
+    private final ReminderManifestStore manifestStore;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ScheduledJobLock jobLock;
+    private final Duration debounce;
+    private final int pruneBatchSize;
+    private final Duration staleAfter;
+
+    public DeviceTokenService(DeviceTokenRepository deviceTokenRepository,
+        ReminderManifestStore manifestStore, StringRedisTemplate stringRedisTemplate,
+        ScheduledJobLock jobLock,
+        @Value("${fcm.token.debounce-seconds:21600}") long debounceSeconds,
+        @Value("${fcm.token.prune-batch-size:500}") int pruneBatchSize,
+        @Value("${fcm.token.stale-days:270}") long staleDays) {
+        this.deviceTokenRepository = deviceTokenRepository;
+        this.manifestStore = manifestStore;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jobLock = jobLock;
+        this.debounce = Duration.ofSeconds(debounceSeconds);
+        this.pruneBatchSize = pruneBatchSize;
+        this.staleAfter = Duration.ofDays(staleDays);
+    }
+
+    /**
+     * 토큰 등록. 같은 사용자가 같은 토큰으로 debounce 기간 안에 다시 등록하면 아무것도 하지 않음
+     *
+     * @param userId   사용자 ID
+     * @param token    FCM 토큰
+     * @param platform 기기 종류 (없으면 UNKNOWN)
+     * @return DB에 기록했으면 true
+     */
+    public boolean register(int userId, String token, String platform) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        String seenKey = SEEN_KEY_PREFIX + token;
+        String owner = String.valueOf(userId);
+        if (owner.equals(stringRedisTemplate.opsForValue().get(seenKey))) {
+            return false;
+        }
+
+        // 다른 계정이 쓰던 기기면 이전 소유자의 토큰 목록도 갱신
+        Set<Integer> affectedUserIds = new HashSet<>(
+            deviceTokenRepository.findUserIdsByTokens(List.of(token)));
+        affectedUserIds.add(userId);
+
+        deviceTokenRepository.upsert(userId, token, normalizePlatform(platform), Instant.now());
+        stringRedisTemplate.opsForValue().set(seenKey, owner, debounce);
+        affectedUserIds.forEach(this::refreshDirectory);
+        return true;
+    }
+
+    /**
+     * 사용자별 토큰 조회. 사용자 수가 많으면 나눠서 조회
+     *
+     * @param userIds 사용자 ID
+     * @return 사용자 ID별 토큰 목록 (토큰 없는 사용자는 빈 목록)
+     */
+    public Map<Integer, List<String>> findTokens(Collection<Integer> userIds) {
+        Map<Integer, List<String>> tokens = new HashMap<>();
+        List<Integer> ids = new ArrayList<>(userIds);
+        for (Integer userId : ids) {
+            tokens.put(userId, new ArrayList<>());
+        }
+        for (int from = 0; from < ids.size(); from += QUERY_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + QUERY_CHUNK_SIZE, ids.size()));
+            for (Object[] row : deviceTokenRepository.findTokensByUserIds(chunk)) {
+                tokens.get((Integer) row[0]).add((String) row[1]);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * FCM이 등록 해제됐다고 알린 토큰을 삭제 대기열에 추가
+     *
+     * @param tokens 등록 해제된 토큰
+     */
+    public void markUnregistered(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForSet().add(DEAD_TOKENS_KEY, tokens.toArray(new String[0]));
+    }
+
+    /**
+     * 사용자의 모든 토큰 삭제 (탈퇴 처리)
+     *
+     * @param userId 사용자 ID
+     */
+    public void removeAll(int userId) {
+        List<String> tokens = deviceTokenRepository.findTokensByUserId(userId);
+        deviceTokenRepository.deleteByUserId(userId);
+        clearSeenKeys(tokens);
+        manifestStore.updateTokens(userId, List.of());
+    }
+
+    /**
+     * 알림 수신자 명단의 사용자 토큰 목록을 DB 기준으로 갱신
+     *
+     * @param userId 사용자 ID
+     */
+    public void refreshDirectory(int userId) {
+        manifestStore.updateTokens(userId, deviceTokenRepository.findTokensByUserId(userId));
+    }
+
+    /**
+     * 1분마다 실행, 삭제 대기열의 토큰을 배치 단위로 삭제
+     */
+    @Scheduled(fixedDelayString = "${fcm.token.prune-interval-ms:60000}")
+    public void pruneUnregisteredTokens() {
+        jobLock.runExclusively("pruneUnregisteredTokens", JOB_LEASE, Duration.ZERO, () -> {
+            try {
+                List<String> tokens;
+                do {
+                    tokens = stringRedisTemplate.opsForSet().pop(DEAD_TOKENS_KEY, pruneBatchSize);
+                    if (tokens != null && !tokens.isEmpty()) {
+                        pruneTokens(tokens);
+                    }
+                } while (tokens != null && tokens.size() == pruneBatchSize);
+            } catch (Exception e) {
+                log.error("등록 해제된 FCM 토큰 삭제 중 오류 발생", e);
+            }
+        });
+    }
+
+    /**
+     * 매일 04:00에 실행, 오래 확인되지 않은 토큰 삭제
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void pruneStaleTokens() {
+        jobLock.runExclusively("pruneStaleDeviceTokens", JOB_LEASE, DAILY_JOB_MIN_HOLD, () -> {
+            try {
+                Instant before = Instant.now().minus(staleAfter);
+                int deleted = 0;
+                List<Object[]> rows;
+                do {
+                    rows = deviceTokenRepository.findStaleBefore(before,
+                        PageRequest.of(0, pruneBatchSize));
+                    deleted += pruneStaleTokens(rows, before);
+                } while (rows.size() == pruneBatchSize);
+                log.info("오래된 FCM 토큰 {}개 삭제", deleted);
+            } catch (Exception e) {
+                log.error("오래된 FCM 토큰 삭제 중 오류 발생", e);
+            }
+        });
+    }
+
+    private void pruneTokens(List<String> tokens) {
+        List<Integer> affectedUserIds = deviceTokenRepository.findUserIdsByTokens(tokens);
+        int deleted = deviceTokenRepository.deleteByTokens(tokens);
+        // 같은 기기가 debounce 기간 안에 다시 등록해도 DB에 다시 기록되도록 함
+        clearSeenKeys(tokens);
+        affectedUserIds.forEach(this::refreshDirectory);
+        log.info("등록 해제된 FCM 토큰 {}개 삭제", deleted);
+    }
+
+    /**
+     * 오래된 토큰 한 배치 삭제. 알림 수신자 명단이 삭제된 토큰으로 보내지 않도록 소유자별 토큰 목록도 갱신
+     */
+    private int pruneStaleTokens(List<Object[]> rows, Instant before) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Set<Integer> affectedUserIds = new HashSet<>();
+        List<String> tokens = new ArrayList<>();
+        for (Object[] row : rows) {
+            affectedUserIds.add((Integer) row[0]);
+            tokens.add((String) row[1]);
+        }
+        int deleted = deviceTokenRepository.deleteStaleByTokens(tokens, before);
+        clearSeenKeys(tokens);
+        affectedUserIds.forEach(this::refreshDirectory);
+        return deleted;
+    }
+
+    private void clearSeenKeys(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        List<String> seenKeys = new ArrayList<>();
+        for (String token : tokens) {
+            seenKeys.add(SEEN_KEY_PREFIX + token);
+        }
+        stringRedisTemplate.delete(seenKeys);
+    }
+
+    private String normalizePlatform(String platform) {
+        if (platform == null || platform.isBlank()) {
+            return UNKNOWN_PLATFORM;
+        }
+        String normalized = platform.trim().toUpperCase();
+        return normalized.length() > 20 ? UNKNOWN_PLATFORM : normalized;
+    }
+}
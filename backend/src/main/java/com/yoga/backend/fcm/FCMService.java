@@ -1,30 +1,19 @@
 package com.yoga.backend.fcm;
 
-import com.google.firebase.messaging.AndroidConfig;
-import com.google.firebase.messaging.BatchResponse;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
-import com.yoga.backend.common.entity.Users;
-import com.yoga.backend.members.repository.UsersRepository;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 public class FCMService {
 
-    private final UsersRepository usersRepository;
+    private final FcmDispatcher fcmDispatcher;
+    private final DeviceTokenService deviceTokenService;
 
-    public FCMService(UsersRepository usersRepository) {
-        this.usersRepository = usersRepository;
+    public FCMService(FcmDispatcher fcmDispatcher, DeviceTokenService deviceTokenService) {
+        this.fcmDispatcher = fcmDispatcher;
+        this.deviceTokenService = deviceTokenService;
     }
 
     /**
@@ -32,42 +21,19 @@ public class FCMService {
      * @param tokenToDataMap 메시지 내용 및
      */
     public void sendBatchMessagesWithData(String title,
-        Map<String, Map<String, String>> tokenToDataMap) throws FirebaseMessagingException {
-
-        List<Message> messages = new ArrayList<>();
-
-        for (Map.Entry<String, Map<String, String>> map : tokenToDataMap.entrySet()) {
-            String token = map.getKey();
-            Map<String, String> data = map.getValue();
-
-            Notification notification = Notification.builder()
-                .setTitle(title)
-                .setBody(data.get("body"))
-                .build();
-
-            Message message = Message.builder()
-                .setNotification(notification)
-                .putData("liveId", data.get("liveId"))
-                .setToken(token)
-                .setAndroidConfig(AndroidConfig.builder()
-                .setPriority(AndroidConfig.Priority.HIGH)
-                .build())
-                .build();
-
-            messages.add(message);
-        }
-
-        BatchResponse response = FirebaseMessaging.getInstance().sendAll(messages);
-        log.info("메시지 전송 성공 {}", response.getSuccessCount());
+        Map<String, Map<String, String>> tokenToDataMap) {
+        int successCount = fcmDispatcher.dispatch(title, tokenToDataMap);
+        log.info("메시지 전송 성공 {}", successCount);
     }
 
-    @Transactional(isolation = Isolation.READ_COMMITTED)
-    public void setNewFcm(String fcmToken, int userId) {
-        Optional<Users> users = usersRepository.findById(userId);
-        if (users.isPresent()) {
-            Users user = users.get();
-            user.setFcmToken(fcmToken);
-            usersRepository.save(user);
-        }
+    /**
+     * 기기 FCM 토큰 등록. 같은 토큰이 최근에 등록됐으면 DB에 쓰지 않음
+     *
+     * @param fcmToken FCM 토큰
+     * @param userId   사용자 ID
+     * @param platform 기기 종류 (없으면 UNKNOWN)
+     */
+    public void setNewFcm(String fcmToken, int userId, String platform) {
+        deviceTokenService.register(userId, fcmToken, platform);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package com.yoga.backend.fcm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 개발, 부하 테스트용 가짜 FCM 전송. 실제로 보내지 않고 전송 기록만 남김
+ * <p>
+ * 묶음마다 지연 시간을 흉내 내고, 설정한 비율만큼 일시적 오류와 등록 해제 응답을 돌려줌
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.transport", havingValue = "fake")
+public class FakeFcmSender implements FcmSender {
+
+    private final long latencyMillis;
+    private final long latencyJitterMillis;
+    private final double retryableErrorRate;
+    private final double unregisteredRate;
+    private final int recordLimit;
+
+    private final Queue<SentMessage> sentMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicLong recordedCount = new AtomicLong();
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong unregisteredCount = new AtomicLong();
+    private final AtomicLong retryableCount = new AtomicLong();
+    private final AtomicLong requestCount = new AtomicLong();
+
+    public FakeFcmSender(@Value("${fcm.fake.latency-ms:50}") long latencyMillis,
+        @Value("${fcm.fake.latency-jitter-ms:20}") long latencyJitterMillis,
+        @Value("${fcm.fake.retryable-error-rate:0.0}") double retryableErrorRate,
+        @Value("${fcm.fake.unregistered-rate:0.0}") double unregisteredRate,
+        @Value("${fcm.fake.record-limit:200000}") int recordLimit) {
+        this.latencyMillis = latencyMillis;
+        this.latencyJitterMillis = latencyJitterMillis;
+        this.retryableErrorRate = retryableErrorRate;
+        this.unregisteredRate = unregisteredRate;
+        this.recordLimit = recordLimit;
+        log.warn("가짜 FCM 전송 사용 중 - 알림이 실제로 전송되지 않음");
+    }
+
+    @Override
+    public List<Result> sendMulticast(String title, Map<String, String> data,
+        List<String> tokens) {
+        requestCount.incrementAndGet();
+        simulateLatency();
+
+        long sentAt = System.currentTimeMillis();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Result> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            double roll = random.nextDouble();
+            if (roll < unregisteredRate) {
+                unregisteredCount.incrementAndGet();
+                results.add(Result.UNREGISTERED);
+            } else if (roll < unregisteredRate + retryableErrorRate) {
+                retryableCount.incrementAndGet();
+                results.add(Result.RETRYABLE);
+            } else {
+                successCount.incrementAndGet();
+                record(new SentMessage(token, data.get("liveId"), title, sentAt));
+                results.add(Result.SUCCESS);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 기록된 전송 목록 (record-limit 까지)
+     */
+    public List<SentMessage> getSentMessages() {
+        return new ArrayList<>(sentMessages);
+    }
+
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    public long getUnregisteredCount() {
+        return unregisteredCount.get();
+    }
+
+    public long getRetryableCount() {
+        return retryableCount.get();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * 기록과 집계 초기화
+     */
+    public void reset() {
+        sentMessages.clear();
+        recordedCount.set(0);
+        successCount.set(0);
+        unregisteredCount.set(0);
+        retryableCount.set(0);
+        requestCount.set(0);
+    }
+
+    private void record(SentMessage message) {
+        if (recordedCount.incrementAndGet() <= recordLimit) {
+            sentMessages.add(message);
+        }
+    }
+
+    private void simulateLatency() {
+        long delay = latencyMillis + (latencyJitterMillis > 0
+            ? ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1) : 0);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 전송 기록 한 건
+     */
+    @Getter
+    public static class SentMessage {
+
+        private final String token; // 받은 토큰
+        private final String liveId; // 강의 ID
+        private final String title; // 메시지 제목
+        private final long sentAtMillis; // 전송 시각
+
+        public SentMessage(String token, String liveId, String title, long sentAtMillis) {
+            this.token = token;
+            this.liveId = liveId;
+            this.title = title;
+            this.sentAtMillis = sentAtMillis;
+        }
+    }
+}
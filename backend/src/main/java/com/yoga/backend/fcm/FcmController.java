@@ -24,7 +24,8 @@ public class FcmController {
 
     @PutMapping("/fcm")
     public ResponseEntity<Map<String, Object>> fcm(@RequestHeader("Authorization") String token,
-        @RequestHeader(value = "FCM-TOKEN", required = false) String fcmToken) {
+        @RequestHeader(value = "FCM-TOKEN", required = false) String fcmToken,
+        @RequestHeader(value = "FCM-PLATFORM", required = false) String platform) {
         Map<String, Object> response = new HashMap<>();
         int userId = jwtUtil.getUserIdFromToken(token);
 
@@ -35,7 +36,7 @@ public class FcmController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            fcmService.setNewFcm(fcmToken, userId);
+            fcmService.setNewFcm(fcmToken, userId, platform);
             response.put("message", "FCM TOKEN 갱신 완료");
             response.put("data", new Object[]{});
             return ResponseEntity.ok(response);
@@ -0,0 +1,180 @@
+package com.yoga.backend.fcm;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM 대량 전송기
+ * <p>
+ * 같은 내용의 수신자를 묶어 MulticastMessage로 보내고, FCM 제한(500건) 단위로 나눠 전용 스레드 풀에서 동시에 전송. 일시적 오류는
+ * 지수 백오프로 재시도하고, 등록 해제된 토큰은 삭제 대기열에 넣음
+ */
+@Slf4j
+@Component
+public class FcmDispatcher implements DisposableBean {
+
+    // MulticastMessage 한 번에 보낼 수 있는 최대 토큰 수
+    static final int MAX_TOKENS_PER_MULTICAST = 500;
+    private static final long MAX_BACKOFF_MILLIS = 10_000L;
+
+    private final FcmSender fcmSender;
+    private final DeviceTokenService deviceTokenService;
+    private final ExecutorService executor;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long timeoutMillis;
+
+    public FcmDispatcher(FcmSender fcmSender, DeviceTokenService deviceTokenService,
+        @Value("${fcm.dispatch.max-in-flight:8}") int maxInFlight,
+        @Value("${fcm.dispatch.max-attempts:4}") int maxAttempts,
+        @Value("${fcm.dispatch.initial-backoff-ms:500}") long initialBackoffMillis,
+        @Value("${fcm.dispatch.timeout-ms:30000}") long timeoutMillis) {
+        this.fcmSender = fcmSender;
+        this.deviceTokenService = deviceTokenService;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxInFlight, runnable -> {
+            Thread thread = new Thread(runnable, "fcm-send-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 알림 전송. 모든 묶음의 전송이 끝나거나 제한 시간이 지날 때까지 대기
+     *
+     * @param title          메시지 제목
+     * @param tokenToDataMap 토큰별 메시지 내용 (body, liveId)
+     * @return 전송 성공 수
+     */
+    public int dispatch(String title, Map<String, Map<String, String>> tokenToDataMap) {
+        // 같은 내용끼리 토큰 묶기
+        Map<Map<String, String>, List<String>> tokensByPayload = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> entry : tokenToDataMap.entrySet()) {
+            tokensByPayload.computeIfAbsent(entry.getValue(), data -> new ArrayList<>())
+                .add(entry.getKey());
+        }
+
+        Set<String> unregisteredTokens = ConcurrentHashMap.newKeySet();
+        AtomicInteger successCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Map.Entry<Map<String, String>, List<String>> group : tokensByPayload.entrySet()) {
+            List<String> tokens = group.getValue();
+            for (int from = 0; from < tokens.size(); from += MAX_TOKENS_PER_MULTICAST) {
+                List<String> chunk = tokens.subList(from,
+                    Math.min(from + MAX_TOKENS_PER_MULTICAST, tokens.size()));
+                futures.add(executor.submit(
+                    () -> sendChunk(title, group.getKey(), chunk, successCount,
+                        unregisteredTokens)));
+            }
+        }
+
+        awaitAll(futures);
+
+        if (!unregisteredTokens.isEmpty()) {
+            deviceTokenService.markUnregistered(unregisteredTokens);
+            log.info("등록 해제된 FCM 토큰 {}개 삭제 대기", unregisteredTokens.size());
+        }
+        log.info("FCM 전송 완료 - 대상: {}, 성공: {}, 묶음: {}", tokenToDataMap.size(),
+            successCount.get(), futures.size());
+        return successCount.get();
+    }
+
+    /**
+     * 묶음 하나 전송. 일시적 오류가 난 토큰만 골라 재시도
+     */
+    private void sendChunk(String title, Map<String, String> data, List<String> chunk,
+        AtomicInteger successCount, Set<String> unregisteredTokens) {
+        List<String> pending = chunk;
+
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            List<String> retry = new ArrayList<>();
+            List<FcmSender.Result> results = fcmSender.sendMulticast(title, data, pending);
+            for (int i = 0; i < results.size(); i++) {
+                switch (results.get(i)) {
+                    case SUCCESS:
+                        successCount.incrementAndGet();
+                        break;
+                    case UNREGISTERED:
+                        unregisteredTokens.add(pending.get(i));
+                        break;
+                    case RETRYABLE:
+                        retry.add(pending.get(i));
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            if (retry.isEmpty()) {
+                return;
+            }
+            if (attempt >= maxAttempts) {
+                log.error("FCM 재시도 횟수 초과 - 실패 토큰 수: {}", retry.size());
+                return;
+            }
+            if (!sleepBackoff(attempt)) {
+                return;
+            }
+            pending = retry;
+        }
+    }
+
+    /**
+     * 지수 백오프 + full jitter 만큼 대기
+     *
+     * @return 인터럽트 없이 대기했으면 true
+     */
+    private boolean sleepBackoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, initialBackoffMillis << (attempt - 1));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                log.warn("FCM 전송 대기 시간 초과 - 남은 묶음은 계속 전송됨");
+                return;
+            } catch (ExecutionException e) {
+                log.error("FCM 묶음 전송 중 오류 발생", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,27 @@
+package com.yoga.backend.fcm;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FCM 전송 방식. 기본은 Firebase로 실제 전송하고, fcm.transport=fake 이면 로컬 가짜 전송을 사용
+ */
+public interface FcmSender {
+
+    enum Result {
+        SUCCESS, // 전송 성공
+        UNREGISTERED, // 등록 해제된 토큰
+        RETRYABLE, // 일시적 오류, 재시도 가능
+        FAILED // 재시도해도 실패할 오류
+    }
+
+    /**
+     * 같은 내용의 메시지를 여러 토큰에 전송
+     *
+     * @param title  메시지 제목
+     * @param data   메시지 내용 (body, liveId)
+     * @param tokens 받을 토큰 (최대 500개)
+     * @return 토큰 순서대로 전송 결과
+     */
+    List<Result> sendMulticast(String title, Map<String, String> data, List<String> tokens);
+}
@@ -0,0 +1,82 @@
+package com.yoga.backend.fcm;
+
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Firebase Admin SDK로 실제 전송
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.transport", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmSender implements FcmSender {
+
+    private static final Set<MessagingErrorCode> RETRYABLE_ERRORS = EnumSet.of(
+        MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL,
+        MessagingErrorCode.QUOTA_EXCEEDED);
+
+    @Override
+    public List<Result> sendMulticast(String title, Map<String, String> data,
+        List<String> tokens) {
+        BatchResponse response;
+        try {
+            response = FirebaseMessaging.getInstance()
+                .sendEachForMulticast(buildMessage(title, data, tokens));
+        } catch (FirebaseMessagingException e) {
+            MessagingErrorCode errorCode = e.getMessagingErrorCode();
+            if (errorCode != null && !RETRYABLE_ERRORS.contains(errorCode)) {
+                log.error("FCM 묶음 전송 실패 - 토큰 수: {}", tokens.size(), e);
+                return Collections.nCopies(tokens.size(), Result.FAILED);
+            }
+            return Collections.nCopies(tokens.size(), Result.RETRYABLE);
+        }
+
+        List<Result> results = new ArrayList<>(tokens.size());
+        for (SendResponse sendResponse : response.getResponses()) {
+            if (sendResponse.isSuccessful()) {
+                results.add(Result.SUCCESS);
+                continue;
+            }
+            MessagingErrorCode errorCode = sendResponse.getException().getMessagingErrorCode();
+            if (errorCode == MessagingErrorCode.UNREGISTERED) {
+                results.add(Result.UNREGISTERED);
+            } else if (RETRYABLE_ERRORS.contains(errorCode)) {
+                results.add(Result.RETRYABLE);
+            } else {
+                log.warn("FCM 전송 실패 - 오류: {}", errorCode);
+                results.add(Result.FAILED);
+            }
+        }
+        return results;
+    }
+
+    private MulticastMessage buildMessage(String title, Map<String, String> data,
+        List<String> tokens) {
+        return MulticastMessage.builder()
+            .setNotification(Notification.builder()
+                .setTitle(title)
+                .setBody(data.get("body"))
+                .build())
+            .putData("liveId", data.get("liveId"))
+            .setAndroidConfig(AndroidConfig.builder()
+                .setPriority(AndroidConfig.Priority.HIGH)
+                .build())
+            .addAllTokens(tokens)
+            .build();
+    }
+}
@@ -0,0 +1,237 @@
+package com.yoga.backend.fcm;
+
+import com.yoga.backend.common.serializer.LiveLectureDtoRedisSerializer;
+import com.yoga.backend.livelectures.dto.LiveLectureDto;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날짜별 강의 캐시. 날짜마다 liveId를 필드로 하는 redis hash 하나를 두고, liveId -> 날짜 역색인으로 수정/삭제할 날짜만 찾음
+ * <p>
+ * 오늘부터 horizon-days 일까지만 캐시하고, 만료 시각은 자정에 몰리지 않도록 분산. 강의 값은
+ * {@link LiveLectureDtoRedisSerializer}로 저장
+ */
+@Slf4j
+@Component
+public class LectureDayCache {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String DAY_KEY_PREFIX = "yoga:lectures:";
+    private static final String LIVE_INDEX_KEY_PREFIX = "yoga:lecture-days:";
+    // DB에서 하루치를 모두 읽어 채웠는지 표시. 없으면 일부만 있는 것으로 보고 다시 읽음
+    private static final String LOADED_KEY_PREFIX = "yoga:lectures:loaded:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisSerializer<LiveLectureDto> lectureSerializer;
+    private final int horizonDays;
+    private final long expiryJitterSeconds;
+
+    public LectureDayCache(StringRedisTemplate stringRedisTemplate,
+        RedisSerializer<LiveLectureDto> lectureSerializer,
+        @Value("${notification.lecture-cache.horizon-days:7}") int horizonDays,
+        @Value("${notification.lecture-cache.expiry-jitter-seconds:1800}") long expiryJitterSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.lectureSerializer = lectureSerializer;
+        this.horizonDays = horizonDays;
+        this.expiryJitterSeconds = expiryJitterSeconds;
+    }
+
+    /**
+     * 캐시 대상 날짜인지 확인
+     *
+     * @param date 날짜
+     * @return 오늘부터 horizon-days 이내면 true
+     */
+    public boolean isWithinHorizon(LocalDate date) {
+        LocalDate today = LocalDate.now(KOREA_ZONE);
+        return !date.isBefore(today) && date.isBefore(today.plusDays(horizonDays));
+    }
+
+    /**
+     * 해당 날짜의 강의 조회
+     *
+     * @param date 날짜
+     * @return liveId별 강의. 하루치가 채워져 있지 않거나 읽을 수 없는 값이 있으면 null
+     */
+    public Map<Long, LiveLectureDto> getDay(LocalDate date) {
+        return stringRedisTemplate.execute((RedisCallback<Map<Long, LiveLectureDto>>) connection -> {
+            if (!Boolean.TRUE.equals(connection.keyCommands().exists(bytes(LOADED_KEY_PREFIX + date)))) {
+                return null;
+            }
+            Map<byte[], byte[]> entries = connection.hashCommands().hGetAll(bytes(dayKey(date)));
+            Map<Long, LiveLectureDto> lectures = new HashMap<>();
+            if (entries == null) {
+                return lectures;
+            }
+            for (byte[] value : entries.values()) {
+                LiveLectureDto lecture = lectureSerializer.deserialize(value);
+                if (lecture == null) {
+                    return null;
+                }
+                lectures.put(lecture.getLiveId(), lecture);
+            }
+            return lectures;
+        });
+    }
+
+    /**
+     * DB에서 읽은 하루치 강의를 통째로 저장
+     *
+     * @param date     날짜
+     * @param lectures 그날 강의 목록
+     */
+    public void putDay(LocalDate date, List<LiveLectureDto> lectures) {
+        if (!isWithinHorizon(date)) {
+            return;
+        }
+        byte[] dayKey = bytes(dayKey(date));
+        byte[] loadedKey = bytes(LOADED_KEY_PREFIX + date);
+        Map<byte[], byte[]> fields = new HashMap<>();
+        for (LiveLectureDto lecture : lectures) {
+            fields.put(bytes(lecture.getLiveId().toString()), lectureSerializer.serialize(lecture));
+        }
+        long expireAt = dayExpiryMillis(date);
+
+        pipelined(connection -> {
+            connection.keyCommands().del(dayKey);
+            if (!fields.isEmpty()) {
+                connection.hashCommands().hMSet(dayKey, fields);
+                connection.keyCommands().pExpireAt(dayKey, expireAt);
+            }
+            connection.stringCommands().set(loadedKey, bytes("1"));
+            connection.keyCommands().pExpireAt(loadedKey, expireAt);
+            for (LiveLectureDto lecture : lectures) {
+                byte[] indexKey = bytes(indexKey(lecture.getLiveId()));
+                connection.setCommands().sAdd(indexKey, bytes(date.toString()));
+                connection.keyCommands().pExpire(indexKey, indexTtl().toMillis());
+            }
+        });
+    }
+
+    /**
+     * 강의 생성/수정 반영. 새 날짜에는 추가하고, 더 이상 해당하지 않는 날짜에서는 제거
+     *
+     * @param lecture 강의
+     * @param dates   강의가 열리는 날짜 (horizon 밖은 무시)
+     */
+    public void upsert(LiveLectureDto lecture, Collection<LocalDate> dates) {
+        byte[] liveId = bytes(lecture.getLiveId().toString());
+        byte[] indexKey = bytes(indexKey(lecture.getLiveId()));
+        byte[] value = lectureSerializer.serialize(lecture);
+
+        Set<String> newDates = new HashSet<>();
+        for (LocalDate date : dates) {
+            if (isWithinHorizon(date)) {
+                newDates.add(date.toString());
+            }
+        }
+        Set<String> staleDates = indexedDates(lecture.getLiveId());
+        staleDates.removeAll(newDates);
+
+        pipelined(connection -> {
+            for (String date : staleDates) {
+                connection.hashCommands().hDel(bytes(DAY_KEY_PREFIX + date), liveId);
+            }
+            connection.keyCommands().del(indexKey);
+            for (String date : newDates) {
+                byte[] dayKey = bytes(DAY_KEY_PREFIX + date);
+                connection.hashCommands().hSet(dayKey, liveId, value);
+                connection.keyCommands().pExpireAt(dayKey, dayExpiryMillis(LocalDate.parse(date)));
+                connection.setCommands().sAdd(indexKey, bytes(date));
+            }
+            if (!newDates.isEmpty()) {
+                connection.keyCommands().pExpire(indexKey, indexTtl().toMillis());
+            }
+        });
+        log.info("강의 ID {} 날짜별 캐시 반영 - 추가/수정 {}일, 제거 {}일", lecture.getLiveId(),
+            newDates.size(), staleDates.size());
+    }
+
+    /**
+     * 강의를 캐시된 모든 날짜에서 제거
+     *
+     * @param liveId 강의 ID
+     */
+    public void evict(Long liveId) {
+        byte[] field = bytes(liveId.toString());
+        byte[] indexKey = bytes(indexKey(liveId));
+        Set<String> dates = indexedDates(liveId);
+
+        pipelined(connection -> {
+            for (String date : dates) {
+                connection.hashCommands().hDel(bytes(DAY_KEY_PREFIX + date), field);
+            }
+            connection.keyCommands().del(indexKey);
+        });
+        log.info("강의 ID {} 날짜별 캐시에서 삭제 완료 ({}일)", liveId, dates.size());
+    }
+
+    /**
+     * 해당 날짜 캐시 삭제
+     *
+     * @param date 날짜
+     * @return 삭제 여부
+     */
+    public boolean evictDay(LocalDate date) {
+        Long deleted = stringRedisTemplate.delete(List.of(dayKey(date), LOADED_KEY_PREFIX + date));
+        return deleted != null && deleted > 0;
+    }
+
+    private Set<String> indexedDates(Long liveId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(indexKey(liveId));
+        return members == null ? new HashSet<>() : new HashSet<>(members);
+    }
+
+    private void pipelined(Consumer<RedisConnection> commands) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept(connection);
+            return null;
+        });
+    }
+
+    /**
+     * 다음날 자정 + 임의의 지연
+     */
+    private long dayExpiryMillis(LocalDate date) {
+        return date.plusDays(1).atStartOfDay(KOREA_ZONE).toInstant()
+            .plusSeconds(jitterSeconds()).toEpochMilli();
+    }
+
+    private Duration indexTtl() {
+        return Duration.ofDays(horizonDays + 1L).plusSeconds(jitterSeconds());
+    }
+
+    private long jitterSeconds() {
+        return expiryJitterSeconds > 0
+            ? ThreadLocalRandom.current().nextLong(expiryJitterSeconds + 1) : 0;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String dayKey(LocalDate date) {
+        return DAY_KEY_PREFIX + date;
+    }
+
+    private String indexKey(Long liveId) {
+        return LIVE_INDEX_KEY_PREFIX + liveId;
+    }
+}
@@ -0,0 +1,183 @@
+package com.yoga.backend.fcm;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의 시작 전 알림 예약 큐. redis sorted set에 알림 발송 시각(epoch ms)을 score로 저장
+ * <p>
+ * member 형식: {@code liveId:강의날짜:몇분전}. liveId 해시로 파티션을 나눠 저장하고, 각 서버는 담당 파티션만 꺼내 전송
+ */
+@Slf4j
+@Component
+public class LectureReminderQueue {
+
+    // 파티션 도입 전 단일 키. 남은 알림은 0번 파티션 담당 서버가 처리
+    private static final String LEGACY_REMINDER_KEY = "yoga:reminders";
+    private static final String PARTITION_KEY_PREFIX = "yoga:reminders:due:";
+    private static final String LIVE_INDEX_KEY_PREFIX = "yoga:reminders:live:";
+    private static final String SCHEDULED_MARKER_KEY_PREFIX = "yoga:reminders:scheduled:";
+    private static final Duration LIVE_INDEX_TTL = Duration.ofDays(3);
+
+    // 발송 시각이 지난 알림을 꺼내면서 삭제. 여러 노드가 같은 알림을 가져가지 않도록 원자적으로 수행
+    private static final RedisScript<List> POP_DUE_SCRIPT = new DefaultRedisScript<>(
+        "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+            + "if #due > 0 then redis.call('ZREM', KEYS[1], unpack(due)) end "
+            + "return due", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReminderPartitionMembership membership;
+    private final int[] leadMinutes;
+
+    public LectureReminderQueue(StringRedisTemplate stringRedisTemplate,
+        ReminderPartitionMembership membership,
+        @Value("${notification.reminder.lead-minutes:10}") int[] leadMinutes) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.membership = membership;
+        this.leadMinutes = leadMinutes;
+    }
+
+    /**
+     * 특정 날짜 강의의 알림 예약. 이미 지난 발송 시각은 건너뜀
+     *
+     * @param liveId    강의 ID
+     * @param date      강의 날짜
+     * @param startTime 강의 시작 시간
+     * @param zone      강의 시간대
+     */
+    public void schedule(Long liveId, LocalDate date, LocalTime startTime, ZoneId zone) {
+        Instant start = date.atTime(startTime).atZone(zone).toInstant();
+        long now = System.currentTimeMillis();
+        String indexKey = LIVE_INDEX_KEY_PREFIX + liveId;
+        String reminderKey = partitionKey(membership.partitionOf(liveId));
+
+        for (int lead : leadMinutes) {
+            long fireAt = start.minus(Duration.ofMinutes(lead)).toEpochMilli();
+            if (fireAt <= now) {
+                continue;
+            }
+            String member = liveId + ":" + date + ":" + lead;
+            stringRedisTemplate.opsForZSet().add(reminderKey, member, fireAt);
+            stringRedisTemplate.opsForSet().add(indexKey, member);
+        }
+        stringRedisTemplate.expire(indexKey, LIVE_INDEX_TTL);
+    }
+
+    /**
+     * 강의의 예약된 알림 모두 취소
+     *
+     * @param liveId 강의 ID
+     */
+    public void unschedule(Long liveId) {
+        String indexKey = LIVE_INDEX_KEY_PREFIX + liveId;
+        Set<String> members = stringRedisTemplate.opsForSet().members(indexKey);
+        if (members != null && !members.isEmpty()) {
+            Object[] values = members.toArray();
+            stringRedisTemplate.opsForZSet()
+                .remove(partitionKey(membership.partitionOf(liveId)), values);
+            stringRedisTemplate.opsForZSet().remove(LEGACY_REMINDER_KEY, values);
+        }
+        stringRedisTemplate.delete(indexKey);
+    }
+
+    /**
+     * 해당 날짜의 강의 알림이 모두 예약되었는지 확인
+     *
+     * @param date 강의 날짜
+     * @return 예약 여부
+     */
+    public boolean isScheduled(LocalDate date) {
+        return Boolean.TRUE.equals(
+            stringRedisTemplate.hasKey(SCHEDULED_MARKER_KEY_PREFIX + date));
+    }
+
+    /**
+     * 해당 날짜의 강의 알림을 모두 예약했다고 표시
+     *
+     * @param date 강의 날짜
+     */
+    public void markScheduled(LocalDate date) {
+        stringRedisTemplate.opsForValue()
+            .set(SCHEDULED_MARKER_KEY_PREFIX + date, "1", LIVE_INDEX_TTL);
+    }
+
+    /**
+     * 이 서버 담당 파티션에서 발송 시각이 된 알림을 꺼냄. 담당이 바뀌는 중 두 서버가 같은 파티션을 보더라도 꺼내기가 원자적이라 한 번만
+     * 전송됨
+     *
+     * @param now   기준 시각
+     * @param limit 파티션당 최대 개수
+     * @return 발송할 알림 목록
+     */
+    public List<Reminder> popDue(Instant now, int limit) {
+        List<Reminder> reminders = new ArrayList<>();
+        for (int partition : membership.ownedPartitions()) {
+            reminders.addAll(popDue(partitionKey(partition), now, limit));
+            if (partition == 0) {
+                reminders.addAll(popDue(LEGACY_REMINDER_KEY, now, limit));
+            }
+        }
+        return reminders;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Reminder> popDue(String reminderKey, Instant now, int limit) {
+        List<String> due = stringRedisTemplate.execute(POP_DUE_SCRIPT,
+            Collections.singletonList(reminderKey),
+            String.valueOf(now.toEpochMilli()), String.valueOf(limit));
+        if (due == null || due.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Reminder> reminders = new ArrayList<>(due.size());
+        for (String member : due) {
+            try {
+                reminders.add(Reminder.parse(member));
+            } catch (RuntimeException e) {
+                log.warn("잘못된 알림 예약 항목 무시: {}", member);
+            }
+        }
+        return reminders;
+    }
+
+    private String partitionKey(int partition) {
+        return PARTITION_KEY_PREFIX + partition;
+    }
+
+    /**
+     * 꺼낸 알림 한 건
+     */
+    @Getter
+    public static class Reminder {
+
+        private final Long liveId; // 강의 ID
+        private final LocalDate date; // 강의 날짜
+        private final int leadMinutes; // 강의 시작 몇 분 전 알림인지
+
+        public Reminder(Long liveId, LocalDate date, int leadMinutes) {
+            this.liveId = liveId;
+            this.date = date;
+            this.leadMinutes = leadMinutes;
+        }
+
+        static Reminder parse(String member) {
+            String[] parts = member.split(":");
+            return new Reminder(Long.parseLong(parts[0]), LocalDate.parse(parts[1]),
+                Integer.parseInt(parts[2]));
+        }
+    }
+}
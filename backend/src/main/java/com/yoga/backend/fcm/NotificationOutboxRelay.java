@@ -0,0 +1,108 @@
+package com.yoga.backend.fcm;
+
+import com.yoga.backend.common.entity.NotificationOutbox;
+import com.yoga.backend.common.service.ScheduledJobLock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 outbox 릴레이. 커밋된 이벤트를 배치로 꺼내 redis 캐시, 알림 예약, FCM 전송을 처리
+ * <p>
+ * 처리 도중 서버가 죽어도 점유 기간이 지나면 다시 처리되므로 이벤트가 유실되지 않음. 이벤트마다 처리 직전에 점유를 연장하고, 그 사이
+ * 다른 서버가 가져간 이벤트는 건너뛰어 중복 전송을 막음
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private static final Duration PROCESSED_RETENTION = Duration.ofDays(7);
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationService notificationService;
+    private final ScheduledJobLock jobLock;
+    private final int batchSize;
+
+    public NotificationOutboxRelay(NotificationOutboxService outboxService,
+        NotificationService notificationService, ScheduledJobLock jobLock,
+        @Value("${notification.outbox.batch-size:100}") int batchSize) {
+        this.outboxService = outboxService;
+        this.notificationService = notificationService;
+        this.jobLock = jobLock;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 처리할 이벤트가 없을 때까지 배치 단위로 처리
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        try {
+            List<NotificationOutbox> events;
+            do {
+                events = outboxService.claimDue(batchSize);
+                events.forEach(this::process);
+            } while (events.size() == batchSize);
+        } catch (Exception e) {
+            log.error("알림 outbox 조회 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 매일 03:30에 실행, 처리 완료된 지 7일 지난 이벤트 삭제
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeProcessed() {
+        jobLock.runExclusively("purgeNotificationOutbox", Duration.ofMinutes(10),
+            Duration.ofMinutes(1), () -> {
+                try {
+                    int deleted = outboxService.purgeProcessed(PROCESSED_RETENTION);
+                    log.info("처리 완료된 알림 outbox {}건 삭제", deleted);
+                } catch (Exception e) {
+                    log.error("알림 outbox 정리 중 오류 발생", e);
+                }
+            });
+    }
+
+    private void process(NotificationOutbox event) {
+        // 점유 기간은 이벤트 하나의 처리 시간보다 길어야 함 (notification.outbox.claim-lease-ms)
+        if (!outboxService.renewClaim(event)) {
+            log.debug("다른 서버가 가져간 알림 outbox 건너뜀 - ID: {}", event.getId());
+            return;
+        }
+        try {
+            switch (event.getEventType()) {
+                case LECTURE_CREATED:
+                    notificationService.processLectureSaved(event.getLiveId(), false);
+                    break;
+                case LECTURE_UPDATED:
+                    notificationService.processLectureSaved(event.getLiveId(), true);
+                    break;
+                case LECTURE_DELETED:
+                    notificationService.processLectureDeleted(event.getLiveId(),
+                        event.getLiveTitle(), parseUserIds(event.getRecipientUserIds()));
+                    break;
+                default:
+                    throw new IllegalStateException("알 수 없는 이벤트 종류: " + event.getEventType());
+            }
+            outboxService.markDone(event.getId());
+        } catch (Exception e) {
+            log.warn("알림 outbox 처리 실패 - ID: {}, 시도: {}", event.getId(), event.getAttempts(), e);
+            outboxService.markFailed(event.getId(), e);
+        }
+    }
+
+    private List<Integer> parseUserIds(String userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(userIds.split(","))
+            .map(Integer::valueOf)
+            .collect(Collectors.toList());
+    }
+}
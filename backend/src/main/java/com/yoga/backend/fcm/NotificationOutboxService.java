@@ -0,0 +1,183 @@
+package com.yoga.backend.fcm;
+
+import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.common.entity.MyLiveLecture;
+import com.yoga.backend.common.entity.NotificationOutbox;
+import com.yoga.backend.common.entity.NotificationOutbox.EventType;
+import com.yoga.backend.common.entity.NotificationOutbox.Status;
+import com.yoga.backend.fcm.repository.NotificationOutboxRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림 outbox 저장 및 상태 관리
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final Duration claimLease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+
+    public NotificationOutboxService(NotificationOutboxRepository outboxRepository,
+        @Value("${notification.outbox.claim-lease-ms:60000}") long claimLeaseMillis,
+        @Value("${notification.outbox.initial-backoff-ms:1000}") long initialBackoffMillis,
+        @Value("${notification.outbox.max-backoff-ms:600000}") long maxBackoffMillis,
+        @Value("${notification.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.claimLease = Duration.ofMillis(claimLeaseMillis);
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 강의 생성 이벤트 저장. 호출한 트랜잭션에 참여
+     *
+     * @param lecture 생성된 강의
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lectureCreated(LiveLectures lecture) {
+        save(newEvent(EventType.LECTURE_CREATED, lecture));
+    }
+
+    /**
+     * 강의 수정 이벤트 저장. 호출한 트랜잭션에 참여
+     *
+     * @param lecture 수정된 강의
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lectureUpdated(LiveLectures lecture) {
+        save(newEvent(EventType.LECTURE_UPDATED, lecture));
+    }
+
+    /**
+     * 강의 삭제 이벤트 저장. 예약 정보가 함께 삭제되므로 알림 받을 사용자를 미리 기록
+     *
+     * @param lecture        삭제된 강의
+     * @param myLiveLectures 삭제된 예약 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lectureDeleted(LiveLectures lecture, List<MyLiveLecture> myLiveLectures) {
+        NotificationOutbox event = newEvent(EventType.LECTURE_DELETED, lecture);
+        event.setLiveTitle(lecture.getLiveTitle());
+        event.setRecipientUserIds(myLiveLectures.stream()
+            .map(myLiveLecture -> String.valueOf(myLiveLecture.getUser().getId()))
+            .distinct()
+            .collect(Collectors.joining(",")));
+        save(event);
+    }
+
+    /**
+     * 처리할 이벤트를 점유. 점유 기간 동안 다른 노드는 가져가지 않음
+     *
+     * @param batchSize 최대 개수
+     * @return 점유한 이벤트 목록
+     */
+    @Transactional
+    public List<NotificationOutbox> claimDue(int batchSize) {
+        Instant now = Instant.now();
+        List<NotificationOutbox> events = outboxRepository.findDueForUpdate(Status.PENDING, now,
+            PageRequest.of(0, batchSize));
+        for (NotificationOutbox event : events) {
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(now.plus(claimLease));
+        }
+        return events;
+    }
+
+    /**
+     * 처리 직전에 이벤트 하나의 점유 기간을 다시 늘림. 배치를 순서대로 처리하는 동안 뒤쪽 이벤트의 점유가 만료되어 다른 노드가 가져갔다면
+     * false
+     *
+     * @param event 점유한 이벤트
+     * @return 아직 점유 중이면 true
+     */
+    @Transactional
+    public boolean renewClaim(NotificationOutbox event) {
+        return outboxRepository.extendClaim(event.getId(), Status.PENDING, event.getAttempts(),
+            Instant.now().plus(claimLease)) == 1;
+    }
+
+    /**
+     * 처리 완료 표시
+     *
+     * @param id outbox ID
+     */
+    @Transactional
+    public void markDone(Long id) {
+        outboxRepository.findById(id).ifPresent(event -> {
+            event.setStatus(Status.DONE);
+            event.setProcessedAt(Instant.now());
+            event.setLastError(null);
+        });
+    }
+
+    /**
+     * 처리 실패 기록. 지수 백오프 후 재시도하고, 횟수를 넘기면 FAILED로 변경
+     *
+     * @param id    outbox ID
+     * @param error 실패 원인
+     */
+    @Transactional
+    public void markFailed(Long id, Exception error) {
+        outboxRepository.findById(id).ifPresent(event -> {
+            String message = String.valueOf(error.getMessage());
+            event.setLastError(message.length() > MAX_ERROR_LENGTH
+                ? message.substring(0, MAX_ERROR_LENGTH) : message);
+
+            if (event.getAttempts() >= maxAttempts) {
+                event.setStatus(Status.FAILED);
+                log.error("알림 outbox 처리 포기 - ID: {}, 종류: {}, 강의 ID: {}", id,
+                    event.getEventType(), event.getLiveId());
+                return;
+            }
+            event.setNextAttemptAt(Instant.now().plus(backoff(event.getAttempts())));
+        });
+    }
+
+    /**
+     * 처리 완료된 지 오래된 이벤트 삭제
+     *
+     * @param retention 보관 기간
+     * @return 삭제된 개수
+     */
+    @Transactional
+    public int purgeProcessed(Duration retention) {
+        return outboxRepository.deleteProcessedBefore(Status.DONE,
+            Instant.now().minus(retention));
+    }
+
+    private NotificationOutbox newEvent(EventType eventType, LiveLectures lecture) {
+        Instant now = Instant.now();
+        NotificationOutbox event = new NotificationOutbox();
+        event.setEventType(eventType);
+        event.setLiveId(lecture.getLiveId());
+        event.setCreatedAt(now);
+        event.setNextAttemptAt(now);
+        return event;
+    }
+
+    private void save(NotificationOutbox event) {
+        outboxRepository.save(event);
+        log.info("알림 outbox 저장 - 종류: {}, 강의 ID: {}", event.getEventType(), event.getLiveId());
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -3,19 +3,23 @@ package com.yoga.backend.fcm;
 import com.yoga.backend.common.entity.LiveLectures;
 import com.yoga.backend.common.entity.MyLiveLecture;
 import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.service.ScheduledJobLock;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.common.util.LectureRecurrence;
+import com.yoga.backend.fcm.LectureReminderQueue.Reminder;
 import com.yoga.backend.livelectures.repository.LiveLectureRepository;
+import com.yoga.backend.livelectures.service.LectureOccurrenceService;
 import com.yoga.backend.livelectures.repository.MyLiveLectureRepository;
-import com.yoga.backend.members.repository.UsersRepository;
 import com.yoga.backend.livelectures.dto.LiveLectureDto;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * fcm 알림 전송 서비스
@@ -25,22 +29,48 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
     private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
-    private static final String REDIS_KEY_PREFIX = "yoga:lectures:";
+    private static final int REMINDER_BATCH_SIZE = 500;
+    private static final String REMINDER_SEED_JOB = "seedLectureReminders";
+    private static final Duration REMINDER_SEED_JOB_LEASE = Duration.ofSeconds(30);
+    private static final Duration DAILY_JOB_LEASE = Duration.ofMinutes(10);
+    private static final Duration DAILY_JOB_MIN_HOLD = Duration.ofMinutes(1);
 
     private final LiveLectureRepository liveLectureRepository;
     private final MyLiveLectureRepository myLiveLectureRepository;
     private final FCMService fcmService;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final UsersRepository usersRepository;
+    private final DeviceTokenService deviceTokenService;
+    private final LectureReminderQueue reminderQueue;
+    private final LectureDayCache lectureDayCache;
+    private final ReminderManifestStore manifestStore;
+    private final ReminderDeliveryLedger deliveryLedger;
+    private final ScheduledJobLock jobLock;
+    private final LectureOccurrenceService lectureOccurrenceService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration reminderSeedMinHold;
+
+    // 이 노드에서 알림 예약을 확인한 날짜
+    private final Set<LocalDate> reminderScheduledDates = ConcurrentHashMap.newKeySet();
 
     public NotificationService(LiveLectureRepository liveLectureRepository,
         MyLiveLectureRepository myLiveLectureRepository, FCMService fcmService,
-        RedisTemplate<String, Object> redisTemplate, UsersRepository usersRepository) {
+        DeviceTokenService deviceTokenService, LectureReminderQueue reminderQueue,
+        LectureDayCache lectureDayCache, ReminderManifestStore manifestStore,
+        ReminderDeliveryLedger deliveryLedger, ScheduledJobLock jobLock,
+        LectureOccurrenceService lectureOccurrenceService, TransactionTemplate transactionTemplate,
+        @Value("${notification.reminder.poll-interval-ms:5000}") long pollIntervalMillis) {
         this.liveLectureRepository = liveLectureRepository;
         this.myLiveLectureRepository = myLiveLectureRepository;
         this.fcmService = fcmService;
-        this.redisTemplate = redisTemplate;
-        this.usersRepository = usersRepository;
+        this.deviceTokenService = deviceTokenService;
+        this.reminderQueue = reminderQueue;
+        this.lectureDayCache = lectureDayCache;
+        this.manifestStore = manifestStore;
+        this.deliveryLedger = deliveryLedger;
+        this.jobLock = jobLock;
+        this.lectureOccurrenceService = lectureOccurrenceService;
+        this.transactionTemplate = transactionTemplate;
+        // 다른 서버가 같은 주기에 다시 실행하지 않도록 주기의 절반 동안 임대 유지
+        this.reminderSeedMinHold = Duration.ofMillis(pollIntervalMillis / 2);
     }
 
 
@@ -49,90 +79,84 @@ public class NotificationService {
      *
      * @param updatedLecture 업데이트된 강의 정보
      */
-    @Transactional
     public void handleLectureUpdate(LiveLectures updatedLecture) {
         LiveLectureDto lectureDTO = LiveLectureDto.fromEntity(updatedLecture);
-        LocalDate startDate = lectureDTO.getStartDate().atZone(KOREA_ZONE).toLocalDate();
-        LocalDate endDate = lectureDTO.getEndDate().atZone(KOREA_ZONE).toLocalDate();
-        LocalTime lectureStartTime = extractTimeFromInstant(lectureDTO.getStartTime());
-        Set<DayOfWeek> availableDays = parseAvailableDays(lectureDTO.getAvailableDay());
+        LectureRecurrence recurrence = LectureRecurrence.of(updatedLecture);
+        LocalDate startDate = recurrence.getStartDate();
+        LocalDate endDate = recurrence.getEndDate();
+        LocalTime lectureStartTime = recurrence.getStartTime();
 
         log.info("강의 업데이트 시작, Redis 캐시의 강의 업데이트 - ID: {}, 제목: {}, 시작일: {}, 종료일: {}, 요일: {}",
             lectureDTO.getLiveId(), lectureDTO.getLiveTitle(), startDate, endDate,
             lectureDTO.getAvailableDay());
 
         LocalDate today = LocalDate.now(KOREA_ZONE);
-        boolean updatedToday = false;
-
-        // 강의 기간 동안 각 날짜에 대해
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            if (availableDays.contains(date.getDayOfWeek())) {
-                String redisKey = REDIS_KEY_PREFIX + date.toString();
-                List<LiveLectureDto> lectures = getLecturesFromRedis(redisKey);
-                boolean found = false;
-
-                // 기존 강의 업데이트 or 새 강의 추가
-                for (int i = 0; i < lectures.size(); i++) {
-                    if (lectures.get(i).getLiveId().equals(lectureDTO.getLiveId())) {
-                        lectures.set(i, lectureDTO);
-                        found = true;
-                        log.info("기존 강의 업데이트, Redis 캐시의 강의 업데이트 - 날짜: {}, 강의 ID: {}", date, lectureDTO.getLiveId());
-                        break;
-                    }
-                }
-                if (!found) {
-                    lectures.add(lectureDTO);
-                    log.info("새 강의 추가, Redis 캐시에 강의 추가 - 날짜: {}, 강의 ID: {}", date, lectureDTO.getLiveId());
-                }
-
-                // redis에 강의 정보 저장
-                redisTemplate.opsForValue().set(redisKey, lectures);
-                redisTemplate.expireAt(redisKey,
-                    Date.from(date.plusDays(1).atStartOfDay(KOREA_ZONE).toInstant()));
-                log.info("강의 ID {} Redis 캐시 업데이트 완료 (날짜: {}, 시작 시간: {})",
-                    lectureDTO.getLiveId(), date, lectureStartTime);
-
-                // 오늘 강의라면
-                if (date.equals(today)) {
-                    updatedToday = true;
-                }
+        LocalDate tomorrow = today.plusDays(1);
+
+        // 기존 알림 예약 취소 후 오늘, 내일 알림만 다시 예약. 이후 날짜는 매일 스케줄러가 예약
+        reminderQueue.unschedule(lectureDTO.getLiveId());
+
+        // 캐시 기간 안에서 강의가 열리는 날짜만 반영
+        List<LocalDate> lectureDates = new ArrayList<>();
+        for (LocalDate date = recurrence.next(today);
+            date != null && lectureDayCache.isWithinHorizon(date);
+            date = recurrence.next(date.plusDays(1))) {
+            lectureDates.add(date);
+
+            if (date.equals(today) || date.equals(tomorrow)) {
+                reminderQueue.schedule(lectureDTO.getLiveId(), date, lectureStartTime,
+                    KOREA_ZONE);
+                refreshReminderManifest(date, lectureDTO);
             }
         }
+        lectureDayCache.upsert(lectureDTO, lectureDates);
 
-        // 오늘 강의라면 스케줄러 실행
-        if (updatedToday) {
-            log.info("오늘 날짜의 강의가 업데이트되어 스케줄러를 즉시 실행합니다.");
-            checkUpcomingLecturesAndNotify();
-        }
         log.info("강의 업데이트 완료 - ID: {}", lectureDTO.getLiveId());
     }
 
+    /**
+     * outbox의 강의 생성/수정 이벤트 처리. 커밋된 최신 강의 정보로 캐시와 알림 예약을 갱신
+     * <p>
+     * 트랜잭션 없이 실행. 강의와 수강생 조회는 각 리포지토리의 짧은 읽기 트랜잭션으로 끝나고, redis 갱신과 FCM 전송 중에는 DB 연결을 잡지 않음
+     *
+     * @param liveId             강의 ID
+     * @param notifyParticipants 수강생에게 수정 알림을 보낼지 여부
+     */
+    public void processLectureSaved(Long liveId, boolean notifyParticipants) {
+        LiveLectures lecture = liveLectureRepository.findById(liveId).orElse(null);
+        if (lecture == null) {
+            log.info("이미 삭제된 강의 이벤트 무시 - ID: {}", liveId);
+            return;
+        }
+        handleLectureUpdate(lecture);
+        if (notifyParticipants) {
+            sendLectureUpdateNotification(lecture);
+        }
+    }
+
+    /**
+     * outbox의 강의 삭제 이벤트 처리. 트랜잭션 없이 redis 정리와 FCM 전송만 수행
+     *
+     * @param liveId    강의 ID
+     * @param liveTitle 강의 제목
+     * @param userIds   알림 받을 사용자 ID
+     */
+    public void processLectureDeleted(Long liveId, String liveTitle, Collection<Integer> userIds) {
+        handleLectureDelete(liveId);
+        sendLectureDeletionNotification(liveId, liveTitle, userIds);
+    }
+
     /**
      * 강의가 삭제된 경우
      *
      * @param liveId 삭제할 강의 ID
      */
-    @Transactional
     public void handleLectureDelete(Long liveId) {
         log.info("강의 삭제 시작 - ID: {}", liveId);
-        Set<String> keys = redisTemplate.keys(REDIS_KEY_PREFIX + "*");
-        log.info("검색된 Redis 키 수: {}", keys.size());
-
-        // 모든 Redis 키에 대해 강의 삭제
-        for (String key : keys) {
-            List<Object> lecturesFromRedis = (List<Object>) redisTemplate.opsForValue().get(key);
-            if (lecturesFromRedis != null) {
-
-                List<LiveLectureDto> lectures = convertToLiveLectureDtoList(lecturesFromRedis);
-                int initialSize = lectures.size();
-                lectures.removeIf(lecture -> lecture.getLiveId().equals(liveId));
-
-                if (lectures.size() < initialSize) {
-                    redisTemplate.opsForValue().set(key, lectures);
-                    log.info("강의 ID {} Redis 캐시에서 삭제 완료 (키: {})", liveId, key);
-                }
-            }
-        }
+        reminderQueue.unschedule(liveId);
+        lectureDayCache.evict(liveId);
+        LocalDate today = LocalDate.now(KOREA_ZONE);
+        manifestStore.remove(liveId, List.of(today, today.plusDays(1)));
         log.info("강의 삭제 완료 - ID: {}", liveId);
     }
 
@@ -141,29 +165,20 @@ public class NotificationService {
      * 매일 23:49에 실행, 내일 할 강의 캐시
      */
     @Scheduled(cron = "0 49 23 * * *")
-    @Transactional
     public void cacheTomorrowLectures() {
+        jobLock.runExclusively("cacheTomorrowLectures", DAILY_JOB_LEASE, DAILY_JOB_MIN_HOLD,
+            this::refreshTomorrowLectures);
+    }
+
+    private void refreshTomorrowLectures() {
         try {
             LocalDate tomorrowKorea = LocalDate.now(KOREA_ZONE).plusDays(1);
-            String tomorrowDayAbbreviation = tomorrowKorea.getDayOfWeek().toString()
-                .substring(0, 3);
-
-            List<LiveLectures> tomorrowLectures = liveLectureRepository.findTomorrowLectures(
-                tomorrowKorea, tomorrowDayAbbreviation); // 여기서 에러 발생
-
-            if (!tomorrowLectures.isEmpty()) {
-                String redisKey = REDIS_KEY_PREFIX + tomorrowKorea.toString();
-                List<LiveLectureDto> tomorrowLectureDtos = tomorrowLectures.stream()
-                    .map(LiveLectureDto::fromEntity)
-                    .collect(Collectors.toList());
-
-                redisTemplate.opsForValue().set(redisKey, tomorrowLectureDtos);
-                redisTemplate.expireAt(redisKey,
-                    Date.from(tomorrowKorea.plusDays(1).atStartOfDay(KOREA_ZONE).toInstant()));
-                log.info("내일 강의 목록 Redis 캐시 갱신 완료. 강의 개수: {}", tomorrowLectureDtos.size());
-            } else {
-                log.info("내일 예정된 강의가 없습니다.");
-            }
+            List<LiveLectureDto> tomorrowLectureDtos = findLecturesOn(tomorrowKorea);
+
+            lectureDayCache.putDay(tomorrowKorea, tomorrowLectureDtos);
+            log.info("내일 강의 목록 Redis 캐시 갱신 완료. 강의 개수: {}", tomorrowLectureDtos.size());
+
+            buildReminderManifests(tomorrowKorea, tomorrowLectureDtos);
         } catch (Exception e) {
             log.error("내일 강의 목록 Redis 캐시 갱신 중 에러 발생", e);
         }
@@ -174,12 +189,14 @@ public class NotificationService {
      */
     @Scheduled(cron = "0 5 0 * * *")
     public void cleanYesterdayCache() {
+        jobLock.runExclusively("cleanYesterdayCache", DAILY_JOB_LEASE, DAILY_JOB_MIN_HOLD,
+            this::evictYesterdayCache);
+    }
+
+    private void evictYesterdayCache() {
         try {
             LocalDate yesterday = LocalDate.now(KOREA_ZONE).minusDays(1);
-            String redisKey = REDIS_KEY_PREFIX + yesterday.toString();
-
-            Boolean deleted = redisTemplate.delete(redisKey);
-            if (Boolean.TRUE.equals(deleted)) {
+            if (lectureDayCache.evictDay(yesterday)) {
                 log.info("전날({})의 캐시 삭제 완료", yesterday);
             } else {
                 log.warn("전날({})의 캐시가 존재하지 않거나 삭제 실패", yesterday);
@@ -190,57 +207,76 @@ public class NotificationService {
     }
 
     /**
-     * 1분마다 실행, 예정된 강의를 확인 및 알림 전송
+     * 발송 시각이 된 알림만 꺼내서 전송. 서버마다 담당 파티션의 알림만 처리하므로 서버 수만큼 처리량이 늘어남
      */
-    @Scheduled(cron = "0 */1 * * * *")
-    @Transactional
+    @Scheduled(fixedDelayString = "${notification.reminder.poll-interval-ms:5000}")
     public void checkUpcomingLecturesAndNotify() {
+        // 하루치 알림 예약은 한 서버만 수행
+        jobLock.runExclusively(REMINDER_SEED_JOB, REMINDER_SEED_JOB_LEASE, reminderSeedMinHold,
+            this::seedReminders);
+        // 발송은 서버마다 담당 파티션만 수행
+        dispatchDueReminders();
+    }
+
+    /**
+     * 아직 예약하지 않은 날짜가 있을 때만 트랜잭션을 열어 예약. 발송 경로는 트랜잭션 없이 redis와 FCM만 사용
+     */
+    private void seedReminders() {
         try {
-            LocalDateTime nowKorea = LocalDateTime.now(KOREA_ZONE);
-            LocalDate todayKorea = nowKorea.toLocalDate();
-            String dayAbbreviation = todayKorea.getDayOfWeek().toString().substring(0, 3);
-
-            String redisKey = REDIS_KEY_PREFIX + todayKorea.toString();
-            List<LiveLectureDto> todayLectures = getLecturesFromRedis(redisKey);
-
-            if (todayLectures.isEmpty()) {
-//                log.warn("redis에서 오늘의 강의 목록 조회 불가. DB에서 조회.");
-                todayLectures = liveLectureRepository.findLecturesForToday(todayKorea,
-                        dayAbbreviation)
-                    .stream()
-                    .map(LiveLectureDto::fromEntity)
-                    .collect(Collectors.toList());
-
-                redisTemplate.opsForValue().set(redisKey, todayLectures);
-                redisTemplate.expireAt(redisKey,
-                    Date.from(todayKorea.plusDays(1).atStartOfDay(KOREA_ZONE).toInstant()));
+            LocalDate todayKorea = LocalDate.now(KOREA_ZONE);
+            List<LocalDate> pending = new ArrayList<>();
+            for (LocalDate date : List.of(todayKorea, todayKorea.plusDays(1))) {
+                if (!reminderScheduledDates.contains(date)) {
+                    pending.add(date);
+                }
             }
+            if (!pending.isEmpty()) {
+                transactionTemplate.executeWithoutResult(
+                    status -> pending.forEach(this::ensureRemindersScheduled));
+            }
+        } catch (Exception e) {
+            log.error("강의 알림 예약 중 오류 발생", e);
+        }
+    }
 
-            log.info("오늘 강의 목록 확인 완료. 강의 개수: {}", todayLectures.size());
-
-            // 10분 후에 시작하는 강의 찾기
-            LocalDateTime tenMinutesLater = nowKorea.plusMinutes(10);
+    private void dispatchDueReminders() {
+        try {
+            Instant now = Instant.now();
+            List<Reminder> dueReminders = reminderQueue.popDue(now, REMINDER_BATCH_SIZE);
+            if (dueReminders.isEmpty()) {
+                return;
+            }
 
-            List<LiveLectureDto> upcomingLectures = todayLectures.stream()
-                .filter(lecture -> {
-                    LocalDate lectureDate = lecture.getStartDate().atZone(ZoneOffset.UTC)
-                        .withZoneSameInstant(ZoneId.of("UTC")).toLocalDate();
-                    LocalTime lectureStartTime = lecture.getStartTime().atZone(ZoneOffset.UTC)
-                        .withZoneSameInstant(ZoneId.of("UTC")).toLocalTime();
-                    LocalDateTime lectureStartDateTime = LocalDateTime.of(lectureDate,
-                        lectureStartTime);
+            // 같은 날짜, 같은 알림 시점끼리 묶어서 전송
+            Map<LocalDate, Map<Long, LiveLectureDto>> lecturesByDate = new HashMap<>();
+            Map<String, List<LiveLectureDto>> groups = new LinkedHashMap<>();
+            Map<String, Reminder> groupKeys = new HashMap<>();
+
+            for (Reminder reminder : dueReminders) {
+                LiveLectureDto lecture = lecturesByDate
+                    .computeIfAbsent(reminder.getDate(), this::loadDayLecturesById)
+                    .get(reminder.getLiveId());
+                if (lecture == null) {
+                    continue;
+                }
 
-                    return lectureStartDateTime.isAfter(nowKorea) &&
-                        lectureStartDateTime.isBefore(tenMinutesLater.plusSeconds(30)) &&
-                        lectureStartDateTime.isAfter(tenMinutesLater.minusSeconds(30));
-                })
-                .collect(Collectors.toList());
+                // 이미 시작한 강의는 알림 생략
+                Instant lectureStart = reminder.getDate()
+                    .atTime(extractTimeFromInstant(lecture.getStartTime()))
+                    .atZone(KOREA_ZONE).toInstant();
+                if (!lectureStart.isAfter(now)) {
+                    continue;
+                }
 
-//            log.info("알림을 보낼 강의 수: {}", upcomingLectures.size());
+                String groupKey = reminder.getDate() + ":" + reminder.getLeadMinutes();
+                groups.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(lecture);
+                groupKeys.putIfAbsent(groupKey, reminder);
+            }
 
-            // 곧 시작할 강의가 있다면 FCM 전송
-            if (!upcomingLectures.isEmpty()) {
-                sendNotificationsWithoutDuplication(upcomingLectures);
+            for (Map.Entry<String, List<LiveLectureDto>> group : groups.entrySet()) {
+                Reminder reminder = groupKeys.get(group.getKey());
+                sendNotificationsWithoutDuplication(group.getValue(), reminder.getDate(),
+                    reminder.getLeadMinutes());
             }
         } catch (Exception e) {
             log.error("예정된 강의 확인 및 알림 전송 중 오류 발생", e);
@@ -248,157 +284,227 @@ public class NotificationService {
     }
 
     /**
-     * 알림 전송
+     * 해당 날짜의 알림이 예약되지 않았다면 그날 강의 전체를 예약
      *
-     * @param lectures 알림 보낼 강의 목록
+     * @param date 강의 날짜
      */
-    private void sendNotificationsWithoutDuplication(List<LiveLectureDto> lectures) {
-        Map<String, Map<String, String>> notifications = new HashMap<>();
-
-        LocalDateTime nowKorea = LocalDateTime.now(KOREA_ZONE);
-        LocalDate todayKorea = nowKorea.toLocalDate();
-        String dayAbbreviation = todayKorea.getDayOfWeek().toString().substring(0, 3);
-
-        for (LiveLectureDto lecture : lectures) {
-            String message = String.format("%s 강의가 10분 후에 시작됩니다.", lecture.getLiveTitle());
+    private void ensureRemindersScheduled(LocalDate date) {
+        if (reminderScheduledDates.contains(date)) {
+            return;
+        }
 
-            Map<String, String> notificationData = new HashMap<>();
-            notificationData.put("body", message);
-            notificationData.put("liveId", lecture.getLiveId().toString());
+        if (!manifestStore.isBuilt(date)) {
+            buildReminderManifests(date, loadDayLectures(date));
+        }
 
-            Users teacher = usersRepository.findByIdAndIsDeletedFalse(lecture.getUserId()).orElse(null);
-            if (teacher != null && teacher.getFcmToken() != null) {
-                notifications.put(teacher.getFcmToken(), notificationData);
+        if (!reminderQueue.isScheduled(date)) {
+            List<LiveLectureDto> lectures = loadDayLectures(date);
+            for (LiveLectureDto lecture : lectures) {
+                reminderQueue.schedule(lecture.getLiveId(), date,
+                    extractTimeFromInstant(lecture.getStartTime()), KOREA_ZONE);
             }
+            reminderQueue.markScheduled(date);
+            log.info("{} 강의 알림 예약 완료. 강의 개수: {}", date, lectures.size());
+        }
 
-            List<MyLiveLecture> participants = myLiveLectureRepository.findParticipantsForTodayLecture(
-                lecture.getLiveId(), todayKorea, dayAbbreviation);
+        reminderScheduledDates.add(date);
+        reminderScheduledDates.removeIf(scheduled -> scheduled.isBefore(date.minusDays(1)));
+    }
 
-            for (MyLiveLecture participant : participants) {
-                Users student = participant.getUser();
-                if (student != null && student.getFcmToken() != null) {
-                    notifications.put(student.getFcmToken(), notificationData);
-                }
-            }
+    /**
+     * 해당 날짜의 강의 캐시, 수신자 명단, 알림 예약을 DB 기준으로 다시 만듦. 데이터를 직접 넣은 뒤(부하 테스트 등) 반영할 때 사용
+     *
+     * @param date 강의 날짜
+     * @return 예약한 강의 개수
+     */
+    public int rebuildReminders(LocalDate date) {
+        List<LiveLectureDto> lectures = findLecturesOn(date);
+
+        lectureDayCache.putDay(date, lectures);
+        buildReminderManifests(date, lectures);
+        for (LiveLectureDto lecture : lectures) {
+            reminderQueue.schedule(lecture.getLiveId(), date,
+                extractTimeFromInstant(lecture.getStartTime()), KOREA_ZONE);
         }
+        reminderQueue.markScheduled(date);
+        reminderScheduledDates.add(date);
+        log.info("{} 강의 알림 재구성 완료. 강의 개수: {}", date, lectures.size());
+        return lectures.size();
+    }
 
-        // 배치로 알림 전송
-        try {
-            if (!notifications.isEmpty()) {
-                fcmService.sendBatchMessagesWithData("강의 시작 10분 전입니다.", notifications);
-                log.info("총 {} 명에게 알림 전송 완료", notifications.size());
-            }
-        } catch (FirebaseMessagingException e) {
-            log.error("알림 전송 중 오류 발생", e);
+    /**
+     * 해당 날짜의 강의 목록을 redis에서 불러오고, 없으면 DB에서 조회해 캐시
+     *
+     * @param date 강의 날짜
+     * @return 강의 DTO 목록
+     */
+    private List<LiveLectureDto> loadDayLectures(LocalDate date) {
+        Map<Long, LiveLectureDto> cached = lectureDayCache.getDay(date);
+        if (cached != null) {
+            return new ArrayList<>(cached.values());
         }
+
+        List<LiveLectureDto> lectures = findLecturesOn(date);
+
+        lectureDayCache.putDay(date, lectures);
+        return lectures;
     }
 
     /**
-     * 객체 리스트를 LiveLectureDto 리스트로
+     * 해당 날짜 강의를 DB에서 조회. 회차 테이블이 그날을 채웠으면 날짜 인덱스로, 아니면 강의 기간과 요일로 조회
      *
-     * @param objects 변환할 객체 리스트
-     * @return 변환된 LiveLectureDto 리스트
+     * @param date 강의 날짜
+     * @return 강의 DTO 목록 (시작 시간 순)
      */
-    private List<LiveLectureDto> convertToLiveLectureDtoList(List<Object> objects) {
-        return objects.stream()
-            .map(obj -> {
-                if (obj instanceof Map) {
-                    return convertMapToLiveLectureDto((Map<String, Object>) obj);
-                } else if (obj instanceof LiveLectureDto) {
-                    return (LiveLectureDto) obj;
-                } else {
-                    throw new IllegalArgumentException("알 수 없는 Object 타입 : " + obj.getClass());
-                }
-            })
+    private List<LiveLectureDto> findLecturesOn(LocalDate date) {
+        List<LiveLectures> lectures;
+        if (lectureOccurrenceService.covers(date)) {
+            lectures = liveLectureRepository.findLecturesOn(date);
+        } else {
+            int dayMask = DayMask.of(date.getDayOfWeek());
+            lectures = liveLectureRepository.findLecturesForToday(date, dayMask);
+        }
+        return lectures.stream()
+            .map(LiveLectureDto::fromEntity)
             .collect(Collectors.toList());
     }
 
+    private Map<Long, LiveLectureDto> loadDayLecturesById(LocalDate date) {
+        return loadDayLectures(date).stream()
+            .collect(Collectors.toMap(LiveLectureDto::getLiveId, lecture -> lecture,
+                (first, second) -> second));
+    }
 
     /**
-     * Map을 LiveLectureDto로
+     * 해당 날짜 강의들의 알림 수신자 명단 생성. 학생 목록과 토큰을 집합 단위 쿼리로 한 번에 조회
      *
-     * @param map 변환할 Map 객체
-     * @return 변환된 LiveLectureDto 객체
+     * @param date     강의 날짜
+     * @param lectures 그날 강의 목록
      */
-    private LiveLectureDto convertMapToLiveLectureDto(Map<String, Object> map) {
-        LiveLectureDto dto = new LiveLectureDto();
-        dto.setLiveId(((Number) map.get("liveId")).longValue());
-        dto.setLiveTitle((String) map.get("liveTitle"));
-        dto.setLiveContent((String) map.get("liveContent"));
-        dto.setStartDate(Instant.parse((String) map.get("startDate")));
-        dto.setEndDate(Instant.parse((String) map.get("endDate")));
-        dto.setStartTime(Instant.parse((String) map.get("startTime")));
-        dto.setEndTime(Instant.parse((String) map.get("endTime")));
-        dto.setMaxLiveNum((Integer) map.get("maxLiveNum"));
-        dto.setAvailableDay((String) map.get("availableDay"));
-        dto.setRegDate(Instant.parse((String) map.get("regDate")));
-        dto.setUserId((Integer) map.get("userId"));
-        return dto;
+    private void buildReminderManifests(LocalDate date, List<LiveLectureDto> lectures) {
+        Map<Long, Set<Integer>> recipientsByLiveId = new HashMap<>();
+        for (LiveLectureDto lecture : lectures) {
+            recipientsByLiveId.computeIfAbsent(lecture.getLiveId(), id -> new HashSet<>())
+                .add(lecture.getUserId());
+        }
+
+        List<Object[]> participants;
+        if (lectureOccurrenceService.covers(date)) {
+            participants = myLiveLectureRepository.findParticipantIdsOn(date);
+        } else {
+            int dayMask = DayMask.of(date.getDayOfWeek());
+            participants = myLiveLectureRepository.findParticipantIdsForDate(date,
+                dayMask);
+        }
+        for (Object[] row : participants) {
+            Set<Integer> recipients = recipientsByLiveId.get((Long) row[0]);
+            if (recipients != null) {
+                recipients.add((Integer) row[1]);
+            }
+        }
+
+        Set<Integer> userIds = new HashSet<>();
+        recipientsByLiveId.values().forEach(userIds::addAll);
+        manifestStore.build(date, recipientsByLiveId, findFcmTokens(userIds));
     }
 
     /**
-     * Instant에서 LocalTime 추출
+     * 강의 하나의 알림 수신자 명단 갱신
      *
-     * @param instant 시간 정보를 포함한 Instant
-     * @return 추출된 LocalTime
+     * @param date    강의 날짜
+     * @param lecture 강의
      */
-    private LocalTime extractTimeFromInstant(Instant instant) {
-        return LocalTime.ofInstant(instant, ZoneOffset.UTC);
+    private void refreshReminderManifest(LocalDate date, LiveLectureDto lecture) {
+        if (!manifestStore.isBuilt(date)) {
+            return;
+        }
+
+        Set<Integer> recipients = new HashSet<>();
+        recipients.add(lecture.getUserId());
+        if (lectureOccurrenceService.covers(date)) {
+            recipients.addAll(myLiveLectureRepository.findLectureParticipantIdsOn(
+                lecture.getLiveId(), date));
+        } else {
+            int dayMask = DayMask.of(date.getDayOfWeek());
+            for (MyLiveLecture participant : myLiveLectureRepository.findParticipantsForTodayLecture(
+                lecture.getLiveId(), date, dayMask)) {
+                recipients.add(participant.getUser().getId());
+            }
+        }
+        manifestStore.replaceLecture(date, lecture.getLiveId(), recipients,
+            findFcmTokens(recipients));
+    }
+
+    private Map<Integer, List<String>> findFcmTokens(Set<Integer> userIds) {
+        return deviceTokenService.findTokens(userIds);
     }
 
     /**
-     * Redis에서 강의 목록 불러옴
+     * 예약 생성 시 오늘, 내일 알림 명단에 수강생 추가
      *
-     * @param redisKey Redis 키
-     * @return 강의 DTO 목록
+     * @param reservation 생성된 예약
      */
-    private List<LiveLectureDto> getLecturesFromRedis(String redisKey) {
-        List<Object> lecturesFromRedis = (List<Object>) redisTemplate.opsForValue().get(redisKey);
+    public void handleReservationCreated(MyLiveLecture reservation) {
+        LiveLectures lecture = reservation.getLiveLecture();
+        LectureRecurrence recurrence = LectureRecurrence.of(lecture, reservation);
+        Users student = reservation.getUser();
 
-        if (lecturesFromRedis == null) {
-            return new ArrayList<>();
+        LocalDate today = LocalDate.now(KOREA_ZONE);
+        for (LocalDate date : List.of(today, today.plusDays(1))) {
+            if (recurrence.occursOn(date)) {
+                manifestStore.addRecipient(date, lecture.getLiveId(), student.getId());
+            }
         }
-        return convertToLiveLectureDtoList(lecturesFromRedis);
+        deviceTokenService.refreshDirectory(student.getId());
     }
 
     /**
-     * 요일 문자열을 DayOfWeek 집합으로
+     * 알림 전송
      *
-     * @param availableDays 가능한 요일 문자열
-     * @return DayOfWeek 집합
+     * @param lectures    알림 보낼 강의 목록
+     * @param date        강의 날짜
+     * @param leadMinutes 강의 시작 몇 분 전 알림인지
      */
-    private Set<DayOfWeek> parseAvailableDays(String availableDays) {
-        return Arrays.stream(availableDays.split(","))
-            .map(String::trim)
-            .map(this::mapToDayOfWeek)
-            .collect(Collectors.toSet());
+    private void sendNotificationsWithoutDuplication(List<LiveLectureDto> lectures,
+        LocalDate date, int leadMinutes) {
+        Map<String, Map<String, String>> notifications = new HashMap<>();
+
+        for (LiveLectureDto lecture : lectures) {
+            String message = String.format("%s 강의가 %d분 후에 시작됩니다.", lecture.getLiveTitle(),
+                leadMinutes);
+
+            Map<String, String> notificationData = new HashMap<>();
+            notificationData.put("body", message);
+            notificationData.put("liveId", lecture.getLiveId().toString());
+
+            // 미리 만들어 둔 명단에서 수신자 토큰 조회 후, 이미 보낸 토큰은 제외
+            Set<String> tokens = manifestStore.resolveTokens(date, lecture.getLiveId());
+            for (String token : deliveryLedger.claim(lecture.getLiveId(), date, leadMinutes,
+                tokens)) {
+                notifications.put(token, notificationData);
+            }
+        }
+
+        // 배치로 알림 전송
+        try {
+            if (!notifications.isEmpty()) {
+                fcmService.sendBatchMessagesWithData(
+                    String.format("강의 시작 %d분 전입니다.", leadMinutes), notifications);
+                log.info("총 {} 명에게 알림 전송 완료", notifications.size());
+            }
+        } catch (Exception e) {
+            log.error("알림 전송 중 오류 발생", e);
+        }
     }
 
     /**
-     * 요일 문자열을 DayOfWeek 열거형으로
+     * Instant에서 LocalTime 추출
      *
-     * @param day 요일 문자열
-     * @return 해당하는 DayOfWeek 열거형
+     * @param instant 시간 정보를 포함한 Instant
+     * @return 추출된 LocalTime
      */
-    private DayOfWeek mapToDayOfWeek(String day) {
-        switch (day.toUpperCase()) {
-            case "MON":
-                return DayOfWeek.MONDAY;
-            case "TUE":
-                return DayOfWeek.TUESDAY;
-            case "WED":
-                return DayOfWeek.WEDNESDAY;
-            case "THU":
-                return DayOfWeek.THURSDAY;
-            case "FRI":
-                return DayOfWeek.FRIDAY;
-            case "SAT":
-                return DayOfWeek.SATURDAY;
-            case "SUN":
-                return DayOfWeek.SUNDAY;
-            default:
-                throw new IllegalArgumentException("Invalid day: " + day);
-        }
+    private LocalTime extractTimeFromInstant(Instant instant) {
+        return LocalTime.ofInstant(instant, ZoneOffset.UTC);
     }
 
     /**
@@ -414,13 +520,19 @@ public class NotificationService {
         String message = String.format("%s 강의의 일정 혹은 내용이 업데이트되었습니다.",
             updatedLecture.getLiveTitle());
 
+        Set<Integer> userIds = new HashSet<>();
         for (MyLiveLecture participant : participants) {
-            Users user = participant.getUser();
-            if (user != null && user.getFcmToken() != null) {
-                Map<String, String> notificationData = new HashMap<>();
-                notificationData.put("body", message);
-                notificationData.put("liveId", updatedLecture.getLiveId().toString());
-                notifications.put(user.getFcmToken(), notificationData);
+            if (participant.getUser() != null) {
+                userIds.add(participant.getUser().getId());
+            }
+        }
+
+        Map<String, String> notificationData = new HashMap<>();
+        notificationData.put("body", message);
+        notificationData.put("liveId", updatedLecture.getLiveId().toString());
+        for (List<String> tokens : findFcmTokens(userIds).values()) {
+            for (String token : tokens) {
+                notifications.put(token, notificationData);
             }
         }
 
@@ -430,7 +542,7 @@ public class NotificationService {
                 log.info("강의 ID: {}의 일정 업데이트 알림 {} 명에게 전송", updatedLecture.getLiveId(),
                     notifications.size());
             }
-        } catch (FirebaseMessagingException e) {
+        } catch (Exception e) {
             log.error("강의 일정 업데이트 알림 전송 중 오류 발생", e);
         }
     }
@@ -438,20 +550,21 @@ public class NotificationService {
     /**
      * 강의 삭제 알림 전송
      *
-     * @param myLiveLectures 삭제할 강의들 정보
+     * @param liveId    삭제된 강의 ID
+     * @param liveTitle 삭제된 강의 제목
+     * @param userIds   알림 받을 사용자 ID
      */
-    public void sendLectureDeletionNotification(LiveLectures lecture,
-        List<MyLiveLecture> myLiveLectures) {
-        String message = String.format("강의 '%s'가 삭제되었습니다.", lecture.getLiveTitle());
+    public void sendLectureDeletionNotification(Long liveId, String liveTitle,
+        Collection<Integer> userIds) {
+        String message = String.format("강의 '%s'가 삭제되었습니다.", liveTitle);
         Map<String, Map<String, String>> notifications = new HashMap<>();
 
-        for (MyLiveLecture myLiveLecture : myLiveLectures) {
-            Users user = myLiveLecture.getUser();
-            if (user != null && user.getFcmToken() != null) {
-                Map<String, String> notificationData = new HashMap<>();
-                notificationData.put("body", message);
-                notificationData.put("liveId", lecture.getLiveId().toString());
-                notifications.put(user.getFcmToken(), notificationData);
+        Map<String, String> notificationData = new HashMap<>();
+        notificationData.put("body", message);
+        notificationData.put("liveId", liveId.toString());
+        for (List<String> tokens : findFcmTokens(new HashSet<>(userIds)).values()) {
+            for (String token : tokens) {
+                notifications.put(token, notificationData);
             }
         }
 
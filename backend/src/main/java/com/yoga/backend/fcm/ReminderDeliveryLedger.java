@@ -0,0 +1,65 @@
+package com.yoga.backend.fcm;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의 알림 전송 기록. 같은 강의·날짜·알림 시점에 같은 토큰으로 두 번 보내지 않도록 redis set에 기록
+ */
+@Component
+public class ReminderDeliveryLedger {
+
+    private static final String LEDGER_KEY_PREFIX = "yoga:reminders:sent:";
+    private static final Duration LEDGER_TTL = Duration.ofDays(2);
+
+    // 처음 기록된 토큰만 반환. 확인과 기록을 한 번에 수행
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+        "local claimed = {} "
+            + "for i = 2, #ARGV do "
+            + "  if redis.call('SADD', KEYS[1], ARGV[i]) == 1 then "
+            + "    claimed[#claimed + 1] = ARGV[i] "
+            + "  end "
+            + "end "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[1]) "
+            + "return claimed", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public ReminderDeliveryLedger(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 아직 보내지 않은 토큰만 골라 전송한 것으로 기록
+     *
+     * @param liveId      강의 ID
+     * @param date        강의 날짜
+     * @param leadMinutes 강의 시작 몇 분 전 알림인지
+     * @param tokens      보낼 토큰
+     * @return 이번에 보내야 할 토큰
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> claim(Long liveId, LocalDate date, int leadMinutes,
+        Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> args = new ArrayList<>(tokens.size() + 1);
+        args.add(String.valueOf(LEDGER_TTL.toMillis()));
+        args.addAll(tokens);
+
+        List<String> claimed = stringRedisTemplate.execute(CLAIM_SCRIPT,
+            Collections.singletonList(LEDGER_KEY_PREFIX + date + ":" + liveId + ":" + leadMinutes),
+            args.toArray());
+        return claimed == null ? Collections.emptyList() : claimed;
+    }
+}
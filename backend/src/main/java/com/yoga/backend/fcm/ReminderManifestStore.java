@@ -0,0 +1,214 @@
+package com.yoga.backend.fcm;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의 알림 수신자 명단. 알림 발송 시점에 DB를 조회하지 않도록 미리 만들어 redis에 저장
+ * <p>
+ * 날짜·강의별 수신자 ID 집합과 사용자 ID -> FCM 토큰 hash로 구성. 토큰이 바뀌면 hash만 갱신하면 됨. 기기가 여러 대면 토큰을
+ * 쉼표로 이어 저장
+ */
+@Slf4j
+@Component
+public class ReminderManifestStore {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String MANIFEST_KEY_PREFIX = "yoga:reminders:manifest:";
+    private static final String BUILT_MARKER_KEY_PREFIX = "yoga:reminders:manifest-built:";
+    private static final String TOKEN_DIRECTORY_KEY = "yoga:fcm:tokens";
+    private static final String TOKEN_SEPARATOR = ",";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public ReminderManifestStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    /**
+     * 해당 날짜의 명단이 만들어졌는지 확인
+     *
+     * @param date 강의 날짜
+     * @return 생성 여부
+     */
+    public boolean isBuilt(LocalDate date) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BUILT_MARKER_KEY_PREFIX + date));
+    }
+
+    /**
+     * 하루치 명단 저장
+     *
+     * @param date               강의 날짜
+     * @param recipientsByLiveId 강의별 수신자 ID
+     * @param tokensByUserId     수신자의 FCM 토큰 (토큰 없는 사용자는 빈 목록)
+     */
+    public void build(LocalDate date, Map<Long, Set<Integer>> recipientsByLiveId,
+        Map<Integer, List<String>> tokensByUserId) {
+        write(date, recipientsByLiveId, tokensByUserId, true);
+        log.info("{} 알림 수신자 명단 저장 완료. 강의 개수: {}, 수신자 수: {}", date,
+            recipientsByLiveId.size(), tokensByUserId.size());
+    }
+
+    /**
+     * 이미 만들어진 날짜의 강의 하나의 명단을 교체. 명단이 아직 없으면 생성 시 포함되므로 무시
+     *
+     * @param date           강의 날짜
+     * @param liveId         강의 ID
+     * @param recipients     수신자 ID
+     * @param tokensByUserId 수신자의 FCM 토큰
+     */
+    public void replaceLecture(LocalDate date, Long liveId, Set<Integer> recipients,
+        Map<Integer, List<String>> tokensByUserId) {
+        if (!isBuilt(date)) {
+            return;
+        }
+        write(date, Map.of(liveId, recipients), tokensByUserId, false);
+    }
+
+    /**
+     * 이미 만들어진 명단에 수신자 추가. 명단이 아직 없으면 생성 시 포함되므로 무시
+     *
+     * @param date   강의 날짜
+     * @param liveId 강의 ID
+     * @param userId 수신자 ID
+     */
+    public void addRecipient(LocalDate date, Long liveId, int userId) {
+        if (!isBuilt(date)) {
+            return;
+        }
+        String key = manifestKey(date, liveId);
+        stringRedisTemplate.opsForSet().add(key, String.valueOf(userId));
+        stringRedisTemplate.expireAt(key, expiry(date));
+    }
+
+    /**
+     * 강의 명단 삭제
+     *
+     * @param liveId 강의 ID
+     * @param dates  삭제할 날짜
+     */
+    public void remove(Long liveId, Collection<LocalDate> dates) {
+        List<String> keys = new ArrayList<>();
+        for (LocalDate date : dates) {
+            keys.add(manifestKey(date, liveId));
+        }
+        stringRedisTemplate.delete(keys);
+    }
+
+    /**
+     * 강의 수신자들의 FCM 토큰 조회
+     *
+     * @param date   강의 날짜
+     * @param liveId 강의 ID
+     * @return 토큰 목록 (중복 제거)
+     */
+    public Set<String> resolveTokens(LocalDate date, Long liveId) {
+        Set<String> userIds = stringRedisTemplate.opsForSet().members(manifestKey(date, liveId));
+        Set<String> tokens = new LinkedHashSet<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return tokens;
+        }
+
+        List<Object> values = stringRedisTemplate.opsForHash()
+            .multiGet(TOKEN_DIRECTORY_KEY, new ArrayList<Object>(userIds));
+        for (Object value : values) {
+            if (value != null) {
+                tokens.addAll(Arrays.asList(value.toString().split(TOKEN_SEPARATOR)));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 사용자 FCM 토큰 변경 반영
+     *
+     * @param userId 사용자 ID
+     * @param tokens 사용자의 전체 토큰 (비어 있으면 삭제)
+     */
+    public void updateTokens(int userId, Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            stringRedisTemplate.opsForHash().delete(TOKEN_DIRECTORY_KEY, String.valueOf(userId));
+        } else {
+            stringRedisTemplate.opsForHash()
+                .put(TOKEN_DIRECTORY_KEY, String.valueOf(userId), String.join(TOKEN_SEPARATOR, tokens));
+        }
+    }
+
+    private void write(LocalDate date, Map<Long, Set<Integer>> recipientsByLiveId,
+        Map<Integer, List<String>> tokensByUserId, boolean markBuilt) {
+        Instant expireAt = expiry(date);
+        Map<String, String> tokens = new HashMap<>();
+        List<String> withoutToken = new ArrayList<>();
+        tokensByUserId.forEach((userId, userTokens) -> {
+            if (userTokens != null && !userTokens.isEmpty()) {
+                tokens.put(userId.toString(), String.join(TOKEN_SEPARATOR, userTokens));
+            } else {
+                withoutToken.add(userId.toString());
+            }
+        });
+
+        pipelined(operations -> {
+            for (Map.Entry<Long, Set<Integer>> entry : recipientsByLiveId.entrySet()) {
+                String key = manifestKey(date, entry.getKey());
+                operations.delete(key);
+                if (!entry.getValue().isEmpty()) {
+                    operations.opsForSet().add(key, toStrings(entry.getValue()));
+                    operations.expireAt(key, expireAt);
+                }
+            }
+            if (!tokens.isEmpty()) {
+                operations.opsForHash().putAll(TOKEN_DIRECTORY_KEY, tokens);
+            }
+            if (!withoutToken.isEmpty()) {
+                operations.opsForHash().delete(TOKEN_DIRECTORY_KEY, withoutToken.toArray());
+            }
+            if (markBuilt) {
+                operations.opsForValue().set(BUILT_MARKER_KEY_PREFIX + date, "1");
+                operations.expireAt(BUILT_MARKER_KEY_PREFIX + date, expireAt);
+            }
+        });
+    }
+
+    private void pipelined(Consumer<RedisOperations<String, String>> commands) {
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations)
+                throws DataAccessException {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    private String[] toStrings(Set<Integer> userIds) {
+        return userIds.stream().map(String::valueOf).toArray(String[]::new);
+    }
+
+    /**
+     * 강의 다음날 자정 이후 만료. 자정을 넘기는 강의도 알림 발송 전까지 유지
+     */
+    private Instant expiry(LocalDate date) {
+        return date.plusDays(2).atStartOfDay(KOREA_ZONE).toInstant();
+    }
+
+    private String manifestKey(LocalDate date, Long liveId) {
+        return MANIFEST_KEY_PREFIX + date + ":" + liveId;
+    }
+}
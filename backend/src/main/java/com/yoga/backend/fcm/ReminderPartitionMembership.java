@@ -0,0 +1,125 @@
+package com.yoga.backend.fcm;
+
+import jakarta.annotation.PostConstruct;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 파티션 담당 서버 관리. 살아있는 서버들이 redis sorted set에 heartbeat 시각을 기록하고, 정렬된 서버 목록 기준으로 파티션을
+ * 나눠 가짐
+ * <p>
+ * 서버가 빠지면 heartbeat가 끊겨 목록에서 제외되고, 남은 서버들이 파티션을 다시 나눠 가짐. heartbeat는 전용 스레드에서 실행해 알림
+ * 발송, outbox 릴레이 등 오래 걸리는 스케줄 작업에 밀려 목록에서 빠지지 않도록 함
+ */
+@Slf4j
+@Component
+public class ReminderPartitionMembership implements DisposableBean {
+
+    private static final String MEMBERS_KEY = "yoga:reminders:nodes";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId;
+    private final int partitionCount;
+    private final long memberTimeoutMillis;
+    private final long heartbeatIntervalMillis;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    public ReminderPartitionMembership(StringRedisTemplate stringRedisTemplate,
+        @Value("${notification.reminder.partitions:16}") int partitionCount,
+        @Value("${notification.reminder.member-timeout-ms:15000}") long memberTimeoutMillis,
+        @Value("${notification.reminder.heartbeat-interval-ms:5000}") long heartbeatIntervalMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+        this.partitionCount = partitionCount;
+        this.memberTimeoutMillis = memberTimeoutMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void startHeartbeat() {
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * heartbeat 기록 및 만료된 서버 제거
+     */
+    void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            stringRedisTemplate.opsForZSet().add(MEMBERS_KEY, nodeId, now);
+            stringRedisTemplate.opsForZSet()
+                .removeRangeByScore(MEMBERS_KEY, 0, now - memberTimeoutMillis);
+        } catch (Exception e) {
+            log.warn("알림 파티션 heartbeat 실패", e);
+        }
+    }
+
+    /**
+     * 이 서버가 담당하는 파티션 번호. 살아있는 서버 목록에서의 순번 기준으로 나눠 가짐
+     *
+     * @return 담당 파티션 목록. 아직 목록에 없으면 빈 목록
+     */
+    public List<Integer> ownedPartitions() {
+        long now = System.currentTimeMillis();
+        Set<String> members = stringRedisTemplate.opsForZSet()
+            .rangeByScore(MEMBERS_KEY, now - memberTimeoutMillis, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> liveNodes = new ArrayList<>(members);
+        Collections.sort(liveNodes);
+        int index = liveNodes.indexOf(nodeId);
+        if (index < 0) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> owned = new ArrayList<>();
+        for (int partition = index; partition < partitionCount; partition += liveNodes.size()) {
+            owned.add(partition);
+        }
+        return owned;
+    }
+
+    /**
+     * 강의가 속한 파티션
+     *
+     * @param liveId 강의 ID
+     * @return 파티션 번호
+     */
+    public int partitionOf(Long liveId) {
+        return Math.floorMod(Long.hashCode(liveId), partitionCount);
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatExecutor.shutdownNow();
+        try {
+            stringRedisTemplate.opsForZSet().remove(MEMBERS_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("알림 파티션 담당 서버 제거 실패", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.yoga.backend.fcm.repository;
+
+import com.yoga.backend.common.entity.DeviceToken;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long> {
+
+    /**
+     * 토큰 등록. 이미 있는 토큰이면 소유자, 기기 종류, 확인 시각만 갱신 (기기를 다른 계정으로 로그인한 경우 포함)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO device_token (user_id, token, platform, last_seen_at, created_at) "
+        + "VALUES (:userId, :token, :platform, :seenAt, :seenAt) "
+        + "ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), platform = VALUES(platform), "
+        + "last_seen_at = VALUES(last_seen_at)", nativeQuery = true)
+    int upsert(@Param("userId") int userId, @Param("token") String token,
+        @Param("platform") String platform, @Param("seenAt") Instant seenAt);
+
+    @Query("SELECT d.user.id, d.token FROM DeviceToken d "
+        + "WHERE d.user.id IN :userIds AND d.user.isDeleted = false")
+    List<Object[]> findTokensByUserIds(@Param("userIds") Collection<Integer> userIds);
+
+    @Query("SELECT d.token FROM DeviceToken d WHERE d.user.id = :userId")
+    List<String> findTokensByUserId(@Param("userId") int userId);
+
+    @Query("SELECT DISTINCT d.user.id FROM DeviceToken d WHERE d.token IN :tokens")
+    List<Integer> findUserIdsByTokens(@Param("tokens") Collection<String> tokens);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DeviceToken d WHERE d.token IN :tokens")
+    int deleteByTokens(@Param("tokens") Collection<String> tokens);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DeviceToken d WHERE d.user.id = :userId")
+    int deleteByUserId(@Param("userId") int userId);
+
+    /**
+     * 오래 확인되지 않은 (사용자 ID, 토큰). 배치 단위로 삭제하기 위해 개수 제한
+     */
+    @Query("SELECT d.user.id, d.token FROM DeviceToken d WHERE d.lastSeenAt < :before "
+        + "ORDER BY d.id")
+    List<Object[]> findStaleBefore(@Param("before") Instant before, Pageable pageable);
+
+    /**
+     * 조회한 뒤 다시 확인된 토큰은 남기고 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DeviceToken d WHERE d.token IN :tokens AND d.lastSeenAt < :before")
+    int deleteStaleByTokens(@Param("tokens") Collection<String> tokens,
+        @Param("before") Instant before);
+}
@@ -0,0 +1,62 @@
+package com.yoga.backend.fcm.repository;
+
+import com.yoga.backend.common.entity.NotificationOutbox;
+import com.yoga.backend.common.entity.NotificationOutbox.Status;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 알림 outbox 리포지토리 인터페이스
+ */
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 처리할 이벤트 조회. 다른 노드가 잠근 행은 건너뜀 (SKIP LOCKED)
+     *
+     * @param status   처리 상태
+     * @param now      현재 시각
+     * @param pageable 최대 개수
+     * @return 처리할 이벤트 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.status = :status " +
+        "AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<NotificationOutbox> findDueForUpdate(@Param("status") Status status,
+        @Param("now") Instant now, Pageable pageable);
+
+    /**
+     * 점유 기간 연장. 다른 노드가 다시 점유하면 시도 횟수가 늘어나므로 0을 반환
+     *
+     * @param id       outbox ID
+     * @param status   처리 상태
+     * @param attempts 점유할 때의 시도 횟수
+     * @param until    새 점유 만료 시각
+     * @return 연장된 개수
+     */
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.nextAttemptAt = :until WHERE o.id = :id " +
+        "AND o.status = :status AND o.attempts = :attempts")
+    int extendClaim(@Param("id") Long id, @Param("status") Status status,
+        @Param("attempts") int attempts, @Param("until") Instant until);
+
+    /**
+     * 처리 완료 후 오래된 이벤트 삭제
+     *
+     * @param status 처리 상태
+     * @param before 기준 시각
+     * @return 삭제된 개수
+     */
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = :status AND o.processedAt < :before")
+    int deleteProcessedBefore(@Param("status") Status status, @Param("before") Instant before);
+}
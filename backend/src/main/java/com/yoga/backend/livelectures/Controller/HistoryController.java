@@ -1,10 +1,9 @@
 package com.yoga.backend.livelectures.Controller;
 
 import com.yoga.backend.common.util.JwtUtil;
-import com.yoga.backend.livelectures.dto.LectureHistoryDto;
+import com.yoga.backend.livelectures.dto.LectureHistoryPageDto;
 import com.yoga.backend.livelectures.service.HistoryService;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -31,24 +31,40 @@ public class HistoryController {
     }
 
     /**
-     * 수강 내역 처리
+     * 수강 내역 처리. 최신순으로 size개씩, 다음 페이지는 nextCursor로 요청
      *
-     * @param token JWT 토큰
+     * @param token  JWT 토큰
+     * @param cursor 이전 응답의 nextCursor. 첫 페이지는 생략
+     * @param size   페이지 크기 (1 ~ MAX_PAGE_SIZE)
      * @return 수강 내역 페이지에 대한 응답 포함한 ResponseEntity
      */
     @GetMapping
     public ResponseEntity<Map<String, Object>> getHistoryData(
-        @RequestHeader("Authorization") String token) {
+        @RequestHeader("Authorization") String token,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "30") int size) {
+        Map<String, Object> response = new HashMap<>();
+        if (size < 1 || size > HistoryService.MAX_PAGE_SIZE) {
+            response.put("message", "잘못된 페이지 크기입니다.");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
         int userId = jwtUtil.getUserIdFromToken(token);
         log.info("수강 내역 조회 요청: 사용자 ID {}", userId);
-        Map<String, Object> response = new HashMap<>();
         try {
-            List<LectureHistoryDto> history = hsitoryService.getHistory(userId);
-            log.info("수강 내역 조회 성공: 사용자 ID {}, 조회된 강의 수 {}", userId, history.size());
+            LectureHistoryPageDto history = hsitoryService.getHistory(userId, cursor, size);
+            log.info("수강 내역 조회 성공: 사용자 ID {}, 조회된 강의 수 {}", userId,
+                history.getLectures().size());
             response.put("message", "내 수강내역 조회 성공");
-            response.put("data", history);
+            response.put("data", history.getLectures());
+            response.put("nextCursor", history.getNextCursor());
 
             return ResponseEntity.status(HttpStatus.OK).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 수강 내역 커서: 사용자 ID {}, 커서 {}", userId, cursor);
+            response.put("message", "잘못된 커서입니다.");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         } catch (Exception e) {
             log.error("수강 내역 조회 실패: 사용자 ID {}, 오류 : {}", userId, e.getMessage());
             response.put("message", "내 수강내역 조회 실패");
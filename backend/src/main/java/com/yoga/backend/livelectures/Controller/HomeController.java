@@ -1,6 +1,7 @@
 package com.yoga.backend.livelectures.Controller;
 
 import com.yoga.backend.common.util.JwtUtil;
+import com.yoga.backend.livelectures.dto.HomeFeedResponseDto;
 import com.yoga.backend.livelectures.dto.HomeResponseDto;
 import com.yoga.backend.livelectures.dto.SetIsOnAirDto;
 import com.yoga.backend.livelectures.service.HomeService;
@@ -43,6 +44,9 @@ public class HomeController {
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "30") int size) {
 
+        if (page < 0 || isInvalidSize(size)) {
+            return invalidPageResponse();
+        }
         int userId = jwtUtil.getUserIdFromToken(token);
         Map<String, Object> response = new HashMap<>();
 
@@ -60,6 +64,45 @@ public class HomeController {
         }
     }
 
+    /**
+     * 커서 기반 홈 페이지 요청 처리
+     *
+     * @param token  JWT 토큰
+     * @param cursor 이전 응답의 nextCursor. 첫 페이지는 생략
+     * @param size   페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @return 강의 목록과 다음 커서
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<Map<String, Object>> getHomeFeed(
+        @RequestHeader("Authorization") String token,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "30") int size) {
+
+        if (isInvalidSize(size)) {
+            return invalidPageResponse();
+        }
+        int userId = jwtUtil.getUserIdFromToken(token);
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            HomeFeedResponseDto homeFeed = homeService.getHomeFeed(userId, cursor, size);
+
+            response.put("message", "내 화상 강의 할 일 조회 성공");
+            response.put("data", homeFeed);
+            return ResponseEntity.status(HttpStatus.OK).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 홈 커서: 사용자 ID {}, 커서 {}", userId, cursor);
+            response.put("message", "잘못된 커서입니다.");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            log.error("홈 커서 조회 실패: 사용자 ID {}", userId, e);
+            response.put("message", "내 화상강의 할 일 조회 실패");
+            response.put("data", new Object[]{});
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 시그널링 서버 상태 업데이트
      *
@@ -99,4 +142,15 @@ public class HomeController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
+
+    private boolean isInvalidSize(int size) {
+        return size < 1 || size > HomeService.MAX_PAGE_SIZE;
+    }
+
+    private ResponseEntity<Map<String, Object>> invalidPageResponse() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "잘못된 페이지 요청입니다.");
+        response.put("data", new Object[]{});
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
 }
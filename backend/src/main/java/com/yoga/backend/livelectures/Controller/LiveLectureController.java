@@ -1,6 +1,7 @@
 package com.yoga.backend.livelectures.Controller;
 
 import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.common.util.DayMask;
 import com.yoga.backend.common.util.JwtUtil;
 import com.yoga.backend.livelectures.service.LiveLectureService;
 import com.yoga.backend.members.repository.UsersRepository;
@@ -212,7 +213,7 @@ public class LiveLectureController {
         dto.setProfileImageUrlSmall(lecture.getUser().getProfile_image_url_small());
         dto.setLiveTitle(lecture.getLiveTitle());
         dto.setLiveContent(lecture.getLiveContent());
-        dto.setAvailableDay(lecture.getAvailableDay());
+        dto.setAvailableDay(DayMask.format(lecture.getAvailableDayMask()));
         dto.setStartDate(lecture.getStartDate().toEpochMilli());
         dto.setStartTime(
             ZonedDateTime.ofInstant(lecture.getStartTime(), ZoneId.of("UTC")).toLocalTime()
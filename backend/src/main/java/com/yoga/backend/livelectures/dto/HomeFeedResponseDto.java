@@ -0,0 +1,17 @@
+package com.yoga.backend.livelectures.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 커서 기반 홈 목록 응답 DTO
+ */
+@Getter
+@Setter
+public class HomeFeedResponseDto {
+
+    private List<HomeResponseDto> lectures;
+    // 다음 페이지 커서. 마지막 페이지면 null
+    private String nextCursor;
+}
@@ -0,0 +1,101 @@
+package com.yoga.backend.livelectures.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import lombok.Getter;
+
+/**
+ * 강의 목록 커서. 마지막으로 내려준 강의의 (lectureDate, startTime, liveId)
+ * <p>
+ * 클라이언트에는 불투명한 문자열로 내려주고, 다음 요청에서 이 값 다음 강의부터 조회 (홈은 오름차순, 수강 내역은 내림차순)
+ */
+@Getter
+public class LectureCursor implements Comparable<LectureCursor> {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final LocalDate lectureDate;
+    private final LocalTime startTime;
+    private final long liveId;
+
+    public LectureCursor(LocalDate lectureDate, LocalTime startTime, long liveId) {
+        this.lectureDate = lectureDate;
+        this.startTime = startTime;
+        this.liveId = liveId;
+    }
+
+    /**
+     * 응답 DTO의 위치로 커서 생성
+     *
+     * @param dto 마지막으로 내려준 강의
+     * @return 커서
+     */
+    public static LectureCursor of(HomeResponseDto dto) {
+        return of(dto.getLectureDate(), dto.getStartTime(), dto.getLiveId());
+    }
+
+    /**
+     * 수강 내역 DTO의 위치로 커서 생성
+     *
+     * @param dto 마지막으로 내려준 강의
+     * @return 커서
+     */
+    public static LectureCursor of(LectureHistoryDto dto) {
+        return of(dto.getLectureDate(), dto.getStartTime(), dto.getLiveId());
+    }
+
+    private static LectureCursor of(long lectureDateMillis, long startTimeMillis, long liveId) {
+        return new LectureCursor(
+            Instant.ofEpochMilli(lectureDateMillis).atZone(KOREA_ZONE).toLocalDate(),
+            LocalTime.ofNanoOfDay(startTimeMillis * 1_000_000), liveId);
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param value 커서 문자열
+     * @return 커서. 비어 있으면 null
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static LectureCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(value),
+                StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new LectureCursor(
+                Instant.ofEpochMilli(Long.parseLong(parts[0])).atZone(KOREA_ZONE).toLocalDate(),
+                LocalTime.ofNanoOfDay(Long.parseLong(parts[1]) * 1_000_000),
+                Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 커서 문자열로 변환. 날짜와 시작 시간은 응답 DTO와 같은 밀리초 값
+     */
+    public String encode() {
+        String raw = lectureDate.atStartOfDay(KOREA_ZONE).toInstant().toEpochMilli() + ":"
+            + startTime.toNanoOfDay() / 1_000_000 + ":" + liveId;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int compareTo(LectureCursor other) {
+        int result = lectureDate.compareTo(other.lectureDate);
+        if (result == 0) {
+            result = startTime.compareTo(other.startTime);
+        }
+        return result != 0 ? result : Long.compare(liveId, other.liveId);
+    }
+}
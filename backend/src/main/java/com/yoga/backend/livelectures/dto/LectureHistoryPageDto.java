@@ -0,0 +1,17 @@
+package com.yoga.backend.livelectures.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 커서 기반 수강 내역 응답 DTO
+ */
+@Getter
+@Setter
+public class LectureHistoryPageDto {
+
+    private List<LectureHistoryDto> lectures;
+    // 다음 페이지 커서. 마지막 페이지면 null
+    private String nextCursor;
+}
@@ -0,0 +1,46 @@
+package com.yoga.backend.livelectures.dto;
+
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 실시간 강의 카탈로그 항목. 엔티티 대신 필요한 컬럼만 한 번에 조회
+ */
+@Getter
+@Setter
+public class LiveLectureCatalogDto {
+
+    private Long liveId;
+    private String liveTitle;
+    private Integer teacherId;
+    private String nickname;
+    private Integer availableDayMask;
+    private Instant startDate;
+    private Instant endDate;
+    private Instant startTime;
+    private Instant endTime;
+    private Integer maxLiveNum;
+    private Integer reservedSeats;
+
+    // QueryDSL용 생성자
+    public LiveLectureCatalogDto(Long liveId, String liveTitle, Integer teacherId,
+        String nickname, Integer availableDayMask, Instant startDate, Instant endDate,
+        Instant startTime, Instant endTime, Integer maxLiveNum, Integer reservedSeats) {
+        this.liveId = liveId;
+        this.liveTitle = liveTitle;
+        this.teacherId = teacherId;
+        this.nickname = nickname;
+        this.availableDayMask = availableDayMask;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.maxLiveNum = maxLiveNum;
+        this.reservedSeats = reservedSeats;
+    }
+
+    public int getRemainingSeats() {
+        return maxLiveNum - reservedSeats;
+    }
+}
@@ -1,5 +1,7 @@
 package com.yoga.backend.livelectures.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yoga.backend.common.util.DayMask;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -32,4 +34,12 @@ public class LiveLectureCreateDto {
     private Integer userId; // 강사 ID
 
     private String availableDay; // 가능한 강의 요일
+
+    /**
+     * "MON,WED,FRI" 형식의 요일을 요일 비트로
+     */
+    @JsonIgnore
+    public int getAvailableDayMask() {
+        return DayMask.parse(availableDay);
+    }
 }
\ No newline at end of file
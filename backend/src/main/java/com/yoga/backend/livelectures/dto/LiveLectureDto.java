@@ -1,6 +1,7 @@
 package com.yoga.backend.livelectures.dto;
 
 import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.common.util.DayMask;
 import java.io.Serializable;
 import java.time.Instant;
 
@@ -116,7 +117,7 @@ public class LiveLectureDto implements Serializable {
         dto.setStartTime(lecture.getStartTime());
         dto.setEndTime(lecture.getEndTime());
         dto.setMaxLiveNum(lecture.getMaxLiveNum());
-        dto.setAvailableDay(lecture.getAvailableDay());
+        dto.setAvailableDay(DayMask.format(lecture.getAvailableDayMask()));
         dto.setRegDate(lecture.getRegDate());
         dto.setUserId(lecture.getUser().getId());
         return dto;
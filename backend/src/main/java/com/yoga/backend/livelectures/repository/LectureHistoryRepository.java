@@ -0,0 +1,50 @@
+package com.yoga.backend.livelectures.repository;
+
+import com.yoga.backend.common.entity.LectureHistory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 수강 내역 리포지토리 인터페이스
+ */
+public interface LectureHistoryRepository extends JpaRepository<LectureHistory, Long> {
+
+    /**
+     * 사용자의 최근 수강 내역. (날짜, 시작 시간, 강의 ID) 내림차순
+     */
+    @Query("SELECT h FROM LectureHistory h JOIN FETCH h.teacher WHERE h.userId = :userId "
+        + "ORDER BY h.lectureDate DESC, h.startTime DESC, h.liveId DESC")
+    List<LectureHistory> findLatest(@Param("userId") int userId, Pageable pageable);
+
+    /**
+     * 커서 이전의 수강 내역. (날짜, 시작 시간, 강의 ID) 내림차순
+     */
+    @Query("SELECT h FROM LectureHistory h JOIN FETCH h.teacher WHERE h.userId = :userId "
+        + "AND (h.lectureDate < :date OR (h.lectureDate = :date AND (h.startTime < :startTime "
+        + "OR (h.startTime = :startTime AND h.liveId < :liveId)))) "
+        + "ORDER BY h.lectureDate DESC, h.startTime DESC, h.liveId DESC")
+    List<LectureHistory> findBefore(@Param("userId") int userId, @Param("date") LocalDate date,
+        @Param("startTime") LocalTime startTime, @Param("liveId") long liveId, Pageable pageable);
+
+    /**
+     * 사용자의 기록된 (강의 ID, 날짜). 중복 기록 방지용
+     */
+    @Query("SELECT h.liveId, h.lectureDate FROM LectureHistory h WHERE h.userId = :userId")
+    List<Object[]> findKeysByUser(@Param("userId") int userId);
+
+    @Query("SELECT h.liveId, h.lectureDate FROM LectureHistory h WHERE h.userId = :userId "
+        + "AND h.lectureDate >= :from")
+    List<Object[]> findKeysByUserFrom(@Param("userId") int userId,
+        @Param("from") LocalDate from);
+
+    /**
+     * 해당 날짜의 기록된 (사용자 ID, 강의 ID). 중복 기록 방지용
+     */
+    @Query("SELECT h.userId, h.liveId FROM LectureHistory h WHERE h.lectureDate = :date")
+    List<Object[]> findKeysOn(@Param("date") LocalDate date);
+}
@@ -0,0 +1,23 @@
+package com.yoga.backend.livelectures.repository;
+
+import com.yoga.backend.common.entity.LectureHistoryWatermark;
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 수강 내역 기록 위치 리포지토리 인터페이스
+ */
+public interface LectureHistoryWatermarkRepository extends
+    JpaRepository<LectureHistoryWatermark, Integer> {
+
+    /**
+     * 전날까지 기록된 사용자들의 기록 위치를 하루 전진. 더 뒤처진 사용자는 조회 시 따라잡음
+     */
+    @Modifying
+    @Query("UPDATE LectureHistoryWatermark w SET w.frozenThrough = :date "
+        + "WHERE w.frozenThrough = :previous")
+    int advance(@Param("previous") LocalDate previous, @Param("date") LocalDate date);
+}
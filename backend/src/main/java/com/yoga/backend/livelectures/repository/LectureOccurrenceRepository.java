@@ -0,0 +1,47 @@
+package com.yoga.backend.livelectures.repository;
+
+import com.yoga.backend.common.entity.LectureOccurrence;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 강의 회차 리포지토리 인터페이스
+ */
+public interface LectureOccurrenceRepository extends JpaRepository<LectureOccurrence, Long> {
+
+    /**
+     * 기간 안에 회차가 있는 강의 ID. 회차 재구성 시 삭제된 강의의 회차를 찾기 위해 사용
+     */
+    @Query("SELECT DISTINCT o.liveId FROM LectureOccurrence o "
+        + "WHERE o.lectureDate BETWEEN :from AND :to")
+    List<Long> findLiveIdsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 강의 하나의 기간 안 (회차 ID, 날짜). 회차 재구성 시 기존 행 비교용
+     */
+    @Query("SELECT o.id, o.lectureDate FROM LectureOccurrence o "
+        + "WHERE o.liveId = :liveId AND o.lectureDate BETWEEN :from AND :to")
+    List<Object[]> findKeysByLiveIdBetween(@Param("liveId") Long liveId,
+        @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM LectureOccurrence o WHERE o.liveId = :liveId AND o.lectureDate >= :from")
+    int deleteByLiveIdFrom(@Param("liveId") Long liveId, @Param("from") LocalDate from);
+
+    @Modifying
+    @Query("DELETE FROM LectureOccurrence o WHERE o.liveId = :liveId")
+    int deleteByLiveId(@Param("liveId") Long liveId);
+
+    @Modifying
+    @Query("DELETE FROM LectureOccurrence o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM LectureOccurrence o WHERE o.lectureDate < :date")
+    int deleteBefore(@Param("date") LocalDate date);
+}
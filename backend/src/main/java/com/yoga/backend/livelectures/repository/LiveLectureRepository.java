@@ -1,9 +1,17 @@
 package com.yoga.backend.livelectures.repository;
 
+import com.yoga.backend.common.converter.InstantToSqlDateConverter;
+import com.yoga.backend.common.entity.LectureOccurrence;
 import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.livelectures.dto.LectureCursor;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
@@ -16,63 +24,158 @@ public interface LiveLectureRepository extends JpaRepository<LiveLectures, Long>
     @Query("SELECT ll FROM LiveLectures ll JOIN FETCH ll.user WHERE ll.user.id = :id")
     List<LiveLectures> findByUserId(@Param("id") int id);
 
-    // fcm을 위한 쿼리. 전날 밤에 다음날 강의할 강의들을 캐시
+    //fcm을 위한 쿼리. 회차 테이블이 해당 날짜를 채우기 전에 사용
     @Query("SELECT l FROM LiveLectures l WHERE " +
-        "DATE(l.startDate) <= DATE(:tomorrow) AND " +
-        "DATE(l.endDate) >= DATE(:tomorrow) AND " +
-        "l.availableDay LIKE %:dayOfWeek% " +
+        "l.endDate >= :today AND l.startDate <= :today " +
+        "AND bitand(l.availableDayMask, :dayMask) <> 0 " +
         "ORDER BY l.startTime")
-    List<LiveLectures> findTomorrowLectures(
-        @Param("tomorrow") LocalDate tomorrow,
-        @Param("dayOfWeek") String dayOfWeek
+    List<LiveLectures> findLecturesForToday(
+        @Param("today") Instant today,
+        @Param("dayMask") int dayMask
     );
 
-    //fcm을 위한 쿼리. 캐시가 비어있을 시 실행
-    @Query("SELECT l FROM LiveLectures l WHERE " +
-        "DATE(l.startDate) <= DATE(:today) AND DATE(l.endDate) >= DATE(:today) " +
-        "AND l.availableDay LIKE %:dayOfWeek% " +
-        "ORDER BY l.startTime")
-    List<LiveLectures> findLecturesForToday(
-        @Param("today") LocalDate today,
-        @Param("dayOfWeek") String dayOfWeek
+    default List<LiveLectures> findLecturesForToday(LocalDate today, int dayMask) {
+        return findLecturesForToday(InstantToSqlDateConverter.toInstant(today), dayMask);
+    }
+
+    // 회차 테이블로 해당 날짜 강의 조회. 날짜 인덱스 범위 조회 후 강의는 PK로 조인
+    @Query("SELECT l FROM LectureOccurrence o JOIN LiveLectures l ON l.liveId = o.liveId " +
+        "WHERE o.lectureDate = :date ORDER BY o.startTime")
+    List<LiveLectures> findLecturesOn(@Param("date") LocalDate date);
+
+    // 회차 재구성을 위한 쿼리. 기간과 겹치는 강의 ID
+    @Query("SELECT l.liveId FROM LiveLectures l WHERE " +
+        "l.endDate >= :from AND l.startDate <= :to")
+    List<Long> findActiveIdsBetween(
+        @Param("from") Instant from,
+        @Param("to") Instant to
     );
 
-    @Query("SELECT ll FROM LiveLectures ll WHERE ll.maxLiveNum = :maxLiveNum AND ll.endDate > :currentDate")
-    List<LiveLectures> findAllByMaxLiveNumAndEndDateAfter(@Param("maxLiveNum") int maxLiveNum,
+    default List<Long> findActiveIdsBetween(LocalDate from, LocalDate to) {
+        return findActiveIdsBetween(InstantToSqlDateConverter.toInstant(from),
+            InstantToSqlDateConverter.toInstant(to));
+    }
+
+    // 예약 가능한 강의 목록. 남은 좌석 조건까지 쿼리에서 처리
+    @Query("SELECT ll FROM LiveLectures ll WHERE ll.maxLiveNum = :maxLiveNum AND ll.endDate > :currentDate " +
+        "AND ll.reservedSeats < ll.maxLiveNum")
+    List<LiveLectures> findAvailableByMaxLiveNum(@Param("maxLiveNum") int maxLiveNum,
         @Param("currentDate") Instant currentDate);
 
-    @Query("SELECT ll FROM LiveLectures ll WHERE ll.maxLiveNum > :maxLiveNum AND ll.endDate > :currentDate")
-    List<LiveLectures> findAllByMaxLiveNumGreaterThanAndEndDateAfter(
+    @Query("SELECT ll FROM LiveLectures ll WHERE ll.maxLiveNum > :maxLiveNum AND ll.endDate > :currentDate " +
+        "AND ll.reservedSeats < ll.maxLiveNum")
+    List<LiveLectures> findAvailableByMaxLiveNumGreaterThan(
         @Param("maxLiveNum") int maxLiveNum, @Param("currentDate") Instant currentDate);
 
-    @Query("SELECT ll FROM LiveLectures ll WHERE ll.user.id = :userId AND ll.maxLiveNum = :maxLiveNum AND ll.endDate > :now")
-    List<LiveLectures> findByUserIdAndMaxLiveNumAndEndDateAfter(@Param("userId") int userId,
+    @Query("SELECT ll FROM LiveLectures ll WHERE ll.user.id = :userId AND ll.maxLiveNum = :maxLiveNum AND ll.endDate > :now " +
+        "AND ll.reservedSeats < ll.maxLiveNum")
+    List<LiveLectures> findAvailableByUserIdAndMaxLiveNum(@Param("userId") int userId,
         @Param("maxLiveNum") int maxLiveNum, @Param("now") Instant now);
 
-    @Query("SELECT ll FROM LiveLectures ll WHERE ll.user.id = :userId AND ll.maxLiveNum > :maxLiveNum AND ll.endDate > :now")
-    List<LiveLectures> findByUserIdAndMaxLiveNumGreaterThanAndEndDateAfter(
+    @Query("SELECT ll FROM LiveLectures ll WHERE ll.user.id = :userId AND ll.maxLiveNum > :maxLiveNum AND ll.endDate > :now " +
+        "AND ll.reservedSeats < ll.maxLiveNum")
+    List<LiveLectures> findAvailableByUserIdAndMaxLiveNumGreaterThan(
         @Param("userId") int userId,
         @Param("maxLiveNum") int maxLiveNum, @Param("now") Instant now);
 
+    // 좌석 예약. 남은 좌석이 있을 때만 seats만큼 더함. 행 잠금으로 동시 예약이 차례로 처리됨
+    @Modifying
+    @Query("UPDATE LiveLectures l SET l.reservedSeats = l.reservedSeats + :seats " +
+        "WHERE l.liveId = :liveId AND l.reservedSeats < l.maxLiveNum")
+    int reserveSeats(@Param("liveId") Long liveId, @Param("seats") int seats);
+
+    // 남은 좌석 수. 같은 트랜잭션에서 reserveSeats 뒤에 호출하면 행 잠금이 유지된 상태의 값
+    @Query("SELECT l.maxLiveNum - l.reservedSeats FROM LiveLectures l WHERE l.liveId = :liveId")
+    Integer findRemainingSeats(@Param("liveId") Long liveId);
+
+    // 강의 행 잠금. 좌석 재계산과 회차 갱신이 같은 강의의 예약, 수정 트랜잭션이 끝날 때까지 기다림. 강의가 없으면 null
+    @Query(value = "SELECT live_id FROM live_lectures WHERE live_id = :liveId FOR UPDATE",
+        nativeQuery = true)
+    Long lockForUpdate(@Param("liveId") Long liveId);
+
+    @Modifying
+    @Query("UPDATE LiveLectures l SET l.reservedSeats = :reservedSeats WHERE l.liveId = :liveId")
+    int updateReservedSeats(@Param("liveId") Long liveId,
+        @Param("reservedSeats") int reservedSeats);
+
+    // 좌석 재계산 대상. 아직 끝나지 않았거나 예약 중인 좌석이 남은 강의
+    @Query("SELECT l.liveId FROM LiveLectures l WHERE l.endDate >= :today OR l.reservedSeats > 0")
+    List<Long> findIdsForSeatRecount(@Param("today") Instant today);
 
-    //home을 위한 쿼리
+
+    //home을 위한 쿼리. 오늘 진행 중이거나 앞으로 남은 강의 = 종료 날짜가 오늘 이후. 회차 테이블 기간 뒤의 일정 계산에 사용
     @Query("SELECT l FROM LiveLectures l WHERE l.user.id = :userId " +
-        "AND (DATE(l.startDate) <= DATE(:currentDate) " +
-        "     AND DATE(l.endDate) >= DATE(:currentDate) " +
-        "     OR DATE(l.endDate) > DATE(:currentDate)) ")
+        "AND l.endDate >= :currentDate")
     List<LiveLectures> findLecturesByUserAndDateRange(
         @Param("userId") int userId,
-        @Param("currentDate") LocalDate currentDate
+        @Param("currentDate") Instant currentDate
+    );
+
+    default List<LiveLectures> findLecturesByUserAndDateRange(int userId,
+        LocalDate currentDate) {
+        return findLecturesByUserAndDateRange(userId,
+            InstantToSqlDateConverter.toInstant(currentDate));
+    }
+
+    // home 강사를 위한 쿼리. 회차 테이블의 강사, 날짜 인덱스로 커서 이후 노출할 회차를 (날짜, 시작 시간, 강의 ID) 순으로 조회.
+    // 어제 회차는 자정을 넘겨 아직 진행 중인 것만, 오늘 회차는 끝나지 않았거나 자정을 넘기는 것만 노출
+    @Query("SELECT o FROM LectureOccurrence o WHERE o.teacherId = :teacherId " +
+        "AND o.lectureDate >= :yesterday AND o.lectureDate <= :through " +
+        "AND (o.lectureDate > :today " +
+        "OR (o.lectureDate = :today AND (o.endTime > :now OR o.endTime < o.startTime)) " +
+        "OR (o.lectureDate = :yesterday AND o.endTime < o.startTime AND o.endTime > :now)) " +
+        "AND (o.lectureDate > :afterDate OR (o.lectureDate = :afterDate " +
+        "AND (o.startTime > :afterTime OR (o.startTime = :afterTime AND o.liveId > :afterId)))) " +
+        "ORDER BY o.lectureDate, o.startTime, o.liveId")
+    List<LectureOccurrence> findTeacherOccurrences(
+        @Param("teacherId") int teacherId,
+        @Param("yesterday") LocalDate yesterday,
+        @Param("today") LocalDate today,
+        @Param("now") LocalTime now,
+        @Param("through") LocalDate through,
+        @Param("afterDate") LocalDate afterDate,
+        @Param("afterTime") LocalTime afterTime,
+        @Param("afterId") long afterId,
+        Pageable pageable
     );
 
-    // history를 위한 쿼리
+    default List<LectureOccurrence> findTeacherOccurrences(int teacherId, LocalDate today,
+        LocalTime now, LectureCursor after, LocalDate through, int limit) {
+        return findTeacherOccurrences(teacherId, today.minusDays(1), today, now, through,
+            after.getLectureDate(), after.getStartTime(), after.getLiveId(),
+            PageRequest.of(0, limit));
+    }
+
+    // 회차로 찾은 강의를 강사와 함께 조회
+    @Query("SELECT l FROM LiveLectures l JOIN FETCH l.user WHERE l.liveId IN :liveIds")
+    List<LiveLectures> findWithUserByIds(@Param("liveIds") Collection<Long> liveIds);
+
+    // history를 위한 쿼리. 아직 기록되지 않은 기간과 겹치는 강사의 강의
+    @Query("SELECT l FROM LiveLectures l JOIN FETCH l.user WHERE l.user.id = :userId " +
+        "AND l.endDate >= :from AND l.startDate <= :to")
+    List<LiveLectures> findByUserActiveBetween(
+        @Param("userId") int userId,
+        @Param("from") Instant from,
+        @Param("to") Instant to
+    );
+
+    default List<LiveLectures> findByUserActiveBetween(int userId, LocalDate from,
+        LocalDate to) {
+        return findByUserActiveBetween(userId, InstantToSqlDateConverter.toInstant(from),
+            InstantToSqlDateConverter.toInstant(to));
+    }
+
+    // history를 위한 쿼리. 진행 중이거나 끝난 강의 = 시작 날짜가 오늘 이전
     @Query("SELECT l FROM LiveLectures l WHERE l.user.id = :userId " +
-        "AND (DATE(l.startDate) <= DATE(:currentDate) " +
-        "     AND DATE(l.endDate) >= DATE(:currentDate) " +
-        "     OR DATE(l.endDate) < DATE(:currentDate))")
+        "AND l.startDate <= :currentDate")
     List<LiveLectures> findPastAndOngoingLecturesByUser(
         @Param("userId") int userId,
-        @Param("currentDate") LocalDate currentDate
+        @Param("currentDate") Instant currentDate
     );
 
+    default List<LiveLectures> findPastAndOngoingLecturesByUser(int userId,
+        LocalDate currentDate) {
+        return findPastAndOngoingLecturesByUser(userId,
+            InstantToSqlDateConverter.toInstant(currentDate));
+    }
 }
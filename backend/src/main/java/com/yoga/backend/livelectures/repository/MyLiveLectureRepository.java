@@ -1,10 +1,15 @@
 package com.yoga.backend.livelectures.repository;
 
-import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.common.converter.InstantToSqlDateConverter;
+import com.yoga.backend.common.entity.LectureOccurrence;
 import com.yoga.backend.common.entity.MyLiveLecture;
+import com.yoga.backend.livelectures.dto.LectureCursor;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,6 +28,27 @@ public interface MyLiveLectureRepository extends JpaRepository<MyLiveLecture, Lo
     @Query("SELECT mll FROM MyLiveLecture mll JOIN FETCH mll.liveLecture WHERE mll.user.id = :userId")
     List<MyLiveLecture> findByUserId(@Param("userId") int userId);
 
+    /**
+     * 새 예약과 시간이 겹칠 수 있는 예약 조회. 요일 비트가 겹치고 기간이 겹치는 예약만 고름
+     *
+     * @param userId 사용자 ID
+     * @param days   새 강의 요일 비트 (자정을 넘기는 강의를 위해 앞뒤 요일 포함)
+     * @param from   새 예약 시작 날짜 (전날 포함)
+     * @param to     새 예약 종료 날짜 (다음날 포함)
+     * @return 겹칠 수 있는 예약 목록
+     */
+    @Query("SELECT mll FROM MyLiveLecture mll JOIN FETCH mll.liveLecture l " +
+        "WHERE mll.user.id = :userId " +
+        "AND bitand(l.availableDayMask, :days) <> 0 " +
+        "AND mll.endDate >= :from AND mll.startDate <= :to")
+    List<MyLiveLecture> findOverlapCandidates(@Param("userId") int userId,
+        @Param("days") int days, @Param("from") Instant from, @Param("to") Instant to);
+
+    default List<MyLiveLecture> findOverlapCandidates(int userId, int days, LocalDate from,
+        LocalDate to) {
+        return findOverlapCandidates(userId, days, InstantToSqlDateConverter.toInstant(from), InstantToSqlDateConverter.toInstant(to));
+    }
+
     /**
      * 특정 실시간 강의의 예약 목록 조회
      *
@@ -51,48 +77,156 @@ public interface MyLiveLectureRepository extends JpaRepository<MyLiveLecture, Lo
     List<MyLiveLecture> findByLiveLectureIdWithUser(@Param("liveId") Long liveId);
 
     /**
-     * 특정 강의의 현재 참여자 수 조회
+     * 특정 강의의 현재 참여자 수 조회. 좌석 재계산에 사용
      *
-     * @param liveLecture 강의 엔티티
+     * @param liveId      강의 ID
      * @param currentDate 현재 날짜와 시간
      * @return 현재 참여자 수
      */
-    @Query("SELECT COUNT(mll) FROM MyLiveLecture mll WHERE mll.liveLecture = :liveLecture AND mll.endDate > :currentDate")
-    int countByLiveLectureAndEndDateAfter(@Param("liveLecture") LiveLectures liveLecture,
+    @Query("SELECT COUNT(mll) FROM MyLiveLecture mll WHERE mll.liveLecture.liveId = :liveId AND mll.endDate > :currentDate")
+    int countByLiveIdAndEndDateAfter(@Param("liveId") Long liveId,
         @Param("currentDate") Instant currentDate);
 
     //학생에게 fcm 전송을 위한 쿼리
     @Query("SELECT ml FROM MyLiveLecture ml JOIN FETCH ml.user JOIN FETCH ml.liveLecture l " +
         "WHERE l.liveId = :liveId " +
-        "AND DATE(:currentDate) BETWEEN DATE(ml.startDate) AND DATE(ml.endDate) " +
-        "AND l.availableDay LIKE %:dayOfWeek%")
+        "AND ml.startDate <= :currentDate AND ml.endDate >= :currentDate " +
+        "AND bitand(l.availableDayMask, :dayMask) <> 0")
     List<MyLiveLecture> findParticipantsForTodayLecture(
         @Param("liveId") Long liveId,
-        @Param("currentDate") LocalDate currentDate,
-        @Param("dayOfWeek") String dayOfWeek
+        @Param("currentDate") Instant currentDate,
+        @Param("dayMask") int dayMask
+    );
+
+    default List<MyLiveLecture> findParticipantsForTodayLecture(Long liveId,
+        LocalDate currentDate, int dayMask) {
+        return findParticipantsForTodayLecture(liveId, InstantToSqlDateConverter.toInstant(currentDate), dayMask);
+    }
+
+    // 알림 수신자 명단을 위한 쿼리. 해당 날짜에 수강하는 (강의 ID, 학생 ID)
+    @Query("SELECT l.liveId, ml.user.id FROM MyLiveLecture ml JOIN ml.liveLecture l " +
+        "WHERE ml.endDate >= :date AND ml.startDate <= :date " +
+        "AND bitand(l.availableDayMask, :dayMask) <> 0")
+    List<Object[]> findParticipantIdsForDate(
+        @Param("date") Instant date,
+        @Param("dayMask") int dayMask
     );
 
-    // home 학생을 위한 쿼리
+    default List<Object[]> findParticipantIdsForDate(LocalDate date, int dayMask) {
+        return findParticipantIdsForDate(InstantToSqlDateConverter.toInstant(date), dayMask);
+    }
+
+    // 회차 테이블로 해당 날짜에 수강하는 (강의 ID, 학생 ID). 그날 열리는 강의만 골라 예약을 조인
+    @Query("SELECT o.liveId, ml.user.id FROM LectureOccurrence o " +
+        "JOIN MyLiveLecture ml ON ml.liveLecture.liveId = o.liveId " +
+        "WHERE o.lectureDate = :date " +
+        "AND ml.startDate <= :day AND ml.endDate >= :day")
+    List<Object[]> findParticipantIdsOn(@Param("date") LocalDate date, @Param("day") Instant day);
+
+    default List<Object[]> findParticipantIdsOn(LocalDate date) {
+        return findParticipantIdsOn(date, InstantToSqlDateConverter.toInstant(date));
+    }
+
+    // 회차 테이블로 해당 날짜 강의 하나의 학생 ID. 그날 열리지 않는 강의면 빈 목록
+    @Query("SELECT ml.user.id FROM LectureOccurrence o " +
+        "JOIN MyLiveLecture ml ON ml.liveLecture.liveId = o.liveId " +
+        "WHERE o.liveId = :liveId AND o.lectureDate = :date " +
+        "AND ml.startDate <= :day AND ml.endDate >= :day")
+    List<Integer> findLectureParticipantIdsOn(@Param("liveId") Long liveId,
+        @Param("date") LocalDate date, @Param("day") Instant day);
+
+    default List<Integer> findLectureParticipantIdsOn(Long liveId, LocalDate date) {
+        return findLectureParticipantIdsOn(liveId, date, InstantToSqlDateConverter.toInstant(date));
+    }
+
+    // home 학생을 위한 쿼리. 오늘 진행 중이거나 앞으로 남은 예약 = 종료 날짜가 오늘 이후. 회차 테이블 기간 뒤의 일정 계산에 사용
     @Query("SELECT ml FROM MyLiveLecture ml JOIN FETCH ml.liveLecture l JOIN FETCH l.user u " +
         "WHERE ml.user.id = :userId " +
-        "AND (DATE(ml.startDate) <= DATE(:currentDate) " +
-        "     AND DATE(ml.endDate) >= DATE(:currentDate) " +
-        "     OR DATE(ml.endDate) > DATE(:currentDate))" +
-        "     AND u.isDeleted = false  ")
+        "AND ml.endDate >= :currentDate " +
+        "AND u.isDeleted = false")
     List<MyLiveLecture> findCurrentMyLectures(
         @Param("userId") int userId,
-        @Param("currentDate") LocalDate currentDate
+        @Param("currentDate") Instant currentDate
     );
 
+    default List<MyLiveLecture> findCurrentMyLectures(int userId, LocalDate currentDate) {
+        return findCurrentMyLectures(userId, InstantToSqlDateConverter.toInstant(currentDate));
+    }
 
-    // history 학생을 위한 쿼리
+    // home 학생을 위한 쿼리. 예약 기간 안의 회차를 (강의 ID, 날짜) 유니크 인덱스로 조인해 커서 이후 노출할 회차를 조회.
+    // 예약 날짜와 회차 날짜를 DATE 컬럼끼리 비교하기 위해 네이티브 쿼리 사용. 노출 조건은 강사 쿼리와 같음
+    @Query(value = "SELECT o.* FROM my_live_lecture ml " +
+        "JOIN lecture_occurrence o ON o.live_id = ml.live_id " +
+        "AND o.lecture_date BETWEEN ml.start_date AND ml.end_date " +
+        "JOIN live_lectures l ON l.live_id = o.live_id " +
+        "JOIN users u ON u.user_id = l.user_id " +
+        "WHERE ml.user_id = :userId AND ml.end_date >= :yesterday AND u.is_deleted = false " +
+        "AND o.lecture_date >= :yesterday AND o.lecture_date <= :through " +
+        "AND (o.lecture_date > :today " +
+        "OR (o.lecture_date = :today AND (o.end_time > :now OR o.end_time < o.start_time)) " +
+        "OR (o.lecture_date = :yesterday AND o.end_time < o.start_time AND o.end_time > :now)) " +
+        "AND (o.lecture_date > :afterDate OR (o.lecture_date = :afterDate " +
+        "AND (o.start_time > :afterTime OR (o.start_time = :afterTime AND o.live_id > :afterId)))) " +
+        "ORDER BY o.lecture_date, o.start_time, o.live_id", nativeQuery = true)
+    List<LectureOccurrence> findStudentOccurrences(
+        @Param("userId") int userId,
+        @Param("yesterday") LocalDate yesterday,
+        @Param("today") LocalDate today,
+        @Param("now") LocalTime now,
+        @Param("through") LocalDate through,
+        @Param("afterDate") LocalDate afterDate,
+        @Param("afterTime") LocalTime afterTime,
+        @Param("afterId") long afterId,
+        Pageable pageable
+    );
+
+    default List<LectureOccurrence> findStudentOccurrences(int userId, LocalDate today,
+        LocalTime now, LectureCursor after, LocalDate through, int limit) {
+        return findStudentOccurrences(userId, today.minusDays(1), today, now, through,
+            after.getLectureDate(), after.getStartTime(), after.getLiveId(),
+            PageRequest.of(0, limit));
+    }
+
+
+    // history 학생을 위한 쿼리. 아직 기록되지 않은 기간과 겹치는 예약
+    @Query("SELECT ml FROM MyLiveLecture ml JOIN FETCH ml.liveLecture l JOIN FETCH l.user " +
+        "WHERE ml.user.id = :userId " +
+        "AND ml.endDate >= :from AND ml.startDate <= :to")
+    List<MyLiveLecture> findByUserActiveBetween(
+        @Param("userId") int userId,
+        @Param("from") Instant from,
+        @Param("to") Instant to
+    );
+
+    default List<MyLiveLecture> findByUserActiveBetween(int userId, LocalDate from,
+        LocalDate to) {
+        return findByUserActiveBetween(userId, InstantToSqlDateConverter.toInstant(from), InstantToSqlDateConverter.toInstant(to));
+    }
+
+    // 수강 내역 기록을 위한 쿼리. 해당 날짜에 수강하는 예약
+    @Query("SELECT ml FROM MyLiveLecture ml JOIN FETCH ml.liveLecture l JOIN FETCH l.user " +
+        "WHERE ml.endDate >= :date AND ml.startDate <= :date " +
+        "AND bitand(l.availableDayMask, :dayMask) <> 0")
+    List<MyLiveLecture> findReservationsForDate(
+        @Param("date") Instant date,
+        @Param("dayMask") int dayMask
+    );
+
+    default List<MyLiveLecture> findReservationsForDate(LocalDate date, int dayMask) {
+        return findReservationsForDate(InstantToSqlDateConverter.toInstant(date), dayMask);
+    }
+
+    // history 학생을 위한 쿼리. 진행 중이거나 끝난 예약 = 시작 날짜가 오늘 이전
     @Query("SELECT ml FROM MyLiveLecture ml JOIN FETCH ml.liveLecture l " +
         "WHERE ml.user.id = :userId " +
-        "AND (DATE(ml.startDate) <= DATE(:currentDate) " +
-        "     AND DATE(ml.endDate) >= DATE(:currentDate) " +
-        "     OR DATE(ml.endDate) < DATE(:currentDate))")
+        "AND ml.startDate <= :currentDate")
     List<MyLiveLecture> findPastAndOngoingLecturesByUserId(
         @Param("userId") int userId,
-        @Param("currentDate") LocalDate currentDate
+        @Param("currentDate") Instant currentDate
     );
+
+    default List<MyLiveLecture> findPastAndOngoingLecturesByUserId(int userId,
+        LocalDate currentDate) {
+        return findPastAndOngoingLecturesByUserId(userId, InstantToSqlDateConverter.toInstant(currentDate));
+    }
 }
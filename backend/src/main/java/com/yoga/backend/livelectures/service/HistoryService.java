@@ -1,9 +1,11 @@
 package com.yoga.backend.livelectures.service;
 
-import com.yoga.backend.livelectures.dto.LectureHistoryDto;
-import java.util.List;
+import com.yoga.backend.livelectures.dto.LectureHistoryPageDto;
 
 public interface HistoryService {
 
-    List<LectureHistoryDto> getHistory(int userId);
+    // 한 번에 조회할 수 있는 최대 페이지 크기
+    int MAX_PAGE_SIZE = 100;
+
+    LectureHistoryPageDto getHistory(int userId, String cursor, int size);
 }
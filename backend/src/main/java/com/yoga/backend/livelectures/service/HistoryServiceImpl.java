@@ -1,11 +1,16 @@
 package com.yoga.backend.livelectures.service;
 
+import com.yoga.backend.common.entity.LectureHistory;
 import com.yoga.backend.common.entity.LiveLectures;
 import com.yoga.backend.common.entity.MyLiveLecture;
 import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.common.util.LectureRecurrence;
+import com.yoga.backend.livelectures.dto.LectureCursor;
+import com.yoga.backend.livelectures.dto.LectureHistoryPageDto;
+import com.yoga.backend.livelectures.repository.LectureHistoryRepository;
 import com.yoga.backend.livelectures.repository.LiveLectureRepository;
 import com.yoga.backend.livelectures.repository.MyLiveLectureRepository;
-import com.yoga.backend.members.repository.UsersRepository;
 import com.yoga.backend.livelectures.dto.LectureHistoryDto;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -15,178 +20,160 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 수강 내역
+ * <p>
+ * 확정된 회차는 lecture_history에서 (날짜, 시작 시간, 강의 ID) 내림차순 키셋 페이지로 읽고, 아직 기록되지 않은 최근 이틀만 강의 일정으로
+ * 계산해 앞에 붙임
  */
 @Slf4j
 @Service
 public class HistoryServiceImpl implements HistoryService {
 
     private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final Comparator<LectureHistoryDto> LATEST_FIRST = Comparator
+        .comparing((LectureHistoryDto dto) -> LectureCursor.of(dto)).reversed();
 
     private final LiveLectureRepository liveLectureRepository;
     private final MyLiveLectureRepository myLiveLectureRepository;
-    private final UsersRepository usersRepository;
+    private final LectureHistoryRepository historyRepository;
+    private final LectureHistoryLedger historyLedger;
 
     public HistoryServiceImpl(
         LiveLectureRepository liveLectureRepository,
         MyLiveLectureRepository myLiveLectureRepository,
-        UsersRepository usersRepository) {
+        LectureHistoryRepository historyRepository,
+        LectureHistoryLedger historyLedger) {
         this.liveLectureRepository = liveLectureRepository;
         this.myLiveLectureRepository = myLiveLectureRepository;
-        this.usersRepository = usersRepository;
+        this.historyRepository = historyRepository;
+        this.historyLedger = historyLedger;
     }
 
     /**
      * 사용자 강의 이력 조회
      *
      * @param userId 사용자 ID
-     * @return 강의 이력 DTO 리스트
+     * @param cursor 이전 응답의 nextCursor. 첫 페이지는 null
+     * @param size   페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @return 강의 이력과 다음 커서
      */
     @Override
-    @Transactional(readOnly = true)
-    public List<LectureHistoryDto> getHistory(int userId) {
-        log.info("사용자 강의 이력 조회 시작: 사용자 ID {}", userId);
-
+    public LectureHistoryPageDto getHistory(int userId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("잘못된 페이지 크기: " + size);
+        }
+        LectureCursor after = LectureCursor.decode(cursor);
         ZonedDateTime nowKorea = ZonedDateTime.now(KOREA_ZONE);
+        LocalDate frozenThrough = historyLedger.frozenThrough();
+        catchUp(userId, frozenThrough);
 
         List<LectureHistoryDto> result = new ArrayList<>();
+        // 아직 기록되지 않은 최근 회차
+        if (after == null || after.getLectureDate().isAfter(frozenThrough)) {
+            for (LectureHistoryDto dto : getRecentLectures(userId, frozenThrough.plusDays(1),
+                nowKorea)) {
+                if (result.size() > size) {
+                    break;
+                }
+                if (after == null || LectureCursor.of(dto).compareTo(after) < 0) {
+                    result.add(dto);
+                }
+            }
+        }
 
-        result.addAll(getPastUserLectures(userId, nowKorea));
-        result.addAll(getPastStudentLectures(userId, nowKorea));
+        // 기록된 회차. 다음 페이지 여부를 알기 위해 하나 더 조회
+        if (result.size() <= size) {
+            PageRequest limit = PageRequest.of(0, size + 1 - result.size());
+            List<LectureHistory> rows =
+                after == null || after.getLectureDate().isAfter(frozenThrough)
+                    ? historyRepository.findLatest(userId, limit)
+                    : historyRepository.findBefore(userId, after.getLectureDate(),
+                        after.getStartTime(), after.getLiveId(), limit);
+            for (LectureHistory row : rows) {
+                result.add(createLectureHistoryDto(row.getLiveId(), row.getTeacher(),
+                    row.getLiveTitle(), row.getLectureDate(), row.getStartTime(),
+                    row.getEndTime()));
+            }
+        }
 
-        List<LectureHistoryDto> sortedResult = sortHistoryData(result);
-        log.info("사용자 강의 이력 조회 완료: 사용자 ID {}, 총 강의 수 {}", userId, sortedResult.size());
-        return sortedResult;
+        LectureHistoryPageDto page = new LectureHistoryPageDto();
+        if (result.size() > size) {
+            result = result.subList(0, size);
+            page.setNextCursor(LectureCursor.of(result.get(size - 1)).encode());
+        }
+        page.setLectures(result);
+        log.info("사용자 강의 이력 조회 완료: 사용자 ID {}, 강의 수 {}, 다음 페이지 {}", userId, result.size(),
+            page.getNextCursor() != null);
+        return page;
     }
 
     /**
-     * 학생의 과거 수강 이력
+     * 기록 위치가 뒤처졌으면 따라잡음. 같은 사용자의 요청이 동시에 기록한 경우 한 번 더 시도
      */
-    @Transactional(readOnly = true)
-    public List<LectureHistoryDto> getPastStudentLectures(int userId, ZonedDateTime nowKorea) {
-        log.info("학생의 과거 수강 이력 조회 시작: 사용자 ID {}", userId);
-
-        LocalDate currentDate = nowKorea.toLocalDate();
-
-        List<MyLiveLecture> myLiveLectures = myLiveLectureRepository.findPastAndOngoingLecturesByUserId(
-            userId, currentDate);
-
-        List<LectureHistoryDto> result = new ArrayList<>();
-
-        for (MyLiveLecture myLiveLecture : myLiveLectures) {
-            LiveLectures lecture = myLiveLecture.getLiveLecture();
-
-            List<LectureHistoryDto> dtos = convertToLectureHistoryDto(lecture, myLiveLecture,
-                nowKorea, false);
-
-            for (LectureHistoryDto dto : dtos) {
-                Users teacher = lecture.getUser();
-
-                dto.setProfileImageUrlSmall(teacher.getProfile_image_url_small());
-                result.add(dto);
-            }
+    private void catchUp(int userId, LocalDate frozenThrough) {
+        try {
+            historyLedger.catchUp(userId, frozenThrough);
+        } catch (DataIntegrityViolationException e) {
+            log.info("수강 내역 동시 기록 감지, 다시 시도: 사용자 ID {}", userId);
+            historyLedger.catchUp(userId, frozenThrough);
         }
-
-        log.info("학생의 과거 수강 이력 조회 완료: 사용자 ID {}, 강의 수 {}", userId, result.size());
-        return result;
     }
 
     /**
-     * 강사의 강의 이력
+     * 기록되지 않은 기간(from ~ 오늘)의 끝난 회차. 최신순
      */
-    @Transactional(readOnly = true)
-    public List<LectureHistoryDto> getPastUserLectures(int userId, ZonedDateTime nowKorea) {
-        log.info("강사의 강의 이력 조회 시작: 사용자 ID {}", userId);
-
-        LocalDate currentDate = nowKorea.toLocalDate();
-
-        List<LiveLectures> lectures = liveLectureRepository.findPastAndOngoingLecturesByUser(userId,
-            currentDate);
-
-        Users user = usersRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-
+    private List<LectureHistoryDto> getRecentLectures(int userId, LocalDate from,
+        ZonedDateTime nowKorea) {
+        LocalDate today = nowKorea.toLocalDate();
         List<LectureHistoryDto> result = new ArrayList<>();
-
-        for (LiveLectures lecture : lectures) {
-
-            List<LectureHistoryDto> dtos = convertToLectureHistoryDto(lecture, null, nowKorea,
-                true);
-
-            for (LectureHistoryDto dto : dtos) {
-                // 강사의 프로필 이미지 URL 설정
-                dto.setProfileImageUrlSmall(user.getProfile_image_url_small());
-                result.add(dto);
-            }
+        for (LiveLectures lecture : liveLectureRepository.findByUserActiveBetween(userId, from,
+            today)) {
+            result.addAll(convertToLectureHistoryDto(lecture, LectureRecurrence.of(lecture),
+                from, nowKorea));
         }
-
-        log.info("강사의 강의 이력 조회 완료: 사용자 ID {}, 강의 수 {}", userId, result.size());
+        for (MyLiveLecture myLiveLecture : myLiveLectureRepository.findByUserActiveBetween(
+            userId, from, today)) {
+            LiveLectures lecture = myLiveLecture.getLiveLecture();
+            result.addAll(convertToLectureHistoryDto(lecture,
+                LectureRecurrence.of(lecture, myLiveLecture), from, nowKorea));
+        }
+        result.sort(LATEST_FIRST);
         return result;
     }
 
-
     /**
      * LiveLectures Entity -> LectureHistoryDto
      */
-    public List<LectureHistoryDto> convertToLectureHistoryDto(LiveLectures lecture,
-        MyLiveLecture myLiveLecture, ZonedDateTime nowKorea, boolean isTeacher) {
+    private List<LectureHistoryDto> convertToLectureHistoryDto(LiveLectures lecture,
+        LectureRecurrence recurrence, LocalDate from, ZonedDateTime nowKorea) {
         List<LectureHistoryDto> dtos = new ArrayList<>();
 
-        LocalDate startDate;
-        LocalDate endDate;
-        if (myLiveLecture != null) {
-            startDate = myLiveLecture.getStartDate().atZone(ZoneOffset.UTC)
-                .withZoneSameInstant(KOREA_ZONE).toLocalDate();
-            endDate = myLiveLecture.getEndDate().atZone(ZoneOffset.UTC)
-                .withZoneSameInstant(KOREA_ZONE).toLocalDate();
-        } else {
-            startDate = lecture.getStartDate().atZone(ZoneOffset.UTC)
-                .withZoneSameInstant(KOREA_ZONE).toLocalDate();
-            endDate = lecture.getEndDate().atZone(ZoneOffset.UTC)
-                .withZoneSameInstant(KOREA_ZONE).toLocalDate();
-        }
-
-        LocalTime startTime = ZonedDateTime.ofInstant(lecture.getStartTime(), ZoneId.of("UTC"))
-            .toLocalTime();
-        LocalTime endTime = ZonedDateTime.ofInstant(lecture.getEndTime(), ZoneId.of("UTC"))
-            .toLocalTime();
+        LocalTime startTime = recurrence.getStartTime();
+        LocalTime endTime = recurrence.getEndTime();
 
         LocalDate today = nowKorea.toLocalDate();
         LocalTime nowTime = nowKorea.toLocalTime();
 
-        boolean tillYesterday = endTime.isBefore(startTime);
-
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-
-            if (date.isAfter(today)) {
-                break;
-            }
-
-            if (lecture.getAvailableDay()
-                .contains(date.getDayOfWeek().toString().substring(0, 3))) {
+        boolean tillYesterday = recurrence.isOvernight();
 
-                // 오늘 강의, 종료 시간이 지난 강의
-                boolean isLectureToday =
-                    date.isEqual(today) && endTime.isBefore(nowTime) && !tillYesterday;
+        for (LocalDate date : recurrence.occurrences(from, today)) {
 
-                // 어제 시작된 강의가 오늘까지 이어짐, 이미 종료
-                boolean isLectureYesterday =
-                    date.equals(today.minusDays(1)) && tillYesterday && endTime.isBefore(nowTime);
+            // 오늘 강의, 종료 시간이 지난 강의
+            boolean isLectureToday =
+                date.isEqual(today) && endTime.isBefore(nowTime) && !tillYesterday;
 
-                // 과거의 강의
-                boolean isPastLecture = date.isBefore(today);
+            // 과거의 강의
+            boolean isPastLecture = date.isBefore(today);
 
-                if (isPastLecture || isLectureToday || isLectureYesterday) {
-                    LectureHistoryDto dto = createLectureHistoryDto(lecture, date, startTime,
-                        endTime, isTeacher);
-                    dtos.add(dto);
-                }
+            if (isPastLecture || isLectureToday) {
+                dtos.add(createLectureHistoryDto(lecture.getLiveId(), lecture.getUser(),
+                    lecture.getLiveTitle(), date, startTime, endTime));
             }
         }
 
@@ -196,13 +183,14 @@ public class HistoryServiceImpl implements HistoryService {
     /**
      * LectureHistoryDto 생성
      */
-    public LectureHistoryDto createLectureHistoryDto(LiveLectures lecture, LocalDate date,
-        LocalTime startTime, LocalTime endTime, boolean isTeacher) {
+    private LectureHistoryDto createLectureHistoryDto(Long liveId, Users teacher,
+        String liveTitle, LocalDate date, LocalTime startTime, LocalTime endTime) {
         LectureHistoryDto dto = new LectureHistoryDto();
 
-        dto.setLiveId(lecture.getLiveId());
-        dto.setNickname(lecture.getUser().getNickname());
-        dto.setLiveTitle(lecture.getLiveTitle());
+        dto.setLiveId(liveId);
+        dto.setNickname(teacher.getNickname());
+        dto.setProfileImageUrlSmall(teacher.getProfile_image_url_small());
+        dto.setLiveTitle(liveTitle);
 
         ZonedDateTime lectureDateTime = date.atStartOfDay(KOREA_ZONE);
         ZonedDateTime gmtLectureDateTime = lectureDateTime.withZoneSameInstant(ZoneOffset.UTC);
@@ -216,20 +204,8 @@ public class HistoryServiceImpl implements HistoryService {
         dto.setEndTime(endDateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalTime().toNanoOfDay()
             / 1_000_000);
 
-        dto.setLectureDay(date.getDayOfWeek().toString().substring(0, 3));
+        dto.setLectureDay(DayMask.abbreviation(date.getDayOfWeek()));
 
         return dto;
     }
-
-    /**
-     * 내림차순 정렬
-     */
-    public List<LectureHistoryDto> sortHistoryData(List<LectureHistoryDto> data) {
-        return data.stream()
-            .sorted(Comparator
-                .comparingLong(LectureHistoryDto::getLectureDate)
-                .thenComparingLong(LectureHistoryDto::getStartTime)
-                .reversed())
-            .collect(Collectors.toList());
-    }
-}
\ No newline at end of file
+}
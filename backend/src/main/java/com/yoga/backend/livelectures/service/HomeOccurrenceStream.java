@@ -0,0 +1,111 @@
+package com.yoga.backend.livelectures.service;
+
+import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.common.util.LectureRecurrence;
+import com.yoga.backend.livelectures.dto.LectureCursor;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+
+/**
+ * 강의 하나(강사 강의 또는 학생 예약)의 홈 노출 일정을 날짜순으로 하나씩 꺼내는 스트림
+ * <p>
+ * 전체 일정을 미리 펼치지 않고 현재 날짜 하나만 들고 있다가, 꺼낼 때 {@link LectureRecurrence#next}로 다음 날짜로 이동
+ */
+class HomeOccurrenceStream {
+
+    /**
+     * (lectureDate, startTime, liveId) 순서. 홈 목록과 커서의 정렬 기준
+     */
+    static final Comparator<HomeOccurrenceStream> ORDER = Comparator
+        .comparing(HomeOccurrenceStream::current)
+        .thenComparing(stream -> stream.recurrence.getStartTime())
+        .thenComparingLong(stream -> stream.lecture.getLiveId());
+
+    private final LiveLectures lecture;
+    private final LectureRecurrence recurrence;
+    private final boolean teacher;
+    private final LocalDate today;
+    private final LocalTime nowTime;
+    private LocalDate current;
+
+    HomeOccurrenceStream(LiveLectures lecture, LectureRecurrence recurrence, boolean teacher,
+        LocalDate today, LocalTime nowTime, LectureCursor after) {
+        this.lecture = lecture;
+        this.recurrence = recurrence;
+        this.teacher = teacher;
+        this.today = today;
+        this.nowTime = nowTime;
+
+        // 어제 시작해 오늘까지 이어지는 강의부터 확인
+        LocalDate from = today.minusDays(1);
+        if (after != null) {
+            // 커서와 같은 날짜는 (startTime, liveId)가 커서보다 뒤일 때만 포함
+            LectureCursor sameDay = new LectureCursor(after.getLectureDate(),
+                recurrence.getStartTime(), lecture.getLiveId());
+            LocalDate resume = sameDay.compareTo(after) > 0
+                ? after.getLectureDate() : after.getLectureDate().plusDays(1);
+            if (resume.isAfter(from)) {
+                from = resume;
+            }
+        }
+        this.current = seek(from);
+    }
+
+    /**
+     * 현재 강의 날짜. 남은 강의가 없으면 null
+     */
+    LocalDate current() {
+        return current;
+    }
+
+    /**
+     * 다음 강의 날짜로 이동
+     */
+    void advance() {
+        current = seek(current.plusDays(1));
+    }
+
+    /**
+     * 현재 날짜 강의가 방송 중 표시 대상인지. 오늘 강의이거나 어제 시작해 오늘까지 이어지는 강의
+     */
+    boolean isCurrentLive() {
+        return !current.isBefore(today.minusDays(1)) && !current.isAfter(today);
+    }
+
+    LiveLectures getLecture() {
+        return lecture;
+    }
+
+    LectureRecurrence getRecurrence() {
+        return recurrence;
+    }
+
+    boolean isTeacher() {
+        return teacher;
+    }
+
+    private LocalDate seek(LocalDate from) {
+        LocalDate date = recurrence.next(from);
+        // 노출되지 않는 날짜는 어제/오늘뿐이므로 최대 두 번만 건너뜀
+        while (date != null && !isVisible(date)) {
+            date = recurrence.next(date.plusDays(1));
+        }
+        return date;
+    }
+
+    private boolean isVisible(LocalDate date) {
+        boolean overNight = recurrence.isOvernight();
+        LocalTime endTime = recurrence.getEndTime();
+        if (date.isAfter(today)) {
+            // 미래 강의
+            return true;
+        }
+        if (date.isEqual(today)) {
+            // 오늘 날짜 강의 && 종료 시간이 현재 시간 이후 || 자정을 넘음
+            return endTime.isAfter(nowTime) || overNight;
+        }
+        // 어제 시작된 강의가 오늘까지 이어짐 (자정을 넘고, 현재 시간이 종료 시간 이전)
+        return date.equals(today.minusDays(1)) && overNight && endTime.isAfter(nowTime);
+    }
+}
@@ -1,6 +1,7 @@
 package com.yoga.backend.livelectures.service;
 
 
+import com.yoga.backend.livelectures.dto.HomeFeedResponseDto;
 import com.yoga.backend.livelectures.dto.HomeResponseDto;
 import java.util.List;
 import org.springframework.data.domain.Page;
@@ -8,7 +9,12 @@ import org.springframework.data.domain.Pageable;
 
 public interface HomeService {
 
+    // 한 번에 조회할 수 있는 최대 페이지 크기
+    int MAX_PAGE_SIZE = 100;
+
     List<HomeResponseDto> getHomeData(int userId, int page, int size);
 
+    HomeFeedResponseDto getHomeFeed(int userId, String cursor, int size);
+
     boolean updateLiveState(Long liveId, Boolean isOnAir);
 }
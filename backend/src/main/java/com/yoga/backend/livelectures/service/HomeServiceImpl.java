@@ -1,12 +1,15 @@
 package com.yoga.backend.livelectures.service;
 
+import com.yoga.backend.common.entity.LectureOccurrence;
 import com.yoga.backend.common.entity.LiveLectures;
 import com.yoga.backend.common.entity.MyLiveLecture;
-import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.common.util.LectureRecurrence;
+import com.yoga.backend.livelectures.dto.LectureCursor;
+import com.yoga.backend.livelectures.dto.HomeFeedResponseDto;
 import com.yoga.backend.livelectures.dto.HomeResponseDto;
 import com.yoga.backend.livelectures.repository.LiveLectureRepository;
 import com.yoga.backend.livelectures.repository.MyLiveLectureRepository;
-import com.yoga.backend.members.repository.UsersRepository;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -15,8 +18,12 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
@@ -24,6 +31,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 내가 듣거나 진행할 강의들
+ * <p>
+ * 회차 테이블이 채운 기간(어제부터 약 4주)은 강사 회차와 예약 회차를 인덱스로 (날짜, 시작 시간, liveId) 순 조회해 병합. 그 뒤 날짜나
+ * 회차 테이블이 아직 채워지지 않은 경우에는 강의별 일정 스트림을 k-way 병합해, 요청한 페이지에 필요한 강의 날짜만 계산
  */
 @Slf4j
 @Service
@@ -32,15 +42,15 @@ public class HomeServiceImpl implements HomeService {
     private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
     private final LiveLectureRepository liveLectureRepository;
     private final MyLiveLectureRepository myLiveLectureRepository;
-    private final UsersRepository usersRepository;
+    private final LectureOccurrenceService lectureOccurrenceService;
 
     public HomeServiceImpl(
         LiveLectureRepository liveLectureRepository,
         MyLiveLectureRepository myLiveLectureRepository,
-        UsersRepository usersRepository) {
+        LectureOccurrenceService lectureOccurrenceService) {
         this.liveLectureRepository = liveLectureRepository;
         this.myLiveLectureRepository = myLiveLectureRepository;
-        this.usersRepository = usersRepository;
+        this.lectureOccurrenceService = lectureOccurrenceService;
     }
 
     /**
@@ -52,127 +62,166 @@ public class HomeServiceImpl implements HomeService {
     @Override
     @Transactional(readOnly = true)
     public List<HomeResponseDto> getHomeData(int userId, int page, int size) {
-        ZonedDateTime nowKorea = ZonedDateTime.now(KOREA_ZONE);
-        List<HomeResponseDto> result = new ArrayList<>();
-        result.addAll(getUserLectures(userId, nowKorea));
-        result.addAll(getStudentLectures(userId, nowKorea));
-        List<HomeResponseDto> sortedResult = sortHomeData(result);
-        // 페이지네이션
-        int start = page * size;
-        if (start >= sortedResult.size()) {
+        long skip = (long) page * size;
+        List<HomeSlot> slots = collect(userId, null,
+            (int) Math.min(Integer.MAX_VALUE, skip + size));
+        if (slots.size() <= skip) {
             log.warn("사용자 ID: {}, 페이지: {} - 요청된 페이지가 데이터 범위를 벗어남. 빈 리스트 반환", userId, page);
             return Collections.emptyList();
         }
-        int end = Math.min((start + size), sortedResult.size());
-        log.info("사용자 ID: {}, 페이지: {}, 크기: {} - 데이터 부분 집합 반환: {} ~ {}", userId, page, size, start,
-            end);
-        return sortedResult.subList(start, end);
+        // 앞 페이지는 DTO를 만들지 않고 건너뜀
+        List<HomeResponseDto> result = toDtos(slots.subList((int) skip, slots.size()));
+        log.info("사용자 ID: {}, 페이지: {}, 크기: {} - 데이터 {}건 반환", userId, page, size,
+            result.size());
+        return result;
     }
 
     /**
-     * 학생의 수강할 강의들
+     * 커서 이후의 진행/수강할 강의 조회
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor. 첫 페이지는 null
+     * @param size   페이지 크기
+     * @return 강의 목록과 다음 커서
      */
+    @Override
     @Transactional(readOnly = true)
-    protected List<HomeResponseDto> getStudentLectures(int userId, ZonedDateTime nowKorea) {
-        log.debug("학생 강의 조회 시작: 사용자 ID {}", userId);
-        LocalDate currentDate = nowKorea.toLocalDate();
-        List<MyLiveLecture> myLiveLectures = myLiveLectureRepository.findCurrentMyLectures(
-            userId, currentDate);
+    public HomeFeedResponseDto getHomeFeed(int userId, String cursor, int size) {
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        List<HomeSlot> slots = collect(userId, LectureCursor.decode(cursor), size + 1);
+        boolean hasNext = slots.size() > size;
+        List<HomeResponseDto> lectures = toDtos(hasNext ? slots.subList(0, size) : slots);
 
-        List<HomeResponseDto> result = new ArrayList<>();
-        for (MyLiveLecture myLiveLecture : myLiveLectures) {
-            LiveLectures lecture = myLiveLecture.getLiveLecture();
-            List<HomeResponseDto> dtos = convertToHomeResponseDto(lecture, myLiveLecture,
-                nowKorea, false);
-            for (HomeResponseDto dto : dtos) {
-                Users teacher = lecture.getUser();
-                dto.setProfileImageUrl(teacher.getProfile_image_url());
-                dto.setProfileImageUrlSmall(teacher.getProfile_image_url_small());
-                result.add(dto);
-            }
+        HomeFeedResponseDto response = new HomeFeedResponseDto();
+        response.setLectures(lectures);
+        if (hasNext && !lectures.isEmpty()) {
+            response.setNextCursor(LectureCursor.of(lectures.get(lectures.size() - 1)).encode());
         }
-        log.debug("학생 강의 변환 완료: 사용자 ID {}, 강의 수 {}", userId, result.size());
-        return result;
+        log.debug("사용자 ID: {}, 크기: {} - 데이터 {}건 반환, 다음 페이지 {}", userId, size,
+            lectures.size(), response.getNextCursor() != null);
+        return response;
     }
 
     /**
-     * 강사가 강의 할 것들
+     * 커서 이후의 강의를 순서대로 limit개까지 모음. 회차 테이블 기간은 인덱스로 조회하고, 모자라면 그 다음 날부터 일정 스트림으로 계산
      */
-    @Transactional(readOnly = true)
-    protected List<HomeResponseDto> getUserLectures(int userId, ZonedDateTime nowKorea) {
-        log.debug("강사 강의 조회 시작: 사용자 ID {}", userId);
-        LocalDate currentDate = nowKorea.toLocalDate();
-        List<LiveLectures> lectures = liveLectureRepository.findLecturesByUserAndDateRange(userId,
-            currentDate);
-        Users user = usersRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-        List<HomeResponseDto> result = new ArrayList<>();
-        for (LiveLectures lecture : lectures) {
-            List<HomeResponseDto> dtos = convertToHomeResponseDto(lecture, null, nowKorea,
-                true);
-            for (HomeResponseDto dto : dtos) {
-                // 강사의 프로필 이미지 URL 설정
-                dto.setProfileImageUrl(user.getProfile_image_url());
-                dto.setProfileImageUrlSmall(user.getProfile_image_url_small());
-                result.add(dto);
+    private List<HomeSlot> collect(int userId, LectureCursor after, int limit) {
+        ZonedDateTime nowKorea = ZonedDateTime.now(KOREA_ZONE);
+        LocalDate today = nowKorea.toLocalDate();
+        LocalTime nowTime = nowKorea.toLocalTime();
+
+        List<HomeSlot> slots = new ArrayList<>(Math.min(limit, MAX_PAGE_SIZE + 1));
+        LocalDate through = lectureOccurrenceService.coveredThrough();
+        if (through != null && (after == null || !after.getLectureDate().isAfter(through))) {
+            slots.addAll(findOccurrences(userId, today, nowTime, after, through, limit));
+            if (slots.size() >= limit) {
+                return slots;
             }
+            // 회차 테이블 기간 다음 날부터 이어서 계산
+            after = new LectureCursor(through, LocalTime.MAX, Long.MAX_VALUE);
         }
-        log.debug("강사 강의 변환 완료: 사용자 ID {}, 강의 수 {}", userId, result.size());
-        return result;
+
+        PriorityQueue<HomeOccurrenceStream> queue = openStreams(userId, today, nowTime, after);
+        while (slots.size() < limit && !queue.isEmpty()) {
+            HomeOccurrenceStream stream = queue.poll();
+            LectureRecurrence recurrence = stream.getRecurrence();
+            slots.add(new HomeSlot(stream.getLecture(), stream.current(),
+                recurrence.getStartTime(), recurrence.getEndTime(), stream.isTeacher()));
+            stream.advance();
+            offer(queue, stream);
+        }
+        return slots;
     }
 
     /**
-     * LiveLectures Entity -> HomeResponseDto
+     * 회차 테이블에서 강사 회차와 예약 회차를 각각 limit개까지 조회해 병합
      */
-    private List<HomeResponseDto> convertToHomeResponseDto(LiveLectures lecture,
-        MyLiveLecture myLiveLecture, ZonedDateTime nowKorea, boolean isTeacher) {
-        List<HomeResponseDto> dtos = new ArrayList<>();
-        LocalDate startDate;
-        LocalDate endDate;
-        if (myLiveLecture != null) {
-            startDate = myLiveLecture.getStartDate().atZone(ZoneOffset.UTC)
-                .withZoneSameInstant(KOREA_ZONE).toLocalDate();
-            endDate = myLiveLecture.getEndDate().atZone(ZoneOffset.UTC)
-                .withZoneSameInstant(KOREA_ZONE).toLocalDate();
-        } else {
-            startDate = lecture.getStartDate().atZone(ZoneOffset.UTC)
-                .withZoneSameInstant(KOREA_ZONE).toLocalDate();
-            endDate = lecture.getEndDate().atZone(ZoneOffset.UTC)
-                .withZoneSameInstant(KOREA_ZONE).toLocalDate();
+    private List<HomeSlot> findOccurrences(int userId, LocalDate today, LocalTime nowTime,
+        LectureCursor after, LocalDate through, int limit) {
+        // 커서가 없으면 노출 대상(어제 이후) 전체
+        LectureCursor from = after != null ? after
+            : new LectureCursor(today.minusDays(2), LocalTime.MIN, Long.MIN_VALUE);
+        List<LectureOccurrence> teaching = liveLectureRepository.findTeacherOccurrences(userId,
+            today, nowTime, from, through, limit);
+        List<LectureOccurrence> attending = myLiveLectureRepository.findStudentOccurrences(
+            userId, today, nowTime, from, through, limit);
+        if (teaching.isEmpty() && attending.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        LocalTime startTime = ZonedDateTime.ofInstant(lecture.getStartTime(), ZoneId.of("UTC"))
-            .toLocalTime();
-        LocalTime endTime = ZonedDateTime.ofInstant(lecture.getEndTime(), ZoneId.of("UTC"))
-            .toLocalTime();
-        LocalDate today = nowKorea.toLocalDate();
-        LocalTime nowTime = nowKorea.toLocalTime();
-        boolean overNight = endTime.isBefore(startTime);
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            if (lecture.getAvailableDay()
-                .contains(date.getDayOfWeek().toString().substring(0, 3))) {
-                // 오늘 날짜 강의 && 종료 시간이 현재 시간 이후 || 자정을 넘음
-                boolean isLectureToday =
-                    date.isEqual(today) && (endTime.isAfter(nowTime) || overNight);
-                // 어제 시작된 강의가 오늘까지 이어짐 (자정을 넘고, 현재 시간이 종료 시간 이전)
-                boolean isLectureStartedYesterday =
-                    date.equals(today.minusDays(1)) && overNight && endTime.isAfter(nowTime);
-                // 미래 강의
-                boolean isFutureLecture = date.isAfter(today);
-                if (isFutureLecture || isLectureToday || isLectureStartedYesterday) {
-                    boolean isOnAir = false;
-                    if (isLectureStartedYesterday) { // 어제 시작된 강의가 오늘까지 이어짐
-                        isOnAir = lecture.getIsOnAir();
-                    } else if (isLectureToday) { // 오늘 날짜 강의
-                        isOnAir = lecture.getIsOnAir();
-                    }
-                    HomeResponseDto dto = createHomeResponseDto(lecture, date, startTime, endTime,
-                        isTeacher, isOnAir);
-                    dtos.add(dto);
-                }
+        Set<Long> liveIds = new HashSet<>();
+        teaching.forEach(occurrence -> liveIds.add(occurrence.getLiveId()));
+        attending.forEach(occurrence -> liveIds.add(occurrence.getLiveId()));
+        Map<Long, LiveLectures> lectures = new HashMap<>();
+        for (LiveLectures lecture : liveLectureRepository.findWithUserByIds(liveIds)) {
+            lectures.put(lecture.getLiveId(), lecture);
+        }
+
+        List<HomeSlot> slots = new ArrayList<>(teaching.size() + attending.size());
+        addSlots(slots, teaching, lectures, true);
+        addSlots(slots, attending, lectures, false);
+        slots.sort(HomeSlot.ORDER);
+        log.debug("홈 회차 조회: 사용자 ID {}, 강사 회차 {}, 수강 회차 {}", userId, teaching.size(),
+            attending.size());
+        return slots.size() > limit ? slots.subList(0, limit) : slots;
+    }
+
+    private void addSlots(List<HomeSlot> slots, List<LectureOccurrence> occurrences,
+        Map<Long, LiveLectures> lectures, boolean isTeacher) {
+        for (LectureOccurrence occurrence : occurrences) {
+            LiveLectures lecture = lectures.get(occurrence.getLiveId());
+            // 조회 사이에 삭제된 강의
+            if (lecture != null) {
+                slots.add(new HomeSlot(lecture, occurrence.getLectureDate(),
+                    occurrence.getStartTime(), occurrence.getEndTime(), isTeacher));
             }
         }
-        return dtos;
+    }
+
+    /**
+     * 강사 강의와 학생 예약마다 일정 스트림을 열어 우선순위 큐에 담음. 각 스트림은 커서 이후 첫 날짜에 위치
+     */
+    private PriorityQueue<HomeOccurrenceStream> openStreams(int userId, LocalDate today,
+        LocalTime nowTime, LectureCursor after) {
+        List<LiveLectures> lectures = liveLectureRepository.findLecturesByUserAndDateRange(userId,
+            today);
+        List<MyLiveLecture> myLiveLectures = myLiveLectureRepository.findCurrentMyLectures(
+            userId, today);
+
+        PriorityQueue<HomeOccurrenceStream> queue = new PriorityQueue<>(
+            Math.max(1, lectures.size() + myLiveLectures.size()), HomeOccurrenceStream.ORDER);
+        for (LiveLectures lecture : lectures) {
+            offer(queue, new HomeOccurrenceStream(lecture, LectureRecurrence.of(lecture), true,
+                today, nowTime, after));
+        }
+        for (MyLiveLecture myLiveLecture : myLiveLectures) {
+            LiveLectures lecture = myLiveLecture.getLiveLecture();
+            offer(queue, new HomeOccurrenceStream(lecture,
+                LectureRecurrence.of(lecture, myLiveLecture), false, today, nowTime, after));
+        }
+        log.debug("홈 일정 스트림 준비: 사용자 ID {}, 강사 강의 {}, 수강 강의 {}", userId, lectures.size(),
+            myLiveLectures.size());
+        return queue;
+    }
+
+    private void offer(PriorityQueue<HomeOccurrenceStream> queue, HomeOccurrenceStream stream) {
+        if (stream.current() != null) {
+            queue.offer(stream);
+        }
+    }
+
+    private List<HomeResponseDto> toDtos(List<HomeSlot> slots) {
+        LocalDate today = LocalDate.now(KOREA_ZONE);
+        List<HomeResponseDto> result = new ArrayList<>(slots.size());
+        for (HomeSlot slot : slots) {
+            // 오늘 강의와 어제 시작해 오늘까지 이어지는 강의만 방송 상태 표시
+            boolean isCurrentLive = !slot.date.isBefore(today.minusDays(1))
+                && !slot.date.isAfter(today);
+            boolean isOnAir = isCurrentLive && Boolean.TRUE.equals(slot.lecture.getIsOnAir());
+            result.add(createHomeResponseDto(slot.lecture, slot.date, slot.startTime,
+                slot.endTime, slot.teacher, isOnAir));
+        }
+        return result;
     }
 
     /**
@@ -195,27 +244,15 @@ public class HomeServiceImpl implements HomeService {
                 / 1_000_000);
         dto.setEndTime(endDateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalTime().toNanoOfDay()
             / 1_000_000);
-        dto.setLectureDay(date.getDayOfWeek().toString().substring(0, 3));
+        dto.setLectureDay(DayMask.abbreviation(date.getDayOfWeek()));
         dto.setMaxLiveNum(lecture.getMaxLiveNum());
         dto.setProfileImageUrl(lecture.getUser().getProfile_image_url());
         dto.setProfileImageUrlSmall(lecture.getUser().getProfile_image_url_small());
         dto.setTeacher(isTeacher);
-        dto.setIsOnAir(lecture.getIsOnAir());
         dto.setIsOnAir(isOnAir);
         return dto;
     }
 
-    /**
-     * 오름차순 정렬
-     */
-    private List<HomeResponseDto> sortHomeData(List<HomeResponseDto> data) {
-        return data.stream()
-            .sorted(Comparator
-                .comparingLong(HomeResponseDto::getLectureDate)
-                .thenComparingLong(HomeResponseDto::getStartTime))
-            .collect(Collectors.toList());
-    }
-
     @Override
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public boolean updateLiveState(Long liveId, Boolean isOnAir) {
@@ -233,4 +270,33 @@ public class HomeServiceImpl implements HomeService {
             throw new RuntimeException("라이브 상태 업데이트 중 오류가 발생했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 홈 목록의 강의 한 회차
+     */
+    private static final class HomeSlot {
+
+        /**
+         * (lectureDate, startTime, liveId) 순서. {@link HomeOccurrenceStream#ORDER}와 같은 기준
+         */
+        private static final Comparator<HomeSlot> ORDER = Comparator
+            .comparing((HomeSlot slot) -> slot.date)
+            .thenComparing(slot -> slot.startTime)
+            .thenComparingLong(slot -> slot.lecture.getLiveId());
+
+        private final LiveLectures lecture;
+        private final LocalDate date;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final boolean teacher;
+
+        private HomeSlot(LiveLectures lecture, LocalDate date, LocalTime startTime,
+            LocalTime endTime, boolean teacher) {
+            this.lecture = lecture;
+            this.date = date;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.teacher = teacher;
+        }
+    }
+}
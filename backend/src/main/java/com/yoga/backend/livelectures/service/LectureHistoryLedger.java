@@ -0,0 +1,224 @@
+package com.yoga.backend.livelectures.service;
+
+import com.yoga.backend.common.entity.LectureHistory;
+import com.yoga.backend.common.entity.LectureHistoryWatermark;
+import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.common.entity.MyLiveLecture;
+import com.yoga.backend.common.service.ScheduledJobFence;
+import com.yoga.backend.common.service.ScheduledJobLock;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.common.util.LectureRecurrence;
+import com.yoga.backend.livelectures.repository.LectureHistoryRepository;
+import com.yoga.backend.livelectures.repository.LectureHistoryWatermarkRepository;
+import com.yoga.backend.livelectures.repository.LiveLectureRepository;
+import com.yoga.backend.livelectures.repository.MyLiveLectureRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 수강 내역 기록
+ * <p>
+ * 끝난 회차는 바뀌지 않으므로 lecture_history에 한 번만 기록. 매일 밤 이틀 전 회차를 모든 사용자에 대해 기록하고, 기록 위치가 뒤처진
+ * 사용자는 조회할 때 빠진 기간만 따라잡음. 자정을 넘기는 강의도 다음날 안에는 끝나므로 이틀 전까지는 확정된 회차로 봄
+ */
+@Slf4j
+@Service
+public class LectureHistoryLedger {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int FROZEN_LAG_DAYS = 2;
+    // 밤 작업이 멈췄을 때 한 번에 따라잡을 최대 일수. 그보다 오래된 날짜는 사용자별 조회 시 따라잡음
+    private static final int MAX_NIGHTLY_CATCH_UP_DAYS = 7;
+    private static final String FROZEN_THROUGH_KEY = "yoga:lecture-history:frozen-through";
+    private static final Duration JOB_LEASE = Duration.ofMinutes(10);
+    private static final Duration DAILY_JOB_MIN_HOLD = Duration.ofMinutes(1);
+    private static final String HISTORY_FENCE = "lecture_history";
+
+    private final LectureHistoryRepository historyRepository;
+    private final LectureHistoryWatermarkRepository watermarkRepository;
+    private final LiveLectureRepository liveLectureRepository;
+    private final MyLiveLectureRepository myLiveLectureRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ScheduledJobLock jobLock;
+    private final ScheduledJobFence jobFence;
+    private final TransactionTemplate transactionTemplate;
+
+    public LectureHistoryLedger(LectureHistoryRepository historyRepository,
+        LectureHistoryWatermarkRepository watermarkRepository,
+        LiveLectureRepository liveLectureRepository,
+        MyLiveLectureRepository myLiveLectureRepository, StringRedisTemplate stringRedisTemplate,
+        ScheduledJobLock jobLock, ScheduledJobFence jobFence,
+        TransactionTemplate transactionTemplate) {
+        this.historyRepository = historyRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.liveLectureRepository = liveLectureRepository;
+        this.myLiveLectureRepository = myLiveLectureRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jobLock = jobLock;
+        this.jobFence = jobFence;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 확정된 마지막 날짜. 이 날짜까지의 회차는 기록 대상
+     */
+    public LocalDate frozenThrough() {
+        return LocalDate.now(KOREA_ZONE).minusDays(FROZEN_LAG_DAYS);
+    }
+
+    /**
+     * 사용자의 기록 위치가 through보다 뒤처졌으면 빠진 기간의 회차를 기록
+     *
+     * @param userId  사용자 ID
+     * @param through 기록할 마지막 날짜
+     */
+    @Transactional
+    public void catchUp(int userId, LocalDate through) {
+        LectureHistoryWatermark watermark = watermarkRepository.findById(userId).orElse(null);
+        if (watermark != null && !watermark.getFrozenThrough().isBefore(through)) {
+            return;
+        }
+
+        // 처음 기록하는 사용자는 전체 기간, 아니면 기록 위치 다음날부터
+        LocalDate from = watermark == null ? null : watermark.getFrozenThrough().plusDays(1);
+        List<LiveLectures> lectures = from == null
+            ? liveLectureRepository.findPastAndOngoingLecturesByUser(userId, through)
+            : liveLectureRepository.findByUserActiveBetween(userId, from, through);
+        List<MyLiveLecture> reservations = from == null
+            ? myLiveLectureRepository.findPastAndOngoingLecturesByUserId(userId, through)
+            : myLiveLectureRepository.findByUserActiveBetween(userId, from, through);
+
+        Set<String> recorded = new HashSet<>();
+        List<Object[]> keys = from == null ? historyRepository.findKeysByUser(userId)
+            : historyRepository.findKeysByUserFrom(userId, from);
+        for (Object[] row : keys) {
+            recorded.add(row[0] + ":" + row[1]);
+        }
+
+        Instant now = Instant.now();
+        List<LectureHistory> entries = new ArrayList<>();
+        for (LiveLectures lecture : lectures) {
+            addEntries(entries, recorded, userId, lecture, LectureRecurrence.of(lecture), true,
+                from, through, now);
+        }
+        for (MyLiveLecture reservation : reservations) {
+            LiveLectures lecture = reservation.getLiveLecture();
+            addEntries(entries, recorded, userId, lecture,
+                LectureRecurrence.of(lecture, reservation), false, from, through, now);
+        }
+        historyRepository.saveAll(entries);
+
+        if (watermark == null) {
+            watermark = new LectureHistoryWatermark();
+            watermark.setUserId(userId);
+        }
+        watermark.setFrozenThrough(through);
+        watermarkRepository.save(watermark);
+        log.info("수강 내역 기록: 사용자 ID {}, {} ~ {}, {}건", userId, from, through, entries.size());
+    }
+
+    /**
+     * 매일 00:20에 실행, 확정된 날짜의 회차를 모든 사용자에 대해 기록
+     */
+    @Scheduled(cron = "0 20 0 * * *")
+    public void freezeNightly() {
+        jobLock.runExclusively("freezeLectureHistory", JOB_LEASE, DAILY_JOB_MIN_HOLD,
+            this::freezePendingDays);
+    }
+
+    private void freezePendingDays(long fencingToken) {
+        try {
+            LocalDate target = frozenThrough();
+            String last = stringRedisTemplate.opsForValue().get(FROZEN_THROUGH_KEY);
+            LocalDate date = target;
+            if (last != null) {
+                LocalDate next = LocalDate.parse(last).plusDays(1);
+                LocalDate earliest = target.minusDays(MAX_NIGHTLY_CATCH_UP_DAYS - 1);
+                date = next.isBefore(earliest) ? earliest : next;
+            }
+            for (; !date.isAfter(target); date = date.plusDays(1)) {
+                LocalDate day = date;
+                Integer frozen = transactionTemplate.execute(status -> {
+                    jobFence.check(HISTORY_FENCE, fencingToken);
+                    return freezeDay(day);
+                });
+                stringRedisTemplate.opsForValue().set(FROZEN_THROUGH_KEY, day.toString());
+                log.info("{} 수강 내역 기록 완료: {}건", day, frozen);
+            }
+        } catch (Exception e) {
+            log.error("수강 내역 기록 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 하루치 회차를 강사와 수강생 모두에 대해 기록하고, 전날까지 기록된 사용자의 기록 위치를 전진
+     */
+    private int freezeDay(LocalDate date) {
+        int dayMask = DayMask.of(date.getDayOfWeek());
+        Set<String> recorded = new HashSet<>();
+        for (Object[] row : historyRepository.findKeysOn(date)) {
+            recorded.add(row[0] + ":" + row[1]);
+        }
+
+        Instant now = Instant.now();
+        List<LectureHistory> entries = new ArrayList<>();
+        for (LiveLectures lecture : liveLectureRepository.findLecturesForToday(date,
+            dayMask)) {
+            int teacherId = lecture.getUser().getId();
+            if (LectureRecurrence.of(lecture).occursOn(date)
+                && recorded.add(teacherId + ":" + lecture.getLiveId())) {
+                entries.add(entry(teacherId, lecture, date, true, now));
+            }
+        }
+        for (MyLiveLecture reservation : myLiveLectureRepository.findReservationsForDate(date,
+            dayMask)) {
+            LiveLectures lecture = reservation.getLiveLecture();
+            int studentId = reservation.getUser().getId();
+            if (LectureRecurrence.of(lecture, reservation).occursOn(date)
+                && recorded.add(studentId + ":" + lecture.getLiveId())) {
+                entries.add(entry(studentId, lecture, date, false, now));
+            }
+        }
+        historyRepository.saveAll(entries);
+        watermarkRepository.advance(date.minusDays(1), date);
+        return entries.size();
+    }
+
+    private void addEntries(List<LectureHistory> entries, Set<String> recorded, int userId,
+        LiveLectures lecture, LectureRecurrence recurrence, boolean teaching, LocalDate from,
+        LocalDate through, Instant now) {
+        LocalDate start = from == null ? recurrence.getStartDate() : from;
+        for (LocalDate date : recurrence.occurrences(start, through)) {
+            if (recorded.add(lecture.getLiveId() + ":" + date)) {
+                entries.add(entry(userId, lecture, date, teaching, now));
+            }
+        }
+    }
+
+    private LectureHistory entry(int userId, LiveLectures lecture, LocalDate date,
+        boolean teaching, Instant now) {
+        LectureHistory history = new LectureHistory();
+        history.setUserId(userId);
+        history.setLiveId(lecture.getLiveId());
+        history.setTeacher(lecture.getUser());
+        history.setTeaching(teaching);
+        history.setLectureDate(date);
+        history.setStartTime(LectureRecurrence.toLocalTime(lecture.getStartTime()));
+        history.setEndTime(LectureRecurrence.toLocalTime(lecture.getEndTime()));
+        history.setLiveTitle(lecture.getLiveTitle());
+        history.setFrozenAt(now);
+        return history;
+    }
+}
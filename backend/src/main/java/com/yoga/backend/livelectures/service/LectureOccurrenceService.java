@@ -0,0 +1,253 @@
+package com.yoga.backend.livelectures.service;
+
+import com.yoga.backend.common.entity.LectureOccurrence;
+import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.common.service.ScheduledJobFence;
+import com.yoga.backend.common.service.ScheduledJobLock;
+import com.yoga.backend.common.util.LectureRecurrence;
+import com.yoga.backend.livelectures.repository.LectureOccurrenceRepository;
+import com.yoga.backend.livelectures.repository.LiveLectureRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 강의 회차 테이블 관리
+ * <p>
+ * 어제부터 horizon-days 일 뒤까지의 회차를 유지. 강의 생성/수정/삭제는 같은 트랜잭션에서 해당 강의 회차만 다시 만들고, 매일 밤 기간을 하루
+ * 밀면서 DB와 어긋난 회차를 맞춤. 기간을 모두 채운 뒤에만 채운 날짜를 redis에 기록하므로, 그 전에는 호출하는 쪽이 기존 조회를 사용
+ * <p>
+ * 갱신과 재구성은 모두 강의 행을 먼저 잠그므로 같은 강의의 회차를 동시에 쓰지 않음. 재구성은 강의마다 짧은 트랜잭션으로 나눠, 한 강의에서
+ * 충돌이 나도 그 강의만 건너뜀
+ */
+@Slf4j
+@Service
+public class LectureOccurrenceService {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String MATERIALIZED_THROUGH_KEY = "yoga:lecture-occurrence:through";
+    private static final Duration JOB_LEASE = Duration.ofMinutes(10);
+    private static final Duration DAILY_JOB_MIN_HOLD = Duration.ofMinutes(1);
+    // 밤 작업과 시작 시 작업이 같은 회차 테이블에 쓰므로 하나의 fence로 보호
+    private static final String OCCURRENCE_FENCE = "lecture_occurrence";
+
+    private final LectureOccurrenceRepository occurrenceRepository;
+    private final LiveLectureRepository liveLectureRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ScheduledJobLock jobLock;
+    private final ScheduledJobFence jobFence;
+    private final TransactionTemplate transactionTemplate;
+    private final int horizonDays;
+
+    public LectureOccurrenceService(LectureOccurrenceRepository occurrenceRepository,
+        LiveLectureRepository liveLectureRepository, StringRedisTemplate stringRedisTemplate,
+        ScheduledJobLock jobLock, ScheduledJobFence jobFence,
+        TransactionTemplate transactionTemplate,
+        @Value("${lecture.occurrence.horizon-days:28}") int horizonDays) {
+        this.occurrenceRepository = occurrenceRepository;
+        this.liveLectureRepository = liveLectureRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jobLock = jobLock;
+        this.jobFence = jobFence;
+        // 강의 행을 잠근 뒤 읽는 회차가 잠금을 기다리는 동안 커밋된 내용을 보도록 READ COMMITTED로 실행
+        this.transactionTemplate = new TransactionTemplate(
+            transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.horizonDays = horizonDays;
+    }
+
+    /**
+     * 강의 생성/수정 반영. 어제 이후 회차를 지우고 다시 만듦 (호출한 트랜잭션에 참여)
+     *
+     * @param lecture 저장된 강의
+     */
+    @Transactional
+    public void refresh(LiveLectures lecture) {
+        liveLectureRepository.lockForUpdate(lecture.getLiveId());
+        LocalDate from = firstDate();
+        occurrenceRepository.deleteByLiveIdFrom(lecture.getLiveId(), from);
+        List<LectureOccurrence> occurrences = expand(lecture, from, lastDate());
+        occurrenceRepository.saveAll(occurrences);
+        log.debug("강의 ID {} 회차 {}개 갱신", lecture.getLiveId(), occurrences.size());
+    }
+
+    /**
+     * 강의 삭제 반영 (호출한 트랜잭션에 참여)
+     *
+     * @param liveId 강의 ID
+     */
+    @Transactional
+    public void remove(Long liveId) {
+        liveLectureRepository.lockForUpdate(liveId);
+        occurrenceRepository.deleteByLiveId(liveId);
+    }
+
+    /**
+     * 여러 강의를 한 트랜잭션에서 반영. 강의를 직접 저장한 경우(부하 테스트 등) 사용
+     *
+     * @param lectures 저장된 강의 목록
+     */
+    @Transactional
+    public void refreshAll(Collection<LiveLectures> lectures) {
+        for (LiveLectures lecture : lectures) {
+            refresh(lecture);
+        }
+    }
+
+    /**
+     * 회차 테이블이 해당 날짜를 빠짐없이 담고 있는지 확인
+     *
+     * @param date 날짜
+     * @return 회차 테이블로 조회해도 되면 true
+     */
+    public boolean covers(LocalDate date) {
+        LocalDate through = coveredThrough();
+        return through != null && !date.isBefore(firstDate()) && !date.isAfter(through);
+    }
+
+    /**
+     * 회차 테이블이 어제부터 빠짐없이 담고 있는 마지막 날짜
+     *
+     * @return 마지막 날짜. 아직 채우지 않았으면 null
+     */
+    public LocalDate coveredThrough() {
+        String through = stringRedisTemplate.opsForValue().get(MATERIALIZED_THROUGH_KEY);
+        if (through == null) {
+            return null;
+        }
+        LocalDate date = LocalDate.parse(through);
+        return date.isBefore(firstDate()) ? null : date;
+    }
+
+    /**
+     * 매일 23:30에 실행, 기간을 하루 밀고 회차를 맞춤. 23:49 내일 강의 캐시보다 먼저 실행
+     */
+    @Scheduled(cron = "0 30 23 * * *")
+    public void rollHorizon() {
+        jobLock.runExclusively("rollLectureOccurrences", JOB_LEASE, DAILY_JOB_MIN_HOLD,
+            this::reconcileHorizon);
+    }
+
+    /**
+     * 서버 시작 시 회차 테이블을 채움. 이미 맞는 회차는 건너뛰므로 여러 번 실행해도 안전
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void materializeOnStartup() {
+        jobLock.runExclusively("materializeLectureOccurrences", JOB_LEASE, DAILY_JOB_MIN_HOLD,
+            this::reconcileHorizon);
+    }
+
+    private void reconcileHorizon(long fencingToken) {
+        try {
+            LocalDate from = firstDate();
+            LocalDate to = lastDate();
+            // 기간 안의 강의와, 회차만 남은 삭제된 강의
+            Set<Long> liveIds = new TreeSet<>(liveLectureRepository.findActiveIdsBetween(from, to));
+            liveIds.addAll(occurrenceRepository.findLiveIdsBetween(from, to));
+
+            int added = 0;
+            int removed = 0;
+            int conflicts = 0;
+            for (Long liveId : liveIds) {
+                try {
+                    int[] changed = transactionTemplate.execute(status -> {
+                        jobFence.check(OCCURRENCE_FENCE, fencingToken);
+                        return reconcile(liveId, from, to);
+                    });
+                    added += changed[0];
+                    removed += changed[1];
+                } catch (DataIntegrityViolationException e) {
+                    // 잠금 없이 같은 회차를 쓴 경우. 먼저 쓴 쪽이 강의 일정대로 만들었으므로 이 강의만 건너뜀
+                    conflicts++;
+                    log.warn("강의 회차 재구성 충돌, 건너뜀 - 강의 ID: {}", liveId);
+                }
+            }
+            Integer pruned = transactionTemplate.execute(status -> {
+                jobFence.check(OCCURRENCE_FENCE, fencingToken);
+                return occurrenceRepository.deleteBefore(from);
+            });
+            stringRedisTemplate.opsForValue().set(MATERIALIZED_THROUGH_KEY, to.toString());
+            log.info("강의 회차 재구성 완료 ({} ~ {}) - 강의 {}, 추가 {}, 삭제 {}, 충돌 {}, 지난 회차 삭제 {}", from,
+                to, liveIds.size(), added, removed, conflicts, pruned);
+        } catch (Exception e) {
+            log.error("강의 회차 재구성 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 강의 하나의 기간 안 회차를 강의 일정과 비교해 빠진 회차는 추가, 남은 회차는 삭제. 강의 행을 잠가 같은 강의의 생성/수정/삭제와 차례로
+     * 실행
+     *
+     * @return {추가, 삭제} 개수
+     */
+    private int[] reconcile(Long liveId, LocalDate from, LocalDate to) {
+        liveLectureRepository.lockForUpdate(liveId);
+        LiveLectures lecture = liveLectureRepository.findById(liveId).orElse(null);
+
+        Map<LocalDate, Long> existing = new HashMap<>();
+        for (Object[] row : occurrenceRepository.findKeysByLiveIdBetween(liveId, from, to)) {
+            existing.put((LocalDate) row[1], (Long) row[0]);
+        }
+
+        List<LectureOccurrence> missing = new ArrayList<>();
+        if (lecture != null) {
+            for (LectureOccurrence occurrence : expand(lecture, from, to)) {
+                if (existing.remove(occurrence.getLectureDate()) == null) {
+                    missing.add(occurrence);
+                }
+            }
+        }
+        occurrenceRepository.saveAll(missing);
+        if (!existing.isEmpty()) {
+            occurrenceRepository.deleteByIds(existing.values());
+        }
+        return new int[]{missing.size(), existing.size()};
+    }
+
+    private List<LectureOccurrence> expand(LiveLectures lecture, LocalDate from, LocalDate to) {
+        LectureRecurrence recurrence = LectureRecurrence.of(lecture);
+        List<LectureOccurrence> occurrences = new ArrayList<>();
+        for (LocalDate date : recurrence.occurrences(from, to)) {
+            LectureOccurrence occurrence = new LectureOccurrence();
+            occurrence.setLiveId(lecture.getLiveId());
+            occurrence.setTeacherId(lecture.getUser().getId());
+            occurrence.setLectureDate(date);
+            occurrence.setStartTime(recurrence.getStartTime());
+            occurrence.setEndTime(recurrence.getEndTime());
+            occurrences.add(occurrence);
+        }
+        return occurrences;
+    }
+
+    /**
+     * 어제 시작해 오늘까지 이어지는 강의가 있으므로 어제부터 유지
+     */
+    private LocalDate firstDate() {
+        return LocalDate.now(KOREA_ZONE).minusDays(1);
+    }
+
+    /**
+     * 밤에 재구성한 기간이 다음날에도 horizon-days 일을 덮도록 하루 더 유지
+     */
+    private LocalDate lastDate() {
+        return LocalDate.now(KOREA_ZONE).plusDays(horizonDays + 1L);
+    }
+}
@@ -0,0 +1,122 @@
+package com.yoga.backend.livelectures.service;
+
+import com.yoga.backend.common.converter.InstantToSqlDateConverter;
+import com.yoga.backend.common.service.ScheduledJobFence;
+import com.yoga.backend.common.service.ScheduledJobLock;
+import com.yoga.backend.common.service.TeacherAvailabilityIndex;
+import com.yoga.backend.livelectures.repository.LiveLectureRepository;
+import com.yoga.backend.livelectures.repository.MyLiveLectureRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 강의 좌석 관리
+ * <p>
+ * 예약 중인 좌석 수를 live_lectures.reserved_seats에 유지. 남은 좌석이 있을 때만 더하는 조건부 UPDATE로 예약하므로 동시에 예약해도
+ * 최대 인원을 넘지 않음. 종료 날짜가 지난 예약의 좌석은 매일 밤 다시 세어 돌려줌
+ */
+@Slf4j
+@Service
+public class LectureSeatService {
+
+    private static final Duration JOB_LEASE = Duration.ofMinutes(10);
+    private static final Duration DAILY_JOB_MIN_HOLD = Duration.ofMinutes(1);
+    private static final String SEAT_FENCE = "live_lecture_seats";
+
+    private final LiveLectureRepository liveLectureRepository;
+    private final MyLiveLectureRepository myLiveLectureRepository;
+    private final ScheduledJobLock jobLock;
+    private final ScheduledJobFence jobFence;
+    private final TransactionTemplate transactionTemplate;
+    private final TeacherAvailabilityIndex teacherAvailabilityIndex;
+
+    public LectureSeatService(LiveLectureRepository liveLectureRepository,
+        MyLiveLectureRepository myLiveLectureRepository, ScheduledJobLock jobLock,
+        ScheduledJobFence jobFence, TransactionTemplate transactionTemplate,
+        TeacherAvailabilityIndex teacherAvailabilityIndex) {
+        this.liveLectureRepository = liveLectureRepository;
+        this.myLiveLectureRepository = myLiveLectureRepository;
+        this.jobLock = jobLock;
+        this.jobFence = jobFence;
+        this.transactionTemplate = transactionTemplate;
+        this.teacherAvailabilityIndex = teacherAvailabilityIndex;
+    }
+
+    /**
+     * 좌석 하나 예약 (호출한 트랜잭션에 참여, 예약 저장이 실패하면 함께 롤백)
+     *
+     * @param liveId             강의 ID
+     * @param reservationEndDate 예약 종료 날짜
+     * @return 남은 좌석이 없으면 false
+     */
+    @Transactional
+    public boolean reserve(Long liveId, Instant reservationEndDate) {
+        // 오늘 끝나는 예약은 참여자 수에 들어가지 않으므로 좌석 확인만 함
+        int seats = occupiesSeat(reservationEndDate) ? 1 : 0;
+        if (liveLectureRepository.reserveSeats(liveId, seats) != 1) {
+            return false;
+        }
+        // 마지막 좌석이 찼을 때만 강사 가용 인덱스에서 이 강의를 제외. 인덱스 전체를 다시 만들지 않음
+        if (seats > 0) {
+            Integer remaining = liveLectureRepository.findRemainingSeats(liveId);
+            if (remaining != null && remaining <= 0) {
+                teacherAvailabilityIndex.closeAfterCommit(liveId);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 예약 테이블로 좌석 수를 다시 셈
+     *
+     * @param liveId 강의 ID
+     */
+    @Transactional
+    public void recount(Long liveId) {
+        liveLectureRepository.lockForUpdate(liveId);
+        int reserved = myLiveLectureRepository.countByLiveIdAndEndDateAfter(liveId, Instant.now());
+        liveLectureRepository.updateReservedSeats(liveId, reserved);
+    }
+
+    /**
+     * 매일 00:05에 실행, 끝난 예약의 좌석을 돌려주고 어긋난 좌석 수를 맞춤
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void releaseExpiredSeats() {
+        jobLock.runExclusively("releaseExpiredSeats", JOB_LEASE, DAILY_JOB_MIN_HOLD,
+            this::recountAll);
+    }
+
+    private void recountAll(long fencingToken) {
+        try {
+            List<Long> liveIds = liveLectureRepository.findIdsForSeatRecount(
+                InstantToSqlDateConverter.toInstant(LocalDate.now()));
+            // 강의마다 짧은 트랜잭션으로 잠가 예약을 오래 막지 않음
+            for (Long liveId : liveIds) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jobFence.check(SEAT_FENCE, fencingToken);
+                    recount(liveId);
+                });
+            }
+            teacherAvailabilityIndex.invalidateAfterCommit();
+            log.info("강의 좌석 재계산 완료: {}개 강의", liveIds.size());
+        } catch (Exception e) {
+            log.error("강의 좌석 재계산 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 참여자 수는 종료 날짜(DATE 컬럼)가 오늘보다 뒤인 예약만 셈
+     */
+    private static boolean occupiesSeat(Instant endDate) {
+        return new InstantToSqlDateConverter().convertToDatabaseColumn(endDate).toLocalDate()
+            .isAfter(LocalDate.now());
+    }
+}
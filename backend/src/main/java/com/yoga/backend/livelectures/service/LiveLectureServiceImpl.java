@@ -3,7 +3,8 @@ package com.yoga.backend.livelectures.service;
 import com.yoga.backend.common.entity.LiveLectures;
 import com.yoga.backend.common.entity.MyLiveLecture;
 import com.yoga.backend.common.entity.Users;
-import com.yoga.backend.fcm.NotificationService;
+import com.yoga.backend.common.service.TeacherAvailabilityIndex;
+import com.yoga.backend.fcm.NotificationOutboxService;
 import com.yoga.backend.livelectures.repository.LiveLectureRepository;
 import com.yoga.backend.livelectures.repository.MyLiveLectureRepository;
 import com.yoga.backend.members.repository.UsersRepository;
@@ -25,15 +26,21 @@ public class LiveLectureServiceImpl implements LiveLectureService {
     private final LiveLectureRepository liveLecturesRepository;
     private final UsersRepository usersRepository;
     private final MyLiveLectureRepository myLiveLectureRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final LectureOccurrenceService lectureOccurrenceService;
+    private final TeacherAvailabilityIndex teacherAvailabilityIndex;
 
     public LiveLectureServiceImpl(LiveLectureRepository liveLecturesRepository,
         UsersRepository usersRepository, MyLiveLectureRepository myLiveLectureRepository,
-        NotificationService notificationService) {
+        NotificationOutboxService notificationOutboxService,
+        LectureOccurrenceService lectureOccurrenceService,
+        TeacherAvailabilityIndex teacherAvailabilityIndex) {
         this.liveLecturesRepository = liveLecturesRepository;
         this.usersRepository = usersRepository;
         this.myLiveLectureRepository = myLiveLectureRepository;
-        this.notificationService = notificationService;
+        this.notificationOutboxService = notificationOutboxService;
+        this.lectureOccurrenceService = lectureOccurrenceService;
+        this.teacherAvailabilityIndex = teacherAvailabilityIndex;
     }
 
     /**
@@ -57,7 +64,7 @@ public class LiveLectureServiceImpl implements LiveLectureService {
         liveLecture.setEndTime(Instant.ofEpochMilli(liveLectureCreateDto.getEndTime()));// 한국 시간
         liveLecture.setMaxLiveNum(liveLectureCreateDto.getMaxLiveNum());
         liveLecture.setRegDate(Instant.now());
-        liveLecture.setAvailableDay(liveLectureCreateDto.getAvailableDay());
+        liveLecture.setAvailableDayMask(liveLectureCreateDto.getAvailableDayMask());
 
         if (liveLectureCreateDto.getUserId() != 0) {
             Optional<Users> userOptional = usersRepository.findById(
@@ -68,7 +75,9 @@ public class LiveLectureServiceImpl implements LiveLectureService {
 
                 LiveLectures savedLiveLecture = liveLecturesRepository.save(liveLecture);
                 log.info("라이브 강의 저장 완료: 강의 ID {}", savedLiveLecture.getLiveId());
-                notificationService.handleLectureUpdate(savedLiveLecture);
+                lectureOccurrenceService.refresh(savedLiveLecture);
+                teacherAvailabilityIndex.invalidateAfterCommit();
+                notificationOutboxService.lectureCreated(savedLiveLecture);
 
                 LiveLectureCreateResponseDto responseDto = new LiveLectureCreateResponseDto();
                 responseDto.setMessage("화상강의 생성 성공");
@@ -133,14 +142,14 @@ public class LiveLectureServiceImpl implements LiveLectureService {
             liveLecture.setMaxLiveNum(liveLectureCreateDto.getMaxLiveNum());
         }
         if (liveLectureCreateDto.getAvailableDay() != null) {
-            liveLecture.setAvailableDay(liveLectureCreateDto.getAvailableDay());
+            liveLecture.setAvailableDayMask(liveLectureCreateDto.getAvailableDayMask());
         }
 
         LiveLectures updatedLecture = liveLecturesRepository.save(liveLecture);
         log.info("라이브 강의 수정 완료: 강의 ID {}", updatedLecture.getLiveId());
-        notificationService.handleLectureUpdate(updatedLecture);
-
-        notificationService.sendLectureUpdateNotification(updatedLecture);
+        lectureOccurrenceService.refresh(updatedLecture);
+        teacherAvailabilityIndex.invalidateAfterCommit();
+        notificationOutboxService.lectureUpdated(updatedLecture);
 
     }
 
@@ -188,10 +197,10 @@ public class LiveLectureServiceImpl implements LiveLectureService {
             myLiveLectureRepository.deleteAll(myLiveLectures);
 
             liveLecturesRepository.delete(lecture);
+            lectureOccurrenceService.remove(liveId);
+            teacherAvailabilityIndex.invalidateAfterCommit();
 
-            notificationService.handleLectureDelete(liveId);
-
-            notificationService.sendLectureDeletionNotification(lecture, myLiveLectures);
+            notificationOutboxService.lectureDeleted(lecture, myLiveLectures);
 
         } catch (Exception e) {
             throw new RuntimeException("강의 삭제 실패", e);
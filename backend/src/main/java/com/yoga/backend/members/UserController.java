@@ -1,6 +1,7 @@
 package com.yoga.backend.members;
 
 import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.exeption.PasswordHashingBusyException;
 import com.yoga.backend.common.util.JwtUtil;
 import com.yoga.backend.members.dto.RegisterDto;
 import com.yoga.backend.members.dto.UpdateDto;
@@ -53,6 +54,8 @@ public class UserController {
                     response.put("data", new Object[]{});
                     return ResponseEntity.status(HttpStatus.CREATED).body(response);
                 }
+            } catch (PasswordHashingBusyException ex) {
+                throw ex;
             } catch (Exception ex) {
                 log.info("회원가입 불가 {}", ex.getMessage());
                 response.put("message", "회원가입 불가" + ex.getMessage());
@@ -279,6 +282,8 @@ public class UserController {
                 response.put("data", new Object[]{});
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
             }
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             response.put("message", "수정 중 오류 발생: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
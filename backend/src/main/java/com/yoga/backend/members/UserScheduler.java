@@ -1,6 +1,8 @@
 package com.yoga.backend.members;
 
+import com.yoga.backend.common.service.ScheduledJobLock;
 import com.yoga.backend.members.service.UsersService;
+import java.time.Duration;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -8,13 +10,16 @@ import org.springframework.stereotype.Component;
 public class UserScheduler {
 
     private final UsersService usersService;
+    private final ScheduledJobLock jobLock;
 
-    public UserScheduler(UsersService usersService) {
+    public UserScheduler(UsersService usersService, ScheduledJobLock jobLock) {
         this.usersService = usersService;
+        this.jobLock = jobLock;
     }
 
     @Scheduled(cron = "0 0 2 * * *") // 매일 새벽 2시에 실행
     public void processDeletedUsers() {
-        usersService.processDeletedUsers();
+        jobLock.runExclusively("processDeletedUsers", Duration.ofMinutes(10),
+            Duration.ofMinutes(1), usersService::processDeletedUsers);
     }
 }
\ No newline at end of file
@@ -18,6 +18,8 @@ public interface UsersRepository extends CrudRepository<Users, Long> {
 
     Optional<Users> findByIdAndIsDeletedFalse(int id);
 
+    Optional<Users> findByEmailAndIsDeletedFalse(String email);
+
     @Query("SELECT u FROM Users u WHERE u.email = :email AND u.isDeleted = false")
     Optional<Users> findByEmail(@Param("email") String email);
 
@@ -27,6 +29,10 @@ public interface UsersRepository extends CrudRepository<Users, Long> {
     @Query("SELECT u FROM Users u WHERE u.email = :email")
     Optional<Users> findByEmailWithLock(String email);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM Users u WHERE u.id = :id")
+    Optional<Users> findByIdWithLock(@Param("id") int id);
+
     List<Users> findByDeletedAtBeforeAndIsDeletedFalse(Instant dateTime);
 
     @Query("SELECT tl.teacher FROM TeacherLike tl WHERE tl.user.id = :userId")
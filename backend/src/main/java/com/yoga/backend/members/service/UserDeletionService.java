@@ -1,31 +1,54 @@
 package com.yoga.backend.members.service;
 
 import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.util.JwtUtil;
+import com.yoga.backend.fcm.DeviceTokenService;
 import com.yoga.backend.members.repository.UsersRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
 public class UserDeletionService {
 
     private final UsersRepository usersRepository;
+    private final DeviceTokenService deviceTokenService;
+    private final JwtUtil jwtUtil;
 
-    public UserDeletionService(UsersRepository usersRepository) {
+    public UserDeletionService(UsersRepository usersRepository,
+        DeviceTokenService deviceTokenService, JwtUtil jwtUtil) {
         this.usersRepository = usersRepository;
+        this.deviceTokenService = deviceTokenService;
+        this.jwtUtil = jwtUtil;
     }
 
     @Transactional(isolation = Isolation.SERIALIZABLE)
     public void processDeletedUser(Users user) {
         log.info("사용자 삭제 처리 시작: 사용자 ID {}", user.getId());
+        revokeSessionAfterCommit(user.getId(), user.getEmail());
         user.setIsDeleted(true);
         anonymizeUserData(user);
         usersRepository.save(user);
         log.info("사용자 삭제 처리 완료: 사용자 ID {}", user.getId());
     }
 
+    /**
+     * 익명화가 커밋된 뒤 이전 이메일의 세션과 계정 역할 기록을 삭제. 이후 리프레시는 DB 확인에서 거부됨
+     */
+    private void revokeSessionAfterCommit(int userId, String email) {
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    jwtUtil.revokeAccount(userId, email);
+                }
+            });
+    }
+
     private void anonymizeUserData(Users user) {
         log.debug("사용자 데이터 익명화 시작: 사용자 ID {}", user.getId());
         user.setEmail("deleted_" + user.getId() + "@yoganavi.com");
@@ -35,6 +58,7 @@ public class UserDeletionService {
         user.setContent(null);
         user.setFcmToken(null);
         usersRepository.save(user);
+        deviceTokenService.removeAll(user.getId());
         log.info("사용자 {} 익명화 완료", user.getId());
     }
 }
\ No newline at end of file
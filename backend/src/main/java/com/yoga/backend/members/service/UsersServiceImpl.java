@@ -3,6 +3,7 @@ package com.yoga.backend.members.service;
 import com.yoga.backend.common.entity.Hashtag;
 import com.yoga.backend.common.entity.TempAuthInfo;
 import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.exeption.PasswordHashingBusyException;
 import com.yoga.backend.common.service.S3Service;
 import com.yoga.backend.members.dto.RegisterDto;
 import com.yoga.backend.members.dto.UpdateDto;
@@ -503,6 +504,8 @@ public class UsersServiceImpl implements UsersService {
             } else {
                 return false;
             }
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
 //            log.error("비밀번호 확인 중 에러 발생", e);
             return false;
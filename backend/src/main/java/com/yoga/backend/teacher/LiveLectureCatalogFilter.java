@@ -0,0 +1,31 @@
+package com.yoga.backend.teacher;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 실시간 강의 카탈로그 필터
+ */
+@Getter
+@Setter
+public class LiveLectureCatalogFilter {
+
+    // 시간대 기본값 (00:00 ~ 23:59, 하루 중 밀리초)
+    public static final long DAY_START = 0;
+    public static final long DAY_END = 86_340_000;
+    // 한 번에 조회할 수 있는 최대 페이지 크기
+    public static final int MAX_SIZE = 100;
+
+    private int method; // 조회 방법 (0: 최대 수강자 수가 1인 강의, 1: 그 외)
+    private Integer teacherId; // 강사 ID. null이면 전체
+    private int dayMask; // 수강 가능한 요일 비트. 강의 요일이 모두 이 안에 있어야 함
+    private long startTime; // 시간대 시작 (하루 중 밀리초)
+    private long endTime; // 시간대 끝 (하루 중 밀리초)
+    private int minSeats; // 최소 남은 좌석 수
+    private String cursor; // 이전 응답의 nextCursor
+    private int size; // 페이지 크기 (1 ~ MAX_SIZE)
+
+    public boolean isWholeDay() {
+        return startTime <= DAY_START && endTime >= DAY_END;
+    }
+}
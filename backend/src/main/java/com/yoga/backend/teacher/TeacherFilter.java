@@ -1,5 +1,6 @@
 package com.yoga.backend.teacher;
 
+import com.yoga.backend.common.util.DayMask;
 import java.time.Instant;
 
 /**
@@ -36,6 +37,11 @@ public class TeacherFilter {
         return day;
     }
 
+    // "MON,WED," 형식의 요일을 요일 비트로
+    public int getDayMask() {
+        return DayMask.parse(day);
+    }
+
     public void setDay(String day) {
         this.day = day;
     }
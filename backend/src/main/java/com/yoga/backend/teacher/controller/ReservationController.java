@@ -1,6 +1,10 @@
 package com.yoga.backend.teacher.controller;
 
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.livelectures.dto.LiveLectureCatalogDto;
+import com.yoga.backend.livelectures.dto.LiveLectureCatalogPageDto;
 import com.yoga.backend.livelectures.dto.LiveLectureDto;
+import com.yoga.backend.teacher.LiveLectureCatalogFilter;
 import com.yoga.backend.teacher.dto.ReservationRequestDto;
 import com.yoga.backend.teacher.service.ReservationService;
 import com.yoga.backend.common.util.JwtUtil;
@@ -115,6 +119,84 @@ public class ReservationController {
         }
     }
 
+    /**
+     * 예약 가능한 실시간 강의 카탈로그 조회. 시작 날짜순으로 size개씩, 다음 페이지는 nextCursor로 요청
+     *
+     * @param method    조회 방법 (0: 최대 수강자 수가 1인 강의, 1: 그 외)
+     * @param teacherId 강사 ID. 생략하면 전체
+     * @param day       수강 가능한 요일 ("MON,WED")
+     * @param startTime 시간대 시작 (하루 중 밀리초)
+     * @param endTime   시간대 끝 (하루 중 밀리초)
+     * @param minSeats  최소 남은 좌석 수
+     * @param cursor    이전 응답의 nextCursor. 첫 페이지는 생략
+     * @param size      페이지 크기
+     * @return 실시간 강의 페이지
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<Map<String, Object>> getLiveLectureCatalog(
+        @RequestParam int method,
+        @RequestParam(required = false) Integer teacherId,
+        @RequestParam(defaultValue = "MON,TUE,WED,THU,FRI,SAT,SUN") String day,
+        @RequestParam(defaultValue = "0") long startTime,
+        @RequestParam(defaultValue = "86340000") long endTime,
+        @RequestParam(defaultValue = "1") int minSeats,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        LiveLectureCatalogFilter filter = new LiveLectureCatalogFilter();
+        filter.setMethod(method);
+        filter.setTeacherId(teacherId);
+        filter.setDayMask(DayMask.parse(day));
+        filter.setStartTime(startTime);
+        filter.setEndTime(endTime);
+        filter.setMinSeats(minSeats);
+        filter.setCursor(cursor);
+        filter.setSize(size);
+
+        Map<String, Object> response = new HashMap<>();
+        try {
+            LiveLectureCatalogPageDto page = reservationService.getLiveLectureCatalog(filter);
+            response.put("message", "success");
+            response.put("data", page.getLectures().stream().map(this::convertToResponse)
+                .collect(Collectors.toList()));
+            response.put("nextCursor", page.getNextCursor());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("message", e.getMessage());
+            response.put("data", null);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            response.put("message", "서버 내부 오류가 발생했습니다");
+            response.put("data", null);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * LiveLectureCatalogDto를 Map 형태로 변환
+     *
+     * @param dto LiveLectureCatalogDto 객체
+     * @return 변환된 Map 객체
+     */
+    private Map<String, Object> convertToResponse(LiveLectureCatalogDto dto) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("liveId", dto.getLiveId()); // 실시간 강의 ID
+        response.put("liveTitle", dto.getLiveTitle()); // 실시간 강의 제목
+        response.put("teacherId", dto.getTeacherId()); // 강사 ID
+        response.put("nickname", dto.getNickname()); // 강사 닉네임
+        response.put("availableDay", DayMask.format(dto.getAvailableDayMask())); // 가능한 요일
+        response.put("startDate", dto.getStartDate().toEpochMilli()); // 시작 날짜
+        response.put("endDate", dto.getEndDate().toEpochMilli()); // 종료 날짜
+        response.put("startTime",
+            ZonedDateTime.ofInstant(dto.getStartTime(), ZoneId.of("UTC")).toLocalTime()
+                .toNanoOfDay() / 1_000_000); // 시작 시간
+        response.put("endTime",
+            ZonedDateTime.ofInstant(dto.getEndTime(), ZoneId.of("UTC")).toLocalTime().toNanoOfDay()
+                / 1_000_000); // 종료 시간
+        response.put("maxLiveNum", dto.getMaxLiveNum()); // 최대 수강자 수
+        response.put("remainingSeats", dto.getRemainingSeats()); // 남은 좌석 수
+        return response;
+    }
+
     /**
      * LiveLectureDto를 Map 형태로 변환
      *
@@ -0,0 +1,105 @@
+package com.yoga.backend.teacher.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.yoga.backend.common.converter.InstantToSqlDateConverter;
+import com.yoga.backend.common.converter.InstantToSqlTimeConverter;
+import com.yoga.backend.common.entity.QLiveLectures;
+import com.yoga.backend.common.entity.QUsers;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.livelectures.dto.LectureCursor;
+import com.yoga.backend.livelectures.dto.LiveLectureCatalogDto;
+import com.yoga.backend.teacher.LiveLectureCatalogFilter;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 실시간 강의 카탈로그 조회. 필터와 남은 좌석 조건을 모두 쿼리에서 처리하고 (시작 날짜, 시작 시간, 강의 ID) 키셋으로 페이지 조회
+ */
+@Repository
+public class LiveLectureCatalogRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public LiveLectureCatalogRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * 예약 가능한 강의 페이지 조회
+     *
+     * @param filter 필터
+     * @param after  이전 페이지의 마지막 위치. 첫 페이지는 null
+     * @param limit  최대 개수
+     * @return 시작 날짜, 시작 시간, 강의 ID 순의 강의 목록
+     */
+    public List<LiveLectureCatalogDto> findPage(LiveLectureCatalogFilter filter,
+        LectureCursor after, int limit) {
+        QLiveLectures lecture = QLiveLectures.liveLectures;
+        QUsers teacher = QUsers.users;
+
+        BooleanBuilder where = new BooleanBuilder()
+            .and(lecture.endDate.gt(Instant.now()))
+            .and(teacher.isDeleted.eq(false))
+            .and(filter.getMethod() == 0 ? lecture.maxLiveNum.eq(1) : lecture.maxLiveNum.gt(1))
+            .and(lecture.maxLiveNum.subtract(lecture.reservedSeats)
+                .goe(Math.max(1, filter.getMinSeats())));
+
+        if (filter.getTeacherId() != null) {
+            where.and(teacher.id.eq(filter.getTeacherId()));
+        }
+
+        // 강의 요일이 모두 고른 요일 안에 있는 강의
+        if (filter.getDayMask() != DayMask.ALL) {
+            where.and(Expressions.numberTemplate(Integer.class, "bitand({0}, {1})",
+                lecture.availableDayMask, filter.getDayMask()).eq(lecture.availableDayMask));
+        }
+
+        // 시간대 안에 시작하고 끝나는 강의. 하루 전체면 자정을 넘기는 강의도 포함
+        if (!filter.isWholeDay()) {
+            Instant from = toTimeParam(filter.getStartTime());
+            Instant to = toTimeParam(filter.getEndTime());
+            where.and(lecture.startTime.goe(from))
+                .and(lecture.endTime.loe(to))
+                .and(lecture.endTime.gt(lecture.startTime));
+        }
+
+        if (after != null) {
+            Instant date = InstantToSqlDateConverter.toInstant(after.getLectureDate());
+            Instant time = InstantToSqlTimeConverter.toInstant(after.getStartTime());
+            where.and(lecture.startDate.gt(date)
+                .or(lecture.startDate.eq(date).and(lecture.startTime.gt(time)
+                    .or(lecture.startTime.eq(time).and(lecture.liveId.gt(after.getLiveId()))))));
+        }
+
+        return queryFactory
+            .select(Projections.constructor(LiveLectureCatalogDto.class,
+                lecture.liveId,
+                lecture.liveTitle,
+                teacher.id,
+                teacher.nickname,
+                lecture.availableDayMask,
+                lecture.startDate,
+                lecture.endDate,
+                lecture.startTime,
+                lecture.endTime,
+                lecture.maxLiveNum,
+                lecture.reservedSeats))
+            .from(lecture)
+            .join(lecture.user, teacher)
+            .where(where)
+            .orderBy(lecture.startDate.asc(), lecture.startTime.asc(), lecture.liveId.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    /**
+     * 하루 중 밀리초를 강의 등록 때와 같은 방식(epoch 밀리초)의 값으로. 바인딩할 때 컬럼 컨버터를 거쳐 같은 TIME 값이 됨
+     */
+    private static Instant toTimeParam(long millisOfDay) {
+        return Instant.ofEpochMilli(millisOfDay);
+    }
+}
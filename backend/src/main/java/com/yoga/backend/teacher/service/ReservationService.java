@@ -1,7 +1,9 @@
 package com.yoga.backend.teacher.service;
 
 import com.yoga.backend.common.entity.MyLiveLecture;
+import com.yoga.backend.livelectures.dto.LiveLectureCatalogPageDto;
 import com.yoga.backend.livelectures.dto.LiveLectureDto;
+import com.yoga.backend.teacher.LiveLectureCatalogFilter;
 import com.yoga.backend.teacher.dto.ReservationRequestDto;
 
 import java.util.List;
@@ -59,4 +61,12 @@ public interface ReservationService {
      * @return 강사의 실시간 강의 목록
      */
     List<LiveLectureDto> getLiveLecturesByTeacherAndMethod(int teacherId, int method);
+
+    /**
+     * 예약 가능한 실시간 강의 카탈로그 조회 메서드
+     *
+     * @param filter 필터와 커서
+     * @return 강의 페이지와 다음 커서
+     */
+    LiveLectureCatalogPageDto getLiveLectureCatalog(LiveLectureCatalogFilter filter);
 }
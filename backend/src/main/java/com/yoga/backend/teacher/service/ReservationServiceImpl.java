@@ -1,26 +1,33 @@
 package com.yoga.backend.teacher.service;
 
+import com.yoga.backend.common.converter.InstantToSqlDateConverter;
+import com.yoga.backend.common.converter.InstantToSqlTimeConverter;
 import com.yoga.backend.common.entity.LiveLectures;
 import com.yoga.backend.common.entity.MyLiveLecture;
 import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.common.util.LectureRecurrence;
+import com.yoga.backend.fcm.NotificationService;
 import com.yoga.backend.livelectures.repository.LiveLectureRepository;
 import com.yoga.backend.livelectures.repository.MyLiveLectureRepository;
+import com.yoga.backend.livelectures.service.LectureSeatService;
 import com.yoga.backend.members.repository.UsersRepository;
+import com.yoga.backend.livelectures.dto.LectureCursor;
+import com.yoga.backend.livelectures.dto.LiveLectureCatalogDto;
+import com.yoga.backend.livelectures.dto.LiveLectureCatalogPageDto;
 import com.yoga.backend.livelectures.dto.LiveLectureDto;
+import com.yoga.backend.teacher.LiveLectureCatalogFilter;
 import com.yoga.backend.teacher.dto.ReservationRequestDto;
+import com.yoga.backend.teacher.repository.LiveLectureCatalogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Isolation;
 
 import java.time.Instant;
-import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.ZoneId;
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -29,17 +36,28 @@ import java.util.stream.Collectors;
 @Service
 public class ReservationServiceImpl implements ReservationService {
 
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
     private final MyLiveLectureRepository myLiveLectureRepository;
     private final UsersRepository usersRepository;
     private final LiveLectureRepository liveLectureRepository;
+    private final NotificationService notificationService;
+    private final LectureSeatService lectureSeatService;
+    private final LiveLectureCatalogRepository catalogRepository;
 
     @Autowired
     public ReservationServiceImpl(MyLiveLectureRepository myLiveLectureRepository,
         UsersRepository usersRepository,
-        LiveLectureRepository liveLectureRepository) {
+        LiveLectureRepository liveLectureRepository,
+        NotificationService notificationService,
+        LectureSeatService lectureSeatService,
+        LiveLectureCatalogRepository catalogRepository) {
         this.myLiveLectureRepository = myLiveLectureRepository;
         this.usersRepository = usersRepository;
         this.liveLectureRepository = liveLectureRepository;
+        this.notificationService = notificationService;
+        this.lectureSeatService = lectureSeatService;
+        this.catalogRepository = catalogRepository;
     }
 
     /**
@@ -51,7 +69,8 @@ public class ReservationServiceImpl implements ReservationService {
     @Override
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public void createReservation(int userId, ReservationRequestDto reservationRequest) {
-        Users user = usersRepository.findById(userId)
+        // 같은 사용자의 예약을 차례로 처리해 동시에 들어온 겹치는 예약이 서로를 놓치지 않도록 함
+        Users user = usersRepository.findByIdWithLock(userId)
             .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         LiveLectures newLiveLecture = liveLectureRepository.findById(
@@ -63,34 +82,33 @@ public class ReservationServiceImpl implements ReservationService {
             throw new RuntimeException("자신의 강의는 예약할 수 없습니다.");
         }
 
-        // 최대 인원수 체크
-        int currentParticipants = myLiveLectureRepository.countByLiveLectureAndEndDateAfter(
-            newLiveLecture, Instant.now());
-        if (currentParticipants >= newLiveLecture.getMaxLiveNum()) {
-            throw new RuntimeException("최대 인원을 초과했습니다.");
-        }
-
         // 시간 겹침 체크
         ZonedDateTime newStartDateTime = ZonedDateTime.ofInstant(
             Instant.ofEpochMilli(reservationRequest.getStartDate()), ZoneId.of("UTC"));
         ZonedDateTime newEndDateTime = ZonedDateTime.ofInstant(
             Instant.ofEpochMilli(reservationRequest.getEndDate()), ZoneId.of("UTC"));
 
-        List<MyLiveLecture> userReservations = myLiveLectureRepository.findByUserId(userId);
+        LectureRecurrence newRecurrence = LectureRecurrence.of(newLiveLecture,
+            newStartDateTime.toInstant(), newEndDateTime.toInstant());
+        // 요일 비트와 기간으로 겹칠 수 있는 예약만 조회한 뒤 시간 비교
+        List<MyLiveLecture> userReservations = myLiveLectureRepository.findOverlapCandidates(
+            userId, DayMask.withAdjacentDays(newRecurrence.getDayMask()),
+            newRecurrence.getStartDate().minusDays(1), newRecurrence.getEndDate().plusDays(1));
 
         for (MyLiveLecture existingReservation : userReservations) {
-            ZonedDateTime existingStartDateTime = existingReservation.getStartDate()
-                .atZone(ZoneId.of("UTC"));
-            ZonedDateTime existingEndDateTime = existingReservation.getEndDate()
-                .atZone(ZoneId.of("UTC"));
-
-            if (isDateOverlap(newStartDateTime, newEndDateTime, existingStartDateTime,
-                existingEndDateTime) &&
-                isTimeOverlap(newLiveLecture, existingReservation.getLiveLecture())) {
+            LectureRecurrence existingRecurrence = LectureRecurrence.of(
+                existingReservation.getLiveLecture(), existingReservation);
+            if (newRecurrence.overlaps(existingRecurrence)) {
                 throw new RuntimeException("시간이 겹치는 강의가 이미 존재합니다.");
             }
         }
 
+        // 최대 인원수 체크. 남은 좌석이 있을 때만 좌석을 잡으므로 동시 예약도 초과하지 않음
+        if (!lectureSeatService.reserve(newLiveLecture.getLiveId(),
+            newEndDateTime.toInstant())) {
+            throw new RuntimeException("최대 인원을 초과했습니다.");
+        }
+
         MyLiveLecture myLiveLecture = new MyLiveLecture();
         myLiveLecture.setUser(user);
         myLiveLecture.setLiveLecture(newLiveLecture);
@@ -98,52 +116,7 @@ public class ReservationServiceImpl implements ReservationService {
         myLiveLecture.setEndDate(newEndDateTime.toInstant());
 
         myLiveLectureRepository.save(myLiveLecture);
-    }
-
-    /**
-     * 날짜가 겹치는지 확인하는 메서드
-     *
-     * @param start1 첫 번째 기간의 시작 시간
-     * @param end1   첫 번째 기간의 종료 시간
-     * @param start2 두 번째 기간의 시작 시간
-     * @param end2   두 번째 기간의 종료 시간
-     * @return 날짜가 겹치는지 여부
-     */
-    private boolean isDateOverlap(ZonedDateTime start1, ZonedDateTime end1, ZonedDateTime start2,
-        ZonedDateTime end2) {
-        return (start1.isBefore(end2) && end1.isAfter(start2)) ||
-            start1.equals(start2) || end1.equals(end2);
-    }
-
-    /**
-     * 시간이 겹치는지 확인하는 메서드
-     *
-     * @param lecture1 첫 번째 강의
-     * @param lecture2 두 번째 강의
-     * @return 시간이 겹치는지 여부
-     */
-    private boolean isTimeOverlap(LiveLectures lecture1, LiveLectures lecture2) {
-        Set<String> days1 = new HashSet<>(Arrays.asList(lecture1.getAvailableDay().split(",")));
-        Set<String> days2 = new HashSet<>(Arrays.asList(lecture2.getAvailableDay().split(",")));
-
-        // 요일이 겹치는지 확인
-        for (String day : days1) {
-            if (days2.contains(day)) {
-                LocalTime start1 = LocalTime.ofInstant(lecture1.getStartTime(),
-                    ZoneId.systemDefault());
-                LocalTime end1 = LocalTime.ofInstant(lecture1.getEndTime(), ZoneId.systemDefault());
-                LocalTime start2 = LocalTime.ofInstant(lecture2.getStartTime(),
-                    ZoneId.systemDefault());
-                LocalTime end2 = LocalTime.ofInstant(lecture2.getEndTime(), ZoneId.systemDefault());
-
-                if ((start1.isBefore(end2) && end1.isAfter(start2)) ||
-                    start1.equals(start2) || end1.equals(end2)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        notificationService.handleReservationCreated(myLiveLecture);
     }
 
     /**
@@ -183,17 +156,12 @@ public class ReservationServiceImpl implements ReservationService {
         List<LiveLectures> lectures;
 
         if (method == 0) {
-            lectures = liveLectureRepository.findAllByMaxLiveNumAndEndDateAfter(1, now);
+            lectures = liveLectureRepository.findAvailableByMaxLiveNum(1, now);
         } else {
-            lectures = liveLectureRepository.findAllByMaxLiveNumGreaterThanAndEndDateAfter(1, now);
+            lectures = liveLectureRepository.findAvailableByMaxLiveNumGreaterThan(1, now);
         }
 
         return lectures.stream()
-            .filter(lecture -> {
-                int currentParticipants = myLiveLectureRepository.countByLiveLectureAndEndDateAfter(
-                    lecture, now);
-                return currentParticipants < lecture.getMaxLiveNum(); // 현재 참여자 수 체크
-            })
             .map(LiveLectureDto::fromEntity)
             .collect(Collectors.toList());
     }
@@ -212,23 +180,51 @@ public class ReservationServiceImpl implements ReservationService {
         List<LiveLectures> lectures;
 
         if (method == 0) {
-            lectures = liveLectureRepository.findByUserIdAndMaxLiveNumAndEndDateAfter(teacherId, 1,
-                now);
+            lectures = liveLectureRepository.findAvailableByUserIdAndMaxLiveNum(teacherId, 1, now);
         } else {
-            lectures = liveLectureRepository.findByUserIdAndMaxLiveNumGreaterThanAndEndDateAfter(
+            lectures = liveLectureRepository.findAvailableByUserIdAndMaxLiveNumGreaterThan(
                 teacherId, 1, now);
         }
 
         return lectures.stream()
-            .filter(lecture -> {
-                int currentParticipants = myLiveLectureRepository.countByLiveLectureAndEndDateAfter(
-                    lecture, now);
-                return currentParticipants < lecture.getMaxLiveNum(); // 현재 참여자 수 체크
-            })
             .map(LiveLectureDto::fromEntity)
             .collect(Collectors.toList());
     }
 
+    /**
+     * 예약 가능한 실시간 강의 카탈로그 조회. 다음 페이지 여부를 알기 위해 하나 더 조회
+     *
+     * @param filter 필터와 커서
+     * @return 강의 페이지와 다음 커서
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public LiveLectureCatalogPageDto getLiveLectureCatalog(LiveLectureCatalogFilter filter) {
+        if (filter.getSize() < 1 || filter.getSize() > LiveLectureCatalogFilter.MAX_SIZE
+            || filter.getStartTime() < 0
+            || filter.getEndTime() >= MILLIS_PER_DAY || filter.getStartTime() > filter.getEndTime()) {
+            throw new IllegalArgumentException("잘못된 조회 조건입니다.");
+        }
+        LectureCursor after = LectureCursor.decode(filter.getCursor());
+        List<LiveLectureCatalogDto> lectures = catalogRepository.findPage(filter, after,
+            filter.getSize() + 1);
+
+        LiveLectureCatalogPageDto page = new LiveLectureCatalogPageDto();
+        if (lectures.size() > filter.getSize()) {
+            lectures = lectures.subList(0, filter.getSize());
+            LiveLectureCatalogDto last = lectures.get(lectures.size() - 1);
+            // DB에 저장된 날짜, 시각 그대로 커서에 담아 다음 쿼리에서 같은 값으로 비교
+            page.setNextCursor(new LectureCursor(
+                new InstantToSqlDateConverter().convertToDatabaseColumn(last.getStartDate())
+                    .toLocalDate(),
+                new InstantToSqlTimeConverter().convertToDatabaseColumn(last.getStartTime())
+                    .toLocalTime(),
+                last.getLiveId()).encode());
+        }
+        page.setLectures(lectures);
+        return page;
+    }
+
     /**
      * 강사 예약 조회
      *
@@ -3,6 +3,7 @@ package com.yoga.backend.teacher.service;
 import com.yoga.backend.common.entity.Hashtag;
 import com.yoga.backend.common.entity.TeacherLike;
 import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.service.TeacherAvailabilityIndex;
 import com.yoga.backend.members.repository.UsersRepository;
 import com.yoga.backend.recorded.repository.RecordedLectureLikeRepository;
 import com.yoga.backend.teacher.TeacherFilter;
@@ -30,16 +31,19 @@ public class TeacherServiceImpl implements TeacherService {
     private final TeacherLikeRepository teacherLikeRepository;
     private final RecordedLectureLikeRepository recordedLectureLikeRepository;
     private final UsersRepository usersRepository;
+    private final TeacherAvailabilityIndex teacherAvailabilityIndex;
 
     @Autowired
     public TeacherServiceImpl(TeacherRepository teacherRepository,
         TeacherLikeRepository teacherLikeRepository,
         RecordedLectureLikeRepository recordedLectureLikeRepository,
-        UsersRepository usersRepository) {
+        UsersRepository usersRepository,
+        TeacherAvailabilityIndex teacherAvailabilityIndex) {
         this.teacherRepository = teacherRepository;
         this.teacherLikeRepository = teacherLikeRepository;
         this.recordedLectureLikeRepository = recordedLectureLikeRepository;
         this.usersRepository = usersRepository;
+        this.teacherAvailabilityIndex = teacherAvailabilityIndex;
     }
 
     /**
@@ -54,21 +58,20 @@ public class TeacherServiceImpl implements TeacherService {
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<TeacherDto> getAllTeachers(TeacherFilter filter, int sorting, int userId) {
 
-        // days에서 끝에 쉼표가 있다면 제거
-        String days = filter.getDay().endsWith(",") ? filter.getDay()
-            .substring(0, filter.getDay().length() - 1) : filter.getDay();
+        int days = filter.getDayMask();
 
         // 공백 제거된 키워드
         String searchKeyword = filter.getSearchKeyword().replace(" ", "");
 
-        // 필터 조건에 맞는 강사 목록 조회
-        List<Users> users = teacherRepository.findTeachersByLectureFilter(
-            filter.getStartTimeAsInstant(),
-            filter.getEndTimeAsInstant(),
+        // 필터 조건에 맞는 강사 목록 조회. 강의 조건은 가용 인덱스에서 고르고 강사 정보만 DB에서 읽음
+        List<Integer> teacherIds = teacherAvailabilityIndex.findTeacherIds(
+            filter.getStartTime(),
+            filter.getEndTime(),
             days,
             filter.getPeriod(),
             filter.getMaxLiveNum()
         );
+        List<Users> users = teacherRepository.findAllById(teacherIds);
 
         // 필터링된 강사 목록을 DTO로 변환하고 정렬
         return users.stream()
@@ -0,0 +1,17 @@
+-- 날짜 범위 조건과 정렬을 인덱스로 처리하기 위한 복합 인덱스
+
+-- 강사별 진행 중/지난 강의 (home, history)
+CREATE INDEX idx_live_lectures_user_end ON live_lectures (user_id, end_date, start_date);
+-- 날짜별 강의 (알림, 회차 재구성, 수강 내역 기록)
+CREATE INDEX idx_live_lectures_end_start ON live_lectures (end_date, start_date, available_day_mask);
+
+-- 학생별 진행 중/지난 예약 (home, history, 시간 겹침 확인)
+CREATE INDEX idx_my_live_lecture_user_end ON my_live_lecture (user_id, end_date, start_date);
+-- 강의별 현재 참여자 수
+CREATE INDEX idx_my_live_lecture_live_end ON my_live_lecture (live_id, end_date);
+-- 날짜별 수강생 명단 (알림, 수강 내역 기록). 테이블을 읽지 않고 인덱스만으로 처리
+CREATE INDEX idx_my_live_lecture_end_start ON my_live_lecture (end_date, start_date, live_id, user_id);
+
+-- 녹화 강의 최신순, 인기순
+CREATE INDEX idx_recorded_lecture_created ON recorded_lecture (created_at, id);
+CREATE INDEX idx_recorded_lecture_like_created ON recorded_lecture (like_count, created_at);
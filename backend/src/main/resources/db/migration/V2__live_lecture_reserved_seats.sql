@@ -0,0 +1,6 @@
+-- 예약 중인 좌석 수 초기값. 컬럼은 JPA가 추가하고, 이후에는 예약할 때 조건부 UPDATE로 유지
+UPDATE live_lectures l
+SET l.reserved_seats = (SELECT COUNT(*)
+                        FROM my_live_lecture m
+                        WHERE m.live_id = l.live_id
+                          AND m.end_date > CURDATE());
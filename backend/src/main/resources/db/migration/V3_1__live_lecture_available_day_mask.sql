@@ -0,0 +1,26 @@
+-- 강의 요일을 문자열 컬럼(available_day)에서 요일 비트 컬럼(available_day_mask)으로 이전.
+-- 비트 컬럼은 JPA가 추가함. 예전 컬럼은 되돌릴 때를 위해 남겨 두고 NULL만 허용. 예전 컬럼이 없는 새 DB에서는 건너뜀
+SET @legacy_exists = (SELECT COUNT(*)
+                      FROM information_schema.columns
+                      WHERE table_schema = DATABASE()
+                        AND table_name = 'live_lectures'
+                        AND column_name = 'available_day');
+
+SET @backfill = IF(@legacy_exists > 0,
+                   'UPDATE live_lectures SET available_day_mask = '
+                       '  (UPPER(available_day) LIKE ''%MON%'') | ((UPPER(available_day) LIKE ''%TUE%'') << 1) '
+                       '| ((UPPER(available_day) LIKE ''%WED%'') << 2) | ((UPPER(available_day) LIKE ''%THU%'') << 3) '
+                       '| ((UPPER(available_day) LIKE ''%FRI%'') << 4) | ((UPPER(available_day) LIKE ''%SAT%'') << 5) '
+                       '| ((UPPER(available_day) LIKE ''%SUN%'') << 6) '
+                       'WHERE available_day_mask = 0 AND available_day IS NOT NULL',
+                   'DO 0');
+PREPARE stmt FROM @backfill;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @relax = IF(@legacy_exists > 0,
+                'ALTER TABLE live_lectures MODIFY available_day VARCHAR(100) NULL',
+                'DO 0');
+PREPARE stmt FROM @relax;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,2 @@
+-- 실시간 강의 카탈로그 키셋 페이지 (시작 날짜, 시작 시간, 강의 ID 순)
+CREATE INDEX idx_live_lectures_catalog ON live_lectures (start_date, start_time, live_id);
@@ -0,0 +1,11 @@
+-- 기존 users.fcm_token 값을 기기별 토큰 테이블로 한 번만 옮기고 원래 컬럼은 비움
+INSERT IGNORE INTO device_token (user_id, token, platform, last_seen_at, created_at)
+SELECT u.user_id, u.fcm_token, 'UNKNOWN', NOW(6), NOW(6)
+FROM users u
+WHERE u.fcm_token IS NOT NULL
+  AND u.fcm_token <> ''
+  AND u.is_deleted = false;
+
+UPDATE users
+SET fcm_token = NULL
+WHERE fcm_token IS NOT NULL;
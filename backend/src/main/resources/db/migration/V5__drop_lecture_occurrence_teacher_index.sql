@@ -0,0 +1,12 @@
+-- 강사별 회차 조회는 쓰지 않으므로 인덱스 삭제. JPA가 이미 만든 경우에만 삭제
+SET @idx_exists = (SELECT COUNT(*)
+                   FROM information_schema.statistics
+                   WHERE table_schema = DATABASE()
+                     AND table_name = 'lecture_occurrence'
+                     AND index_name = 'idx_lecture_occurrence_teacher_date');
+SET @ddl = IF(@idx_exists > 0,
+              'DROP INDEX idx_lecture_occurrence_teacher_date ON lecture_occurrence',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,12 @@
+-- 홈 강사 일정을 회차 테이블로 조회 (강사 ID, 날짜, 시작 시간, 강의 ID 순). JPA가 이미 만든 경우에는 건너뜀
+SET @idx_exists = (SELECT COUNT(*)
+                   FROM information_schema.statistics
+                   WHERE table_schema = DATABASE()
+                     AND table_name = 'lecture_occurrence'
+                     AND index_name = 'idx_lecture_occurrence_teacher_date');
+SET @ddl = IF(@idx_exists = 0,
+              'CREATE INDEX idx_lecture_occurrence_teacher_date ON lecture_occurrence (teacher_id, lecture_date, start_time, live_id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,25 @@
+package com.yoga.backend;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * src/test의 JMH 벤치마크 실행. 기본 빌드에서는 제외되고 benchmark 프로필에서만 실행
+ * <p>
+ * mvn -P benchmark test -Djmh.include=LectureRecurrence 처럼 실행할 벤치마크를 정규식으로 고를 수 있음
+ */
+@Tag("benchmark")
+class MicrobenchmarkTests {
+
+    @Test
+    void runBenchmarks() throws Exception {
+        Options options = new OptionsBuilder()
+            .include(System.getProperty("jmh.include", "Benchmark"))
+            .shouldFailOnError(true)
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,202 @@
+package com.yoga.backend.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * 자주 실행되는 강의 조회가 인덱스를 타는지 MySQL EXPLAIN으로 확인. 인덱스가 빠지거나 조건이 다시 DATE()/LIKE로 바뀌어 전체
+ * 스캔(type = ALL)이 되면 실패
+ * <p>
+ * docker가 필요하므로 기본 빌드에서는 제외하고 mvn -P mysql test 로 실행. 스키마는 운영과 같이 JPA(ddl-auto)로 만들고
+ * {@link FlywayConfig}로 migration을 적용. 쿼리는 각 repository 쿼리와 같은 조건의 SQL
+ */
+@Tag("mysql")
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FlywayConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotQueryPlanTest {
+
+    // 테스트 인스턴스를 만들 때 컨텍스트가 뜨므로 클래스 초기화 때 미리 시작. 종료는 testcontainers가 처리
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    static {
+        MYSQL.start();
+    }
+
+    // 강의는 3년에 걸쳐 있고, 기준일에 진행 중인 강의는 일부만 있음
+    private static final String TODAY = "'2023-12-31'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    /**
+     * 실행 계획이 의미 있도록 데이터를 채움. 검증과 무관한 NOT NULL 컬럼은 sql_mode를 비워 기본값으로 채움
+     */
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION sql_mode = ''");
+                statement.execute("SET SESSION foreign_key_checks = 0");
+                statement.execute("SET SESSION cte_max_recursion_depth = 100000");
+                statement.execute(
+                    "INSERT INTO users (user_id, email, nickname, pwd, role, is_deleted) "
+                        + sequence(2000)
+                        + "SELECT n, CONCAT('user', n, '@yoga.test'), CONCAT('user', n), 'pwd', "
+                        + "IF(n % 10 = 0, 'TEACHER', 'STUDENT'), false FROM seq");
+                statement.execute(
+                    "INSERT INTO live_lectures (live_id, user_id, live_title, start_date, end_date, "
+                        + "start_time, end_time, max_live_num, reserved_seats, available_day_mask, "
+                        + "reg_date) "
+                        + sequence(20000)
+                        + "SELECT n, n % 2000 + 1, CONCAT('lecture ', n), "
+                        + "DATE_ADD('2021-01-01', INTERVAL n % 1095 DAY), "
+                        + "DATE_ADD('2021-01-01', INTERVAL n % 1095 + 28 DAY), "
+                        + "MAKETIME(n % 24, 0, 0), MAKETIME((n + 1) % 24, 0, 0), "
+                        + "n % 5 + 1, 0, n % 127 + 1, NOW() FROM seq");
+                statement.execute(
+                    "INSERT INTO my_live_lecture (my_list_id, live_id, user_id, start_date, end_date) "
+                        + sequence(40000)
+                        + "SELECT n, n % 20000 + 1, n % 2000 + 1, "
+                        + "DATE_ADD('2021-01-01', INTERVAL (n % 20000 + 1) % 1095 DAY), "
+                        + "DATE_ADD('2021-01-01', INTERVAL (n % 20000 + 1) % 1095 + 28 DAY) "
+                        + "FROM seq");
+                statement.execute(
+                    "INSERT INTO recorded_lecture (id, user_id, title, record_content, like_count, "
+                        + "created_at, last_modified_at) "
+                        + sequence(5000)
+                        + "SELECT n, n % 200 * 10 + 10, CONCAT('recorded ', n), '', n % 300, "
+                        + "DATE_ADD('2021-01-01', INTERVAL n HOUR), NOW() FROM seq");
+                statement.execute(
+                    "INSERT INTO lecture_occurrence (id, live_id, teacher_id, lecture_date, "
+                        + "start_time, end_time) "
+                        + sequence(100000)
+                        + "SELECT n, n % 20000 + 1, (n % 20000 + 1) % 2000 + 1, "
+                        + "DATE_ADD(" + TODAY + ", INTERVAL n DIV 20000 * 3 - 1 DAY), "
+                        + "MAKETIME((n % 20000 + 1) % 24, 0, 0), "
+                        + "MAKETIME((n % 20000 + 2) % 24, 0, 0) FROM seq");
+                statement.execute("ANALYZE TABLE users, live_lectures, my_live_lecture, "
+                    + "recorded_lecture, lecture_occurrence");
+            }
+            return null;
+        });
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+            Arguments.of("LiveLectureRepository.findLecturesByUserAndDateRange", "l",
+                "SELECT * FROM live_lectures l WHERE l.user_id = 10 AND l.end_date >= :today"),
+            Arguments.of("LiveLectureRepository.findPastAndOngoingLecturesByUser", "l",
+                "SELECT * FROM live_lectures l WHERE l.user_id = 10 AND l.start_date <= :today"),
+            Arguments.of("LiveLectureRepository.findByUserActiveBetween", "l",
+                "SELECT * FROM live_lectures l JOIN users u ON u.user_id = l.user_id "
+                    + "WHERE l.user_id = 10 AND l.end_date >= :today AND l.start_date <= :today"),
+            Arguments.of("LiveLectureRepository.findLecturesForToday", "l",
+                "SELECT * FROM live_lectures l WHERE l.end_date >= :today "
+                    + "AND l.start_date <= :today AND (l.available_day_mask & 64) <> 0 "
+                    + "ORDER BY l.start_time"),
+            Arguments.of("LiveLectureRepository.findActiveIdsBetween", "l",
+                "SELECT l.live_id FROM live_lectures l WHERE l.end_date >= :today "
+                    + "AND l.start_date <= DATE_ADD(:today, INTERVAL 7 DAY)"),
+            Arguments.of("LiveLectureCatalogRepository.findPage", "l",
+                "SELECT l.live_id FROM live_lectures l JOIN users u ON u.user_id = l.user_id "
+                    + "WHERE l.end_date > :today AND u.is_deleted = false AND l.max_live_num > 1 "
+                    + "ORDER BY l.start_date, l.start_time, l.live_id LIMIT 20"),
+            Arguments.of("LiveLectureRepository.findTeacherOccurrences", "o",
+                "SELECT * FROM lecture_occurrence o WHERE o.teacher_id = 10 "
+                    + "AND o.lecture_date >= DATE_SUB(:today, INTERVAL 1 DAY) "
+                    + "AND o.lecture_date <= DATE_ADD(:today, INTERVAL 29 DAY) "
+                    + "AND (o.lecture_date > :today OR o.end_time > '12:00:00' "
+                    + "OR o.end_time < o.start_time) "
+                    + "AND (o.lecture_date > :today OR (o.lecture_date = :today "
+                    + "AND (o.start_time > '12:00:00' OR (o.start_time = '12:00:00' "
+                    + "AND o.live_id > 10)))) "
+                    + "ORDER BY o.lecture_date, o.start_time, o.live_id LIMIT 31"),
+            Arguments.of("MyLiveLectureRepository.findStudentOccurrences", "o",
+                "SELECT o.* FROM my_live_lecture ml "
+                    + "JOIN lecture_occurrence o ON o.live_id = ml.live_id "
+                    + "AND o.lecture_date BETWEEN ml.start_date AND ml.end_date "
+                    + "JOIN live_lectures l ON l.live_id = o.live_id "
+                    + "JOIN users u ON u.user_id = l.user_id "
+                    + "WHERE ml.user_id = 11 AND ml.end_date >= DATE_SUB(:today, INTERVAL 1 DAY) "
+                    + "AND u.is_deleted = false "
+                    + "AND o.lecture_date >= DATE_SUB(:today, INTERVAL 1 DAY) "
+                    + "AND o.lecture_date <= DATE_ADD(:today, INTERVAL 29 DAY) "
+                    + "ORDER BY o.lecture_date, o.start_time, o.live_id LIMIT 31"),
+            Arguments.of("MyLiveLectureRepository.findCurrentMyLectures", "ml",
+                "SELECT * FROM my_live_lecture ml JOIN live_lectures l ON l.live_id = ml.live_id "
+                    + "JOIN users u ON u.user_id = l.user_id "
+                    + "WHERE ml.user_id = 11 AND ml.end_date >= :today AND u.is_deleted = false"),
+            Arguments.of("MyLiveLectureRepository.findPastAndOngoingLecturesByUserId", "ml",
+                "SELECT * FROM my_live_lecture ml JOIN live_lectures l ON l.live_id = ml.live_id "
+                    + "WHERE ml.user_id = 11 AND ml.start_date <= :today"),
+            Arguments.of("MyLiveLectureRepository.countByLiveIdAndEndDateAfter", "ml",
+                "SELECT COUNT(*) FROM my_live_lecture ml "
+                    + "WHERE ml.live_id = 100 AND ml.end_date > :today"),
+            Arguments.of("MyLiveLectureRepository.findReservationsForDate", "ml",
+                "SELECT * FROM my_live_lecture ml JOIN live_lectures l ON l.live_id = ml.live_id "
+                    + "JOIN users u ON u.user_id = l.user_id "
+                    + "WHERE ml.end_date >= :today AND ml.start_date <= :today "
+                    + "AND (l.available_day_mask & 64) <> 0"),
+            Arguments.of("MyLiveLectureRepository.findParticipantIdsForDate", "ml",
+                "SELECT l.live_id, ml.user_id FROM my_live_lecture ml "
+                    + "JOIN live_lectures l ON l.live_id = ml.live_id "
+                    + "WHERE ml.end_date >= :today AND ml.start_date <= :today "
+                    + "AND (l.available_day_mask & 64) <> 0"),
+            Arguments.of("AllRecordedLecturesRepository (최신순)", "r",
+                "SELECT r.id FROM recorded_lecture r JOIN users u ON u.user_id = r.user_id "
+                    + "WHERE u.is_deleted = false ORDER BY r.created_at DESC LIMIT 20"),
+            Arguments.of("AllRecordedLecturesRepository (인기순)", "r",
+                "SELECT r.id FROM recorded_lecture r JOIN users u ON u.user_id = r.user_id "
+                    + "WHERE u.is_deleted = false "
+                    + "ORDER BY r.like_count DESC, r.created_at DESC LIMIT 20"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void 전체_스캔을_하지_않음(String query, String alias, String sql) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+            "EXPLAIN " + sql.replace(":today", TODAY));
+
+        assertThat(plan)
+            .filteredOn(row -> alias.equals(row.get("table")))
+            .as("%s: %s", query, plan)
+            .isNotEmpty()
+            .allSatisfy(row -> assertThat(row.get("type")).isNotEqualTo("ALL"));
+    }
+
+    private static String sequence(int count) {
+        return "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < "
+            + count + ") ";
+    }
+}
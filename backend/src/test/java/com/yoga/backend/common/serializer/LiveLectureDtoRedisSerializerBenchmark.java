@@ -0,0 +1,63 @@
+package com.yoga.backend.common.serializer;
+
+import com.yoga.backend.livelectures.dto.LiveLectureDto;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 강의 캐시 값 직렬화 비교. 바이너리 codec과 RedisConfig의 JSON 직렬화(GenericJackson2JsonRedisSerializer)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LiveLectureDtoRedisSerializerBenchmark {
+
+    private LiveLectureDtoRedisSerializer binary;
+    private GenericJackson2JsonRedisSerializer json;
+    private LiveLectureDto lecture;
+    private byte[] binaryBytes;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setUp() {
+        binary = new LiveLectureDtoRedisSerializer();
+        json = new GenericJackson2JsonRedisSerializer(
+            LiveLectureDtoRedisSerializerTest.jsonMapper());
+        lecture = LiveLectureDtoRedisSerializerTest.lecture();
+        binaryBytes = binary.serialize(lecture);
+        jsonBytes = json.serialize(lecture);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return binary.serialize(lecture);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return json.serialize(lecture);
+    }
+
+    @Benchmark
+    public LiveLectureDto deserializeBinary() {
+        return binary.deserialize(binaryBytes);
+    }
+
+    @Benchmark
+    public LiveLectureDto deserializeJson() {
+        return json.deserialize(jsonBytes, LiveLectureDto.class);
+    }
+}
@@ -0,0 +1,187 @@
+package com.yoga.backend.common.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yoga.backend.livelectures.dto.LiveLectureDto;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class LiveLectureDtoRedisSerializerTest {
+
+    private final LiveLectureDtoRedisSerializer serializer = new LiveLectureDtoRedisSerializer();
+
+    @Test
+    void 모든_필드를_그대로_읽음() {
+        LiveLectureDto dto = lecture();
+
+        LiveLectureDto read = serializer.deserialize(serializer.serialize(dto));
+
+        assertThat(read.getLiveId()).isEqualTo(dto.getLiveId());
+        assertThat(read.getLiveTitle()).isEqualTo(dto.getLiveTitle());
+        assertThat(read.getLiveContent()).isEqualTo(dto.getLiveContent());
+        assertThat(read.getStartDate()).isEqualTo(dto.getStartDate());
+        assertThat(read.getEndDate()).isEqualTo(dto.getEndDate());
+        assertThat(read.getStartTime()).isEqualTo(dto.getStartTime());
+        assertThat(read.getEndTime()).isEqualTo(dto.getEndTime());
+        assertThat(read.getMaxLiveNum()).isEqualTo(dto.getMaxLiveNum());
+        assertThat(read.getAvailableDay()).isEqualTo(dto.getAvailableDay());
+        assertThat(read.getRegDate()).isEqualTo(dto.getRegDate());
+        assertThat(read.getUserId()).isEqualTo(dto.getUserId());
+    }
+
+    @Test
+    void null_필드는_null로_읽음() {
+        LiveLectureDto read = serializer.deserialize(serializer.serialize(new LiveLectureDto()));
+
+        assertThat(read.getLiveId()).isNull();
+        assertThat(read.getLiveTitle()).isNull();
+        assertThat(read.getLiveContent()).isNull();
+        assertThat(read.getStartDate()).isNull();
+        assertThat(read.getEndDate()).isNull();
+        assertThat(read.getStartTime()).isNull();
+        assertThat(read.getEndTime()).isNull();
+        assertThat(read.getMaxLiveNum()).isNull();
+        assertThat(read.getAvailableDay()).isNull();
+        assertThat(read.getRegDate()).isNull();
+        assertThat(read.getUserId()).isNull();
+    }
+
+    @Test
+    void 일부_필드만_있어도_순서가_어긋나지_않음() {
+        LiveLectureDto dto = lecture();
+        dto.setLiveTitle(null);
+        dto.setStartDate(null);
+        dto.setMaxLiveNum(null);
+
+        LiveLectureDto read = serializer.deserialize(serializer.serialize(dto));
+
+        assertThat(read.getLiveTitle()).isNull();
+        assertThat(read.getLiveContent()).isEqualTo(dto.getLiveContent());
+        assertThat(read.getStartDate()).isNull();
+        assertThat(read.getEndDate()).isEqualTo(dto.getEndDate());
+        assertThat(read.getMaxLiveNum()).isNull();
+        assertThat(read.getAvailableDay()).isEqualTo(dto.getAvailableDay());
+        assertThat(read.getUserId()).isEqualTo(dto.getUserId());
+    }
+
+    @Test
+    void null_값() {
+        assertThat(serializer.serialize(null)).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void 모르는_버전은_캐시_미스() {
+        byte[] bytes = serializer.serialize(lecture());
+        bytes[0] = (byte) (LiveLectureDtoCodecV1.VERSION + 1);
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+
+        bytes[0] = (byte) -1;
+        assertThat(serializer.deserialize(bytes)).isNull();
+    }
+
+    @Test
+    void 이전_JSON_값은_캐시_미스() {
+        byte[] json = new GenericJackson2JsonRedisSerializer(jsonMapper()).serialize(lecture());
+
+        assertThat(serializer.deserialize(json)).isNull();
+    }
+
+    @Test
+    void JSON보다_작음() {
+        LiveLectureDto dto = lecture();
+        byte[] json = new GenericJackson2JsonRedisSerializer(jsonMapper()).serialize(dto);
+
+        assertThat(serializer.serialize(dto).length).isLessThan(json.length);
+    }
+
+    @Test
+    void 이전_버전_codec으로_쓴_값도_읽음() {
+        RedisValueCodec<LiveLectureDto> v2 = new RedisValueCodec<>() {
+            @Override
+            public byte version() {
+                return 2;
+            }
+
+            @Override
+            public void write(LiveLectureDto value, DataOutput out) throws IOException {
+                out.writeLong(value.getLiveId());
+            }
+
+            @Override
+            public LiveLectureDto read(DataInput in) throws IOException {
+                LiveLectureDto dto = new LiveLectureDto();
+                dto.setLiveId(in.readLong());
+                return dto;
+            }
+        };
+        VersionedRedisSerializer<LiveLectureDto> upgraded = new VersionedRedisSerializer<>(v2,
+            new LiveLectureDtoCodecV1());
+
+        byte[] v1Bytes = serializer.serialize(lecture());
+        byte[] v2Bytes = upgraded.serialize(lecture());
+
+        assertThat(upgraded.deserialize(v1Bytes).getLiveTitle()).isEqualTo("아침 요가");
+        assertThat(v2Bytes[0]).isEqualTo((byte) 2);
+        assertThat(upgraded.deserialize(v2Bytes).getLiveId()).isEqualTo(42L);
+        // 이전 서버는 새 형식을 캐시 미스로 처리
+        assertThat(serializer.deserialize(v2Bytes)).isNull();
+    }
+
+    @Test
+    void 같은_버전의_codec은_둘_이상_등록할_수_없음() {
+        assertThatThrownBy(() -> new VersionedRedisSerializer<>(new LiveLectureDtoCodecV1(),
+            new LiveLectureDtoCodecV1()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 잘린_값은_예외() {
+        byte[] bytes = serializer.serialize(lecture());
+
+        assertThatThrownBy(() -> serializer.deserialize(Arrays.copyOf(bytes, bytes.length - 3)))
+            .isInstanceOf(SerializationException.class);
+    }
+
+    static LiveLectureDto lecture() {
+        LiveLectureDto dto = new LiveLectureDto();
+        dto.setLiveId(42L);
+        dto.setLiveTitle("아침 요가");
+        dto.setLiveContent("하타 요가 기초. 매트를 준비해 주세요.");
+        dto.setStartDate(Instant.parse("2024-01-01T00:00:00Z"));
+        dto.setEndDate(Instant.parse("2024-12-31T00:00:00Z"));
+        dto.setStartTime(Instant.parse("1970-01-01T07:30:00Z"));
+        dto.setEndTime(Instant.parse("1970-01-01T08:30:00Z"));
+        dto.setMaxLiveNum(10);
+        dto.setAvailableDay("MON,WED,FRI");
+        dto.setRegDate(Instant.parse("2023-12-20T10:15:30.123Z"));
+        dto.setUserId(7);
+        return dto;
+    }
+
+    /**
+     * RedisConfig의 JSON 템플릿과 같은 설정
+     */
+    static ObjectMapper jsonMapper() {
+        return JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .enable(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT)
+            .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.yoga.backend.common.service;
+
+import com.yoga.backend.common.converter.InstantToSqlDateConverter;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.teacher.repository.TeacherRepository;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+
+/**
+ * 강사 1만 명, 강의 5만 개 기준으로 {@link TeacherAvailabilityIndex} 필터 조회와, 예약으로 강의가 마감됐을 때 강의 하나만 제외하는 경우와
+ * 인덱스 전체를 다시 만드는 경우를 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeacherAvailabilityIndexBenchmark {
+
+    private static final int TEACHERS = 10_000;
+    private static final int LECTURES_PER_TEACHER = 5;
+    private static final int LECTURES = TEACHERS * LECTURES_PER_TEACHER;
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final int WEEKDAYS = DayMask.ALL & ~(DayMask.of(DayOfWeek.SATURDAY)
+        | DayMask.of(DayOfWeek.SUNDAY));
+
+    private static final Message INVALIDATE = message("lecture");
+
+    private TeacherAvailabilityIndex index;
+    private long nextClosed;
+
+    @Setup
+    public void setUp() {
+        List<Object[]> rows = rows(new Random(42));
+        TeacherRepository repository = (TeacherRepository) Proxy.newProxyInstance(
+            TeacherRepository.class.getClassLoader(), new Class<?>[]{TeacherRepository.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("findAvailabilityRows")) {
+                    return rows;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+        index = new TeacherAvailabilityIndex(repository, null, 3600);
+        index.findTeacherIds(0, 24 * HOUR, DayMask.ALL, 3, 2);
+    }
+
+    @Benchmark
+    public List<Integer> findAll() {
+        return index.findTeacherIds(0, 24 * HOUR, DayMask.ALL, 3, 2);
+    }
+
+    @Benchmark
+    public List<Integer> findWeekdayMorningGroupForMonth() {
+        return index.findTeacherIds(6 * HOUR, 12 * HOUR, WEEKDAYS, 1, 1);
+    }
+
+    @Benchmark
+    public List<Integer> closeLectureThenFind() {
+        // 모든 강의가 마감되면 한 번 다시 만들어 제외할 강의가 남도록 함 (강의 5만 번에 한 번)
+        if (nextClosed == LECTURES) {
+            nextClosed = 0;
+            index.onMessage(INVALIDATE, null);
+        }
+        index.onMessage(message("closed:" + nextClosed++), null);
+        return index.findTeacherIds(6 * HOUR, 12 * HOUR, WEEKDAYS, 1, 1);
+    }
+
+    @Benchmark
+    public List<Integer> invalidateThenFind() {
+        index.onMessage(INVALIDATE, null);
+        return index.findTeacherIds(6 * HOUR, 12 * HOUR, WEEKDAYS, 1, 1);
+    }
+
+    /**
+     * 종료 날짜 내림차순 (강사 ID, 요일 비트, 시작 시간, 종료 시간, 종료 날짜, 최대 수강자 수, 강의 ID)
+     */
+    private static List<Object[]> rows(Random random) {
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = new ArrayList<>(LECTURES);
+        for (int i = 0; i < LECTURES; i++) {
+            long start = random.nextInt(22) * HOUR;
+            int mask = 1 + random.nextInt(DayMask.ALL);
+            rows.add(new Object[]{i / LECTURES_PER_TEACHER + 1, mask, Instant.ofEpochMilli(start),
+                Instant.ofEpochMilli(start + HOUR), null, random.nextBoolean() ? 1 : 10,
+                (long) i});
+        }
+        // 뒤로 갈수록 일찍 끝나는 강의
+        for (int i = 0; i < LECTURES; i++) {
+            rows.get(i)[4] = InstantToSqlDateConverter.toInstant(
+                today.plusDays(1 + (long) (LECTURES - i) * 180 / LECTURES));
+        }
+        return rows;
+    }
+
+    private static Message message(String body) {
+        return new DefaultMessage(
+            TeacherAvailabilityIndex.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
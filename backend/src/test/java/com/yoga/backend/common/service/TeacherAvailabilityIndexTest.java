@@ -0,0 +1,116 @@
+package com.yoga.backend.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoga.backend.common.converter.InstantToSqlDateConverter;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.teacher.repository.TeacherRepository;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+class TeacherAvailabilityIndexTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final int MON = DayMask.of(DayOfWeek.MONDAY);
+
+    private final List<Object[]> rows = new ArrayList<>();
+    private final AtomicInteger builds = new AtomicInteger();
+    private TeacherAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate today = LocalDate.now();
+        // 종료 날짜 내림차순. 강사 1은 강의 두 개, 강사 2는 하나
+        rows.add(row(1, 10L, today.plusDays(30)));
+        rows.add(row(2, 20L, today.plusDays(20)));
+        rows.add(row(1, 11L, today.plusDays(10)));
+        TeacherRepository repository = (TeacherRepository) Proxy.newProxyInstance(
+            TeacherRepository.class.getClassLoader(), new Class<?>[]{TeacherRepository.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("findAvailabilityRows")) {
+                    builds.incrementAndGet();
+                    return new ArrayList<>(rows);
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+        index = new TeacherAvailabilityIndex(repository, null, 3600);
+    }
+
+    @Test
+    void 마감된_강의만_다시_만들지_않고_제외() {
+        assertThat(findAll()).containsExactly(1, 2);
+
+        send("closed:20");
+        assertThat(findAll()).containsExactly(1);
+
+        // 강사 1은 남은 강의가 있어 그대로
+        send("closed:10");
+        assertThat(findAll()).containsExactly(1);
+        send("closed:11");
+        assertThat(findAll()).isEmpty();
+
+        assertThat(builds.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 인덱스에_없는_강의의_마감은_무시() {
+        assertThat(findAll()).containsExactly(1, 2);
+        send("closed:99");
+        assertThat(findAll()).containsExactly(1, 2);
+        assertThat(builds.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 무효화되면_다시_만들고_마감은_새_인덱스에서_다시_판단() {
+        assertThat(findAll()).containsExactly(1, 2);
+        send("closed:20");
+        assertThat(findAll()).containsExactly(1);
+
+        // 좌석 재계산으로 강의 20에 좌석이 다시 생김
+        send("lecture");
+        assertThat(findAll()).containsExactly(1, 2);
+        assertThat(builds.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 처음_만들기_전에_온_마감은_조회_결과를_따름() {
+        send("closed:20");
+        // 조회 결과에는 아직 남아 있지만, 만들기 시작 전에 커밋된 마감이라 조회에 반영된 것으로 봄
+        assertThat(findAll()).containsExactly(1, 2);
+        send("closed:20");
+        assertThat(findAll()).containsExactly(1);
+    }
+
+    @Test
+    void 알_수_없는_마감_메시지는_전체_무효화() {
+        assertThat(findAll()).containsExactly(1, 2);
+        send("closed:abc");
+        assertThat(findAll()).containsExactly(1, 2);
+        assertThat(builds.get()).isEqualTo(2);
+    }
+
+    private List<Integer> findAll() {
+        return index.findTeacherIds(0, 24 * HOUR, DayMask.ALL, 3, 2);
+    }
+
+    private void send(String body) {
+        index.onMessage(new DefaultMessage(
+            TeacherAvailabilityIndex.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    private static Object[] row(int teacherId, long liveId, LocalDate endDate) {
+        return new Object[]{teacherId, MON, Instant.ofEpochMilli(9 * HOUR),
+            Instant.ofEpochMilli(10 * HOUR), InstantToSqlDateConverter.toInstant(endDate), 1,
+            liveId};
+    }
+}
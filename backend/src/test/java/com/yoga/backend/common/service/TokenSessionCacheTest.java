@@ -0,0 +1,66 @@
+package com.yoga.backend.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+class TokenSessionCacheTest {
+
+    private final TokenSessionCache cache = new TokenSessionCache(null, 100, 60);
+
+    @Test
+    void 조회한_토큰을_캐시() {
+        long sequence = cache.startLookup("a@yoga.com");
+        cache.put("a@yoga.com", "token-a", sequence);
+
+        assertThat(cache.matches("a@yoga.com", "token-a")).isTrue();
+        assertThat(cache.matches("a@yoga.com", "token-b")).isFalse();
+    }
+
+    @Test
+    void 다른_사용자의_무효화는_저장을_막지_않음() {
+        long sequence = cache.startLookup("a@yoga.com");
+        receive("b@yoga.com");
+        cache.put("a@yoga.com", "token-a", sequence);
+
+        assertThat(cache.matches("a@yoga.com", "token-a")).isTrue();
+    }
+
+    @Test
+    void 조회_중_같은_사용자가_무효화되면_저장하지_않음() {
+        long sequence = cache.startLookup("a@yoga.com");
+        receive("a@yoga.com");
+        cache.put("a@yoga.com", "token-a", sequence);
+
+        assertThat(cache.matches("a@yoga.com", "token-a")).isFalse();
+    }
+
+    @Test
+    void 나중에_시작한_조회만_저장() {
+        long first = cache.startLookup("a@yoga.com");
+        receive("a@yoga.com");
+        long second = cache.startLookup("a@yoga.com");
+
+        cache.put("a@yoga.com", "old-token", first);
+        assertThat(cache.matches("a@yoga.com", "old-token")).isFalse();
+
+        cache.put("a@yoga.com", "new-token", second);
+        assertThat(cache.matches("a@yoga.com", "new-token")).isTrue();
+    }
+
+    @Test
+    void 무효화되면_캐시에서_제거() {
+        cache.put("a@yoga.com", "token-a", cache.startLookup("a@yoga.com"));
+        receive("a@yoga.com");
+
+        assertThat(cache.matches("a@yoga.com", "token-a")).isFalse();
+    }
+
+    private void receive(String email) {
+        cache.onMessage(new DefaultMessage(
+            TokenSessionCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            email.getBytes(StandardCharsets.UTF_8)), null);
+    }
+}
@@ -0,0 +1,86 @@
+package com.yoga.backend.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import org.junit.jupiter.api.Test;
+
+class DayMaskTest {
+
+    private static final int MON = DayMask.of(DayOfWeek.MONDAY);
+    private static final int TUE = DayMask.of(DayOfWeek.TUESDAY);
+    private static final int WED = DayMask.of(DayOfWeek.WEDNESDAY);
+    private static final int FRI = DayMask.of(DayOfWeek.FRIDAY);
+    private static final int SAT = DayMask.of(DayOfWeek.SATURDAY);
+    private static final int SUN = DayMask.of(DayOfWeek.SUNDAY);
+
+    @Test
+    void 월요일이_가장_낮은_비트() {
+        assertThat(MON).isEqualTo(1);
+        assertThat(SUN).isEqualTo(64);
+        assertThat(DayMask.ALL).isEqualTo(MON | TUE | WED | DayMask.of(DayOfWeek.THURSDAY)
+            | FRI | SAT | SUN);
+    }
+
+    @Test
+    void 모든_비트_조합이_format_parse로_되돌아옴() {
+        for (int mask = DayMask.NONE; mask <= DayMask.ALL; mask++) {
+            assertThat(DayMask.parse(DayMask.format(mask))).isEqualTo(mask);
+        }
+    }
+
+    @Test
+    void format은_월요일부터_순서대로() {
+        assertThat(DayMask.format(FRI | MON | WED)).isEqualTo("MON,WED,FRI");
+        assertThat(DayMask.format(DayMask.NONE)).isEqualTo("");
+        assertThat(DayMask.format(DayMask.ALL)).isEqualTo("MON,TUE,WED,THU,FRI,SAT,SUN");
+    }
+
+    @Test
+    void parse는_대소문자_공백_전체_이름을_허용() {
+        assertThat(DayMask.parse(" mon , Wed,FRIDAY ")).isEqualTo(MON | WED | FRI);
+        assertThat(DayMask.parse("SUN,MON")).isEqualTo(MON | SUN);
+        assertThat(DayMask.parse("MON,MON")).isEqualTo(MON);
+    }
+
+    @Test
+    void parse는_알_수_없는_값을_무시() {
+        assertThat(DayMask.parse(null)).isEqualTo(DayMask.NONE);
+        assertThat(DayMask.parse("")).isEqualTo(DayMask.NONE);
+        assertThat(DayMask.parse("XYZ,TUE,MO,,")).isEqualTo(TUE);
+    }
+
+    @Test
+    void 인접_요일은_주_경계를_넘어_이어짐() {
+        assertThat(DayMask.withAdjacentDays(MON)).isEqualTo(SUN | MON | TUE);
+        assertThat(DayMask.withAdjacentDays(SUN)).isEqualTo(SAT | SUN | MON);
+        assertThat(DayMask.withAdjacentDays(DayMask.NONE)).isEqualTo(DayMask.NONE);
+        assertThat(DayMask.withAdjacentDays(DayMask.ALL)).isEqualTo(DayMask.ALL);
+    }
+
+    @Test
+    void 인접_요일은_요일별로_더한_결과와_같음() {
+        for (int mask = DayMask.NONE; mask <= DayMask.ALL; mask++) {
+            int expected = DayMask.NONE;
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (DayMask.contains(mask, day)) {
+                    expected |= DayMask.of(day.minus(1)) | DayMask.of(day)
+                        | DayMask.of(day.plus(1));
+                }
+            }
+            assertThat(DayMask.withAdjacentDays(mask)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void 비트_연산_도우미() {
+        assertThat(DayMask.count(MON | WED | FRI)).isEqualTo(3);
+        assertThat(DayMask.count(DayMask.ALL)).isEqualTo(7);
+        assertThat(DayMask.contains(MON | WED, DayOfWeek.WEDNESDAY)).isTrue();
+        assertThat(DayMask.contains(MON | WED, DayOfWeek.TUESDAY)).isFalse();
+        assertThat(DayMask.isSubsetOf(MON | WED, MON | WED | FRI)).isTrue();
+        assertThat(DayMask.isSubsetOf(MON | SAT, MON | WED | FRI)).isFalse();
+        assertThat(DayMask.intersects(MON | SAT, SAT | SUN)).isTrue();
+        assertThat(DayMask.intersects(MON | TUE, SAT | SUN)).isFalse();
+    }
+}
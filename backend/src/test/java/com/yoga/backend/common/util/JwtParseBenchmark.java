@@ -0,0 +1,71 @@
+package com.yoga.backend.common.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 요청 하나의 액세스 토큰 처리 비용. 기존 방식(isTokenValid, getEmailFromToken, getRoleFromToken이 각각 파서를 만들어 서명 검증)과
+ * {@link JwtUtil#parseAccessToken}처럼 공유 파서로 한 번만 검증하는 방식 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private SecretKey key;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(
+            "benchmark-secret-benchmark-secret-benchmark-secret".getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(key).build();
+        token = Jwts.builder()
+            .issuer("Yoga Navi")
+            .subject("JWT Token")
+            .claim("email", "teacher@yoga.test")
+            .claim("role", "TEACHER")
+            .claim("userId", 42)
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+            .signWith(key)
+            .compact();
+    }
+
+    @Benchmark
+    public void parseThreeTimes(Blackhole blackhole) {
+        blackhole.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token));
+        blackhole.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token)
+            .getPayload().get("email", String.class));
+        blackhole.consume(Jwts.parser().verifyWith(key).build().parseSignedClaims(token)
+            .getPayload().get("role", String.class));
+    }
+
+    @Benchmark
+    public TokenClaims parseOnce() {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return new TokenClaims(token, claims.get("email", String.class),
+            claims.get("role", String.class), claims.get("userId", Integer.class));
+    }
+}
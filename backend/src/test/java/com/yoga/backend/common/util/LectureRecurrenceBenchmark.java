@@ -0,0 +1,119 @@
+package com.yoga.backend.common.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 1년짜리 주 3회 강의 기준으로 {@link LectureRecurrence}와 기존 방식(시작일부터 하루씩 걸으며 요일 문자열 비교)을 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LectureRecurrenceBenchmark {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final LocalDate startDate = LocalDate.of(2024, 1, 1);
+    private final LocalDate endDate = LocalDate.of(2024, 12, 31);
+    private final LocalDate today = LocalDate.of(2024, 11, 20);
+    private final String availableDay = "MON,WED,FRI";
+    private final LocalTime startTime = LocalTime.of(23, 0);
+    private final LocalTime endTime = LocalTime.of(1, 0);
+
+    private LectureRecurrence recurrence;
+    private LectureRecurrence other;
+
+    @Setup
+    public void setUp() {
+        recurrence = new LectureRecurrence(startDate, endDate, DayMask.parse(availableDay),
+            startTime, endTime);
+        // 겹치지 않는 강의라 기존 방식은 끝까지 걸어야 함
+        other = new LectureRecurrence(startDate, endDate,
+            DayMask.of(DayOfWeek.TUESDAY) | DayMask.of(DayOfWeek.THURSDAY),
+            LocalTime.of(2, 0), LocalTime.of(3, 0));
+    }
+
+    @Benchmark
+    public LocalDate nextByRecurrence() {
+        return recurrence.next(today);
+    }
+
+    @Benchmark
+    public ZonedDateTime nextByDayWalk() {
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            ZonedDateTime start = ZonedDateTime.of(date, startTime, KOREA_ZONE);
+            if (!date.isBefore(today)
+                && availableDay.contains(date.getDayOfWeek().toString().substring(0, 3))) {
+                return start;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public long countByRecurrence() {
+        return recurrence.count(startDate, today);
+    }
+
+    @Benchmark
+    public long countByDayWalk() {
+        long count = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (date.isAfter(today)) {
+                break;
+            }
+            if (availableDay.contains(date.getDayOfWeek().toString().substring(0, 3))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public boolean overlapsByRecurrence() {
+        return recurrence.overlaps(other);
+    }
+
+    @Benchmark
+    public boolean overlapsByDayWalk() {
+        String otherDays = DayMask.format(other.getDayMask());
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!availableDay.contains(date.getDayOfWeek().toString().substring(0, 3))) {
+                continue;
+            }
+            ZonedDateTime start = ZonedDateTime.of(date, startTime, KOREA_ZONE);
+            ZonedDateTime end = ZonedDateTime.of(date.plusDays(1), endTime, KOREA_ZONE);
+            for (LocalDate otherDate = other.getStartDate(); !otherDate.isAfter(other.getEndDate());
+                otherDate = otherDate.plusDays(1)) {
+                if (!otherDays.contains(otherDate.getDayOfWeek().toString().substring(0, 3))) {
+                    continue;
+                }
+                ZonedDateTime otherStart = ZonedDateTime.of(otherDate, other.getStartTime(),
+                    KOREA_ZONE);
+                ZonedDateTime otherEnd = ZonedDateTime.of(otherDate, other.getEndTime(),
+                    KOREA_ZONE);
+                if (start.isBefore(otherEnd) && otherStart.isBefore(end)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,184 @@
+package com.yoga.backend.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LectureRecurrenceTest {
+
+    private static final int MON = DayMask.of(DayOfWeek.MONDAY);
+    private static final int TUE = DayMask.of(DayOfWeek.TUESDAY);
+    private static final int WED = DayMask.of(DayOfWeek.WEDNESDAY);
+    private static final int FRI = DayMask.of(DayOfWeek.FRIDAY);
+    private static final int SUN = DayMask.of(DayOfWeek.SUNDAY);
+
+    // 2024-01-01은 월요일
+    private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void 기간_안의_강의_날짜() {
+        LectureRecurrence recurrence = recurrence(BASE, BASE.plusDays(13), MON | WED | FRI,
+            "10:00", "11:00");
+
+        assertThat(recurrence.occurrences(BASE.minusDays(3), BASE.plusDays(30))).containsExactly(
+            BASE, BASE.plusDays(2), BASE.plusDays(4),
+            BASE.plusDays(7), BASE.plusDays(9), BASE.plusDays(11));
+        assertThat(recurrence.occurrences(BASE.plusDays(1), BASE.plusDays(1))).isEmpty();
+        assertThat(recurrence.count(BASE, BASE.plusDays(13))).isEqualTo(6);
+        assertThat(recurrence.count(BASE.plusDays(5), BASE.plusDays(1))).isZero();
+        assertThat(recurrence.next(BASE.plusDays(12))).isNull();
+        assertThat(recurrence.previous(BASE.minusDays(1))).isNull();
+    }
+
+    @Test
+    void 요일이_없으면_강의도_없음() {
+        LectureRecurrence recurrence = recurrence(BASE, BASE.plusDays(30), DayMask.NONE,
+            "10:00", "11:00");
+
+        assertThat(recurrence.occurrences(BASE, BASE.plusDays(30))).isEmpty();
+        assertThat(recurrence.count(BASE, BASE.plusDays(30))).isZero();
+        assertThat(recurrence.next(BASE)).isNull();
+        assertThat(recurrence.previous(BASE.plusDays(30))).isNull();
+    }
+
+    @Test
+    void 하루씩_확인한_결과와_같음() {
+        Random random = new Random(20240101L);
+        for (int i = 0; i < 2000; i++) {
+            LocalDate start = BASE.plusDays(random.nextInt(60));
+            LocalDate end = start.plusDays(random.nextInt(120));
+            LectureRecurrence recurrence = new LectureRecurrence(start, end,
+                random.nextInt(DayMask.ALL + 1), LocalTime.of(10, 0), LocalTime.of(11, 0));
+            LocalDate from = BASE.plusDays(random.nextInt(200) - 20);
+            LocalDate to = from.plusDays(random.nextInt(200) - 10);
+
+            List<LocalDate> expected = walk(recurrence, from, to);
+            assertThat(recurrence.occurrences(from, to)).isEqualTo(expected);
+            assertThat(recurrence.count(from, to)).isEqualTo(expected.size());
+            assertThat(recurrence.next(from)).isEqualTo(first(walk(recurrence, from, end)));
+            assertThat(recurrence.previous(to)).isEqualTo(last(walk(recurrence, start, to)));
+        }
+    }
+
+    @Test
+    void 자정을_넘기는_강의는_다음날_끝남() {
+        LectureRecurrence overnight = recurrence(BASE, BASE.plusDays(6), MON, "23:00", "01:00");
+
+        assertThat(overnight.isOvernight()).isTrue();
+        assertThat(overnight.endOf(BASE)).isEqualTo(BASE.plusDays(1).atTime(1, 0));
+        assertThat(recurrence(BASE, BASE, MON, "10:00", "11:00").isOvernight()).isFalse();
+    }
+
+    @Test
+    void 같은_날_시간이_겹치는지() {
+        LectureRecurrence morning = recurrence(BASE, BASE.plusDays(27), MON | WED,
+            "10:00", "11:00");
+
+        assertThat(morning.overlaps(recurrence(BASE, BASE.plusDays(27), WED, "10:30", "11:30")))
+            .isTrue();
+        // 끝나는 시각에 시작하는 강의는 겹치지 않음
+        assertThat(morning.overlaps(recurrence(BASE, BASE.plusDays(27), WED, "11:00", "12:00")))
+            .isFalse();
+        assertThat(morning.overlaps(recurrence(BASE, BASE.plusDays(27), TUE, "10:00", "11:00")))
+            .isFalse();
+        // 기간이 겹치지 않으면 요일, 시간이 같아도 겹치지 않음
+        assertThat(morning.overlaps(recurrence(BASE.plusDays(28), BASE.plusDays(40), MON,
+            "10:00", "11:00"))).isFalse();
+    }
+
+    @Test
+    void 자정을_넘기면_다음날_강의와_겹침() {
+        LectureRecurrence mondayNight = recurrence(BASE, BASE.plusDays(27), MON,
+            "23:00", "01:00");
+
+        assertThat(mondayNight.overlaps(recurrence(BASE, BASE.plusDays(27), TUE,
+            "00:30", "02:00"))).isTrue();
+        assertThat(mondayNight.overlaps(recurrence(BASE, BASE.plusDays(27), TUE,
+            "01:00", "02:00"))).isFalse();
+        // 전날 밤 강의가 월요일 새벽까지 이어지는 경우 (대칭)
+        assertThat(recurrence(BASE, BASE.plusDays(27), TUE, "00:30", "02:00")
+            .overlaps(mondayNight)).isTrue();
+        assertThat(recurrence(BASE, BASE.plusDays(27), MON, "00:30", "02:00")
+            .overlaps(recurrence(BASE, BASE.plusDays(27), SUN, "23:00", "01:00"))).isTrue();
+    }
+
+    @Test
+    void 기간_경계의_하루_차이() {
+        // 마지막 날(월) 밤 강의가 화요일 새벽으로 넘어가고, 다른 강의는 그 화요일에 시작
+        LectureRecurrence endsMonday = recurrence(BASE, BASE.plusDays(7), MON, "23:00", "01:00");
+        LocalDate tuesday = BASE.plusDays(8);
+
+        assertThat(endsMonday.overlaps(recurrence(tuesday, tuesday.plusDays(7), TUE,
+            "00:30", "02:00"))).isTrue();
+        assertThat(endsMonday.overlaps(recurrence(tuesday.plusDays(7), tuesday.plusDays(14), TUE,
+            "00:30", "02:00"))).isFalse();
+        // 하루 전에 끝나는 다른 강의의 밤 강의가 내 첫날 새벽까지 이어지는 경우
+        assertThat(recurrence(tuesday, tuesday.plusDays(7), TUE, "00:30", "02:00")
+            .overlaps(endsMonday)).isTrue();
+    }
+
+    @Test
+    void 겹침_여부가_하루씩_확인한_결과와_같음() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 5000; i++) {
+            LectureRecurrence one = randomRecurrence(random);
+            LectureRecurrence other = randomRecurrence(random);
+
+            boolean expected = overlapsByWalk(one, other);
+            assertThat(one.overlaps(other)).isEqualTo(expected);
+            assertThat(other.overlaps(one)).isEqualTo(expected);
+        }
+    }
+
+    private static LectureRecurrence recurrence(LocalDate start, LocalDate end, int dayMask,
+        String startTime, String endTime) {
+        return new LectureRecurrence(start, end, dayMask, LocalTime.parse(startTime),
+            LocalTime.parse(endTime));
+    }
+
+    private static LectureRecurrence randomRecurrence(Random random) {
+        LocalDate start = BASE.plusDays(random.nextInt(30));
+        return new LectureRecurrence(start, start.plusDays(random.nextInt(30)),
+            random.nextInt(DayMask.ALL + 1),
+            LocalTime.of(random.nextInt(24), random.nextInt(2) * 30),
+            LocalTime.of(random.nextInt(24), random.nextInt(2) * 30));
+    }
+
+    private static List<LocalDate> walk(LectureRecurrence recurrence, LocalDate from,
+        LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (!date.isBefore(recurrence.getStartDate()) && !date.isAfter(recurrence.getEndDate())
+                && DayMask.contains(recurrence.getDayMask(), date.getDayOfWeek())) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    private static boolean overlapsByWalk(LectureRecurrence one, LectureRecurrence other) {
+        for (LocalDate date : walk(one, one.getStartDate(), one.getEndDate())) {
+            for (LocalDate otherDate : walk(other, date.minusDays(1), date.plusDays(1))) {
+                if (one.startOf(date).isBefore(other.endOf(otherDate))
+                    && other.startOf(otherDate).isBefore(one.endOf(date))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static LocalDate first(List<LocalDate> dates) {
+        return dates.isEmpty() ? null : dates.get(0);
+    }
+
+    private static LocalDate last(List<LocalDate> dates) {
+        return dates.isEmpty() ? null : dates.get(dates.size() - 1);
+    }
+}
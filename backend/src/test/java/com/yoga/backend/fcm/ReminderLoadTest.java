@@ -0,0 +1,270 @@
+package com.yoga.backend.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.yoga.backend.common.entity.DeviceToken;
+import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.common.entity.MyLiveLecture;
+import com.yoga.backend.common.entity.Users;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.fcm.FakeFcmSender.SentMessage;
+import com.yoga.backend.fcm.repository.DeviceTokenRepository;
+import com.yoga.backend.livelectures.repository.LiveLectureRepository;
+import com.yoga.backend.livelectures.repository.MyLiveLectureRepository;
+import com.yoga.backend.livelectures.service.LectureOccurrenceService;
+import com.yoga.backend.members.repository.UsersRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 강의 알림 부하 테스트. 강의 N개와 예약 M개를 넣고, 모든 강의가 같은 분에 시작할 때 알림이 얼마나 빨리 전송되는지 측정
+ * <p>
+ * 설정된 로컬 DB/redis에 가짜 FCM 전송으로 실행하므로 기본 빌드에서는 제외. 넣은 데이터는 끝나면 지움
+ * <pre>
+ * ./mvnw -P reminder-load-test test -Dloadtest.lectures=1000 -Dloadtest.reservations=50000
+ * </pre>
+ */
+@Slf4j
+@Tag("loadtest")
+@SpringBootTest(properties = "fcm.transport=fake")
+class ReminderLoadTest {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int SAVE_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private UsersRepository usersRepository;
+    @Autowired
+    private LiveLectureRepository liveLectureRepository;
+    @Autowired
+    private MyLiveLectureRepository myLiveLectureRepository;
+    @Autowired
+    private DeviceTokenRepository deviceTokenRepository;
+    @Autowired
+    private LectureOccurrenceService lectureOccurrenceService;
+    @Autowired
+    private NotificationService notificationService;
+    @Autowired
+    private FakeFcmSender fakeSender;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${loadtest.lectures:1000}")
+    private int lectureCount;
+    @Value("${loadtest.reservations:50000}")
+    private int reservationCount;
+    @Value("${loadtest.timeout-seconds:300}")
+    private long timeoutSeconds;
+    @Value("${notification.reminder.lead-minutes:10}")
+    private int[] leadMinutes;
+
+    @Test
+    void 같은_분에_시작하는_강의_알림을_모두_전송() throws Exception {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        LocalDate today = LocalDate.now(KOREA_ZONE);
+
+        try {
+            long seedStartedAt = System.currentTimeMillis();
+            List<LiveLectures> lectures = seed(runId, today);
+            log.info("부하 테스트 데이터 생성 완료 - 강의: {}, 예약: {}, 소요: {}ms", lectureCount,
+                reservationCount, System.currentTimeMillis() - seedStartedAt);
+
+            // 모든 강의를 같은 분에 시작하게 두고, 알림 발송 시각을 최소 1분 뒤로 잡음
+            LocalDateTime dueAt = LocalDateTime.now(KOREA_ZONE).truncatedTo(ChronoUnit.MINUTES)
+                .plusMinutes(2);
+            LocalDateTime lectureStart = dueAt.plusMinutes(
+                Arrays.stream(leadMinutes).max().orElse(10));
+            assumeTrue(lectureStart.toLocalDate().equals(today), "자정을 넘기는 강의는 측정할 수 없음");
+            Instant startTime = toTimeColumn(lectureStart.toLocalTime());
+            Instant endTime = toTimeColumn(lectureStart.toLocalTime().plusMinutes(50));
+            for (LiveLectures lecture : lectures) {
+                lecture.setStartTime(startTime);
+                lecture.setEndTime(endTime);
+            }
+            lectures = saveInChunks(lectures, liveLectureRepository::saveAll);
+            lectureOccurrenceService.refreshAll(lectures);
+
+            int scheduled = notificationService.rebuildReminders(today);
+            fakeSender.reset();
+            long dueAtMillis = dueAt.atZone(KOREA_ZONE).toInstant().toEpochMilli();
+            log.info("알림 예약 완료 - 강의: {}, 발송 예정: {}", scheduled, dueAt);
+
+            waitForDelivery(dueAtMillis);
+            report(dueAtMillis);
+            assertThat(fakeSender.getSuccessCount() + fakeSender.getUnregisteredCount())
+                .isGreaterThanOrEqualTo(reservationCount);
+        } finally {
+            cleanUp(runId, today);
+        }
+    }
+
+    private List<LiveLectures> seed(String runId, LocalDate today) {
+        Instant now = Instant.now();
+        Instant startDate = today.minusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant endDate = today.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        Users teacher = newUser(runId, "teacher", "TEACHER");
+        usersRepository.save(teacher);
+
+        List<LiveLectures> lectures = new ArrayList<>(lectureCount);
+        for (int i = 0; i < lectureCount; i++) {
+            LiveLectures lecture = new LiveLectures();
+            lecture.setLiveTitle("부하테스트 " + i);
+            lecture.setLiveContent("부하 테스트용 강의");
+            lecture.setStartDate(startDate);
+            lecture.setEndDate(endDate);
+            lecture.setStartTime(toTimeColumn(LocalTime.MIDNIGHT));
+            lecture.setEndTime(toTimeColumn(LocalTime.MIDNIGHT.plusMinutes(50)));
+            lecture.setMaxLiveNum(Math.max(1, reservationCount / Math.max(1, lectureCount) + 1));
+            lecture.setRegDate(now);
+            lecture.setUser(teacher);
+            lecture.setAvailableDayMask(DayMask.ALL);
+            lectures.add(lecture);
+        }
+        lectures = saveInChunks(lectures, liveLectureRepository::saveAll);
+
+        List<Users> students = new ArrayList<>(reservationCount);
+        for (int i = 0; i < reservationCount; i++) {
+            students.add(newUser(runId, "student" + i, "STUDENT"));
+        }
+        students = saveInChunks(students, usersRepository::saveAll);
+
+        List<DeviceToken> tokens = new ArrayList<>(reservationCount);
+        List<MyLiveLecture> reservations = new ArrayList<>(reservationCount);
+        for (int i = 0; i < students.size(); i++) {
+            Users student = students.get(i);
+
+            DeviceToken token = new DeviceToken();
+            token.setUser(student);
+            token.setToken("loadtest-" + runId + "-" + student.getId());
+            token.setPlatform("LOADTEST");
+            token.setLastSeenAt(now);
+            token.setCreatedAt(now);
+            tokens.add(token);
+
+            MyLiveLecture reservation = new MyLiveLecture();
+            reservation.setLiveLecture(lectures.get(i % lectures.size()));
+            reservation.setUser(student);
+            reservation.setStartDate(startDate);
+            reservation.setEndDate(endDate);
+            reservations.add(reservation);
+        }
+        saveInChunks(tokens, deviceTokenRepository::saveAll);
+        saveInChunks(reservations, myLiveLectureRepository::saveAll);
+
+        // 예약과 맞도록 강의마다 좌석 수를 채움. 좌석 수는 엔티티로 바꿀 수 없어 직접 갱신
+        jdbcTemplate.update("UPDATE live_lectures l SET l.reserved_seats = "
+            + "(SELECT COUNT(*) FROM my_live_lecture ml WHERE ml.live_id = l.live_id) "
+            + "WHERE l.user_id = ?", teacher.getId());
+        return lectures;
+    }
+
+    private void waitForDelivery(long dueAtMillis) throws InterruptedException {
+        long deadline = dueAtMillis + Duration.ofSeconds(timeoutSeconds).toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            if (fakeSender.getSuccessCount() + fakeSender.getUnregisteredCount()
+                >= reservationCount) {
+                return;
+            }
+            Thread.sleep(200);
+        }
+        log.warn("제한 시간 안에 모든 알림이 전송되지 않음 - 전송: {}/{}", fakeSender.getSuccessCount(),
+            reservationCount);
+    }
+
+    private void report(long dueAtMillis) {
+        List<SentMessage> sent = fakeSender.getSentMessages();
+        if (sent.isEmpty()) {
+            log.error("전송된 알림 없음");
+            return;
+        }
+
+        long[] latencies = new long[sent.size()];
+        long lastSentAt = dueAtMillis;
+        for (int i = 0; i < sent.size(); i++) {
+            long sentAt = sent.get(i).getSentAtMillis();
+            latencies[i] = sentAt - dueAtMillis;
+            lastSentAt = Math.max(lastSentAt, sentAt);
+        }
+        Arrays.sort(latencies);
+        double elapsedSeconds = Math.max(1, lastSentAt - dueAtMillis) / 1000.0;
+
+        log.info("강의 알림 부하 테스트 결과 - 강의: {}, 예약: {}", lectureCount, reservationCount);
+        log.info("  전송 성공: {}, 등록 해제: {}, 재시도: {}, FCM 요청: {}", fakeSender.getSuccessCount(),
+            fakeSender.getUnregisteredCount(), fakeSender.getRetryableCount(),
+            fakeSender.getRequestCount());
+        log.info("  발송 예정 시각 기준 지연(ms) - p50: {}, p95: {}, p99: {}, max: {}",
+            percentile(latencies, 0.50), percentile(latencies, 0.95),
+            percentile(latencies, 0.99), latencies[latencies.length - 1]);
+        log.info("  처리량: {} 건/초 ({}초 동안)", String.format("%.1f", sent.size() / elapsedSeconds),
+            String.format("%.1f", elapsedSeconds));
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private Users newUser(String runId, String name, String role) {
+        Users user = new Users();
+        user.setEmail("loadtest-" + runId + "-" + name + "@yoganavi.local");
+        user.setNickname("lt" + runId + name);
+        user.setPwd("loadtest");
+        user.setRole(role);
+        return user;
+    }
+
+    /**
+     * TIME 컬럼은 UTC 기준 시각으로 저장되므로 한국 시각을 그대로 UTC 시각으로 넣음
+     */
+    private Instant toTimeColumn(LocalTime time) {
+        return LocalDate.of(1970, 1, 1).atTime(time).toInstant(ZoneOffset.UTC);
+    }
+
+    private <T> List<T> saveInChunks(List<T> entities,
+        Function<List<T>, Iterable<T>> saveAll) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += SAVE_CHUNK_SIZE) {
+            saveAll.apply(entities.subList(from, Math.min(from + SAVE_CHUNK_SIZE, entities.size())))
+                .forEach(saved::add);
+        }
+        return saved;
+    }
+
+    /**
+     * 넣은 데이터를 이번 실행의 이메일 접두어로 찾아 지우고, 오늘 알림 예약을 남은 강의로 다시 만듦
+     */
+    private void cleanUp(String runId, LocalDate today) {
+        String emailPattern = "loadtest-" + runId + "-%";
+        jdbcTemplate.update("DELETE ml FROM my_live_lecture ml JOIN users u ON u.user_id = ml.user_id "
+            + "WHERE u.email LIKE ?", emailPattern);
+        jdbcTemplate.update("DELETE d FROM device_token d JOIN users u ON u.user_id = d.user_id "
+            + "WHERE u.email LIKE ?", emailPattern);
+        jdbcTemplate.update("DELETE o FROM lecture_occurrence o "
+            + "JOIN live_lectures l ON l.live_id = o.live_id "
+            + "JOIN users u ON u.user_id = l.user_id WHERE u.email LIKE ?", emailPattern);
+        jdbcTemplate.update("DELETE l FROM live_lectures l JOIN users u ON u.user_id = l.user_id "
+            + "WHERE u.email LIKE ?", emailPattern);
+        int users = jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", emailPattern);
+        notificationService.rebuildReminders(today);
+        log.info("부하 테스트 데이터 삭제 완료 - 사용자: {}", users);
+    }
+}
@@ -0,0 +1,99 @@
+package com.yoga.backend.livelectures.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class LectureCursorTest {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void 인코딩한_커서를_그대로_해석() {
+        LectureCursor cursor = new LectureCursor(LocalDate.of(2024, 3, 1), LocalTime.of(23, 30),
+            42L);
+
+        LectureCursor decoded = LectureCursor.decode(cursor.encode());
+
+        assertThat(decoded.getLectureDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(decoded.getStartTime()).isEqualTo(LocalTime.of(23, 30));
+        assertThat(decoded.getLiveId()).isEqualTo(42L);
+        assertThat(decoded.compareTo(cursor)).isZero();
+    }
+
+    @Test
+    void 커서_문자열은_URL에_안전함() {
+        for (long liveId = 0; liveId < 200; liveId++) {
+            String encoded = new LectureCursor(LocalDate.of(2024, 1, 1).plusDays(liveId),
+                LocalTime.of(0, 0).plusMinutes(liveId * 7), liveId).encode();
+
+            assertThat(encoded).doesNotContain("=", "+", "/");
+        }
+    }
+
+    @Test
+    void 응답_DTO의_값으로_만든_커서와_같음() {
+        LocalDate date = LocalDate.of(2024, 3, 1);
+        HomeResponseDto dto = new HomeResponseDto();
+        dto.setLiveId(42L);
+        dto.setLectureDate(date.atStartOfDay(KOREA_ZONE).toInstant().toEpochMilli());
+        dto.setStartTime(LocalTime.of(9, 15).toNanoOfDay() / 1_000_000);
+
+        LectureCursor cursor = LectureCursor.of(dto);
+
+        assertThat(cursor.getLectureDate()).isEqualTo(date);
+        assertThat(cursor.getStartTime()).isEqualTo(LocalTime.of(9, 15));
+        assertThat(cursor.encode()).isEqualTo(
+            new LectureCursor(date, LocalTime.of(9, 15), 42L).encode());
+    }
+
+    @Test
+    void 빈_커서는_첫_페이지() {
+        assertThat(LectureCursor.decode(null)).isNull();
+        assertThat(LectureCursor.decode("")).isNull();
+        assertThat(LectureCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void 잘못된_커서는_IllegalArgumentException() {
+        assertThatThrownBy(() -> LectureCursor.decode("***"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LectureCursor.decode(encode("1:2")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LectureCursor.decode(encode("1:2:3:4")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LectureCursor.decode(encode("a:b:c")))
+            .isInstanceOf(IllegalArgumentException.class);
+        // 하루를 넘는 시작 시간
+        assertThatThrownBy(() -> LectureCursor.decode(encode("0:86400000:1")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LectureCursor.decode(encode("0:-1:1")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 날짜_시작_시간_강의_ID_순서로_정렬() {
+        LocalDate date = LocalDate.of(2024, 3, 1);
+        LectureCursor cursor = new LectureCursor(date, LocalTime.of(10, 0), 5L);
+
+        assertThat(cursor.compareTo(new LectureCursor(date.plusDays(1), LocalTime.MIN, 1L)))
+            .isNegative();
+        assertThat(cursor.compareTo(new LectureCursor(date, LocalTime.of(9, 0), 9L)))
+            .isPositive();
+        assertThat(cursor.compareTo(new LectureCursor(date, LocalTime.of(10, 0), 6L)))
+            .isNegative();
+        assertThat(cursor.compareTo(new LectureCursor(date, LocalTime.of(10, 0), 4L)))
+            .isPositive();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
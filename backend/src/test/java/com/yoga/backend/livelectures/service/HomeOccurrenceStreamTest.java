@@ -0,0 +1,217 @@
+package com.yoga.backend.livelectures.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yoga.backend.common.entity.LiveLectures;
+import com.yoga.backend.common.util.DayMask;
+import com.yoga.backend.common.util.LectureRecurrence;
+import com.yoga.backend.livelectures.dto.LectureCursor;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class HomeOccurrenceStreamTest {
+
+    // 수요일 정오
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 10);
+    private static final LocalTime NOW = LocalTime.NOON;
+
+    private static final int MON = DayMask.of(DayOfWeek.MONDAY);
+    private static final int TUE = DayMask.of(DayOfWeek.TUESDAY);
+    private static final int WED = DayMask.of(DayOfWeek.WEDNESDAY);
+    private static final int THU = DayMask.of(DayOfWeek.THURSDAY);
+
+    @Test
+    void 같은_날짜는_시작_시간_순서() {
+        List<Lecture> lectures = List.of(
+            new Lecture(1L, TODAY.plusDays(1), TODAY.plusDays(1), THU, "18:00", "19:00"),
+            new Lecture(2L, TODAY.plusDays(1), TODAY.plusDays(1), THU, "09:00", "10:00"));
+
+        assertThat(keys(merge(lectures, null, 10))).containsExactly(
+            cursor(TODAY.plusDays(1), "09:00", 2L),
+            cursor(TODAY.plusDays(1), "18:00", 1L));
+    }
+
+    @Test
+    void 날짜와_시작_시간이_같으면_강의_ID_순서() {
+        List<Lecture> lectures = List.of(
+            new Lecture(7L, TODAY.plusDays(1), TODAY.plusDays(8), THU, "10:00", "11:00"),
+            new Lecture(3L, TODAY.plusDays(1), TODAY.plusDays(8), THU, "10:00", "11:00"));
+
+        assertThat(keys(merge(lectures, null, 10))).containsExactly(
+            cursor(TODAY.plusDays(1), "10:00", 3L),
+            cursor(TODAY.plusDays(1), "10:00", 7L),
+            cursor(TODAY.plusDays(8), "10:00", 3L),
+            cursor(TODAY.plusDays(8), "10:00", 7L));
+    }
+
+    @Test
+    void 끝난_오늘_강의는_건너뜀() {
+        Lecture lecture = new Lecture(1L, TODAY, TODAY.plusDays(7), WED, "10:00", "11:00");
+
+        assertThat(keys(merge(List.of(lecture), null, 10))).containsExactly(
+            cursor(TODAY.plusDays(7), "10:00", 1L));
+    }
+
+    @Test
+    void 어제_시작해_오늘까지_이어지는_강의는_방송_중() {
+        Lecture lecture = new Lecture(1L, TODAY.minusDays(1), TODAY.plusDays(6), TUE,
+            "23:00", "13:00");
+
+        HomeOccurrenceStream stream = lecture.open(null);
+
+        assertThat(stream.current()).isEqualTo(TODAY.minusDays(1));
+        assertThat(stream.isCurrentLive()).isTrue();
+        stream.advance();
+        assertThat(stream.current()).isEqualTo(TODAY.plusDays(6));
+        assertThat(stream.isCurrentLive()).isFalse();
+        stream.advance();
+        assertThat(stream.current()).isNull();
+    }
+
+    @Test
+    void 어제_시작해_이미_끝난_강의는_건너뜀() {
+        Lecture lecture = new Lecture(1L, TODAY.minusDays(1), TODAY.plusDays(6), TUE,
+            "23:00", "01:00");
+
+        assertThat(lecture.open(null).current()).isEqualTo(TODAY.plusDays(6));
+    }
+
+    @Test
+    void 병합_순서가_전체_일정을_정렬한_결과와_같음() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 300; i++) {
+            List<Lecture> lectures = randomLectures(random);
+
+            assertThat(keys(merge(lectures, null, Integer.MAX_VALUE)))
+                .isEqualTo(keys(expected(lectures)));
+        }
+    }
+
+    @Test
+    void 커서로_이어_조회하면_빠짐과_중복이_없음() {
+        Random random = new Random(11L);
+        for (int i = 0; i < 300; i++) {
+            List<Lecture> lectures = randomLectures(random);
+            int size = 1 + random.nextInt(5);
+
+            List<LectureCursor> paged = new ArrayList<>();
+            LectureCursor after = null;
+            while (true) {
+                List<LectureCursor> page = merge(lectures, after, size);
+                paged.addAll(page);
+                if (page.size() < size) {
+                    break;
+                }
+                after = page.get(page.size() - 1);
+            }
+
+            assertThat(keys(paged)).isEqualTo(keys(expected(lectures)));
+        }
+    }
+
+    /**
+     * HomeServiceImpl과 같은 방식으로 스트림을 우선순위 큐에 넣고 size개를 꺼냄
+     */
+    private static List<LectureCursor> merge(List<Lecture> lectures, LectureCursor after,
+        int size) {
+        PriorityQueue<HomeOccurrenceStream> queue = new PriorityQueue<>(HomeOccurrenceStream.ORDER);
+        for (Lecture lecture : lectures) {
+            HomeOccurrenceStream stream = lecture.open(after);
+            if (stream.current() != null) {
+                queue.offer(stream);
+            }
+        }
+        List<LectureCursor> result = new ArrayList<>();
+        while (result.size() < size && !queue.isEmpty()) {
+            HomeOccurrenceStream stream = queue.poll();
+            result.add(new LectureCursor(stream.current(),
+                stream.getRecurrence().getStartTime(), stream.getLecture().getLiveId()));
+            stream.advance();
+            if (stream.current() != null) {
+                queue.offer(stream);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 모든 강의의 노출 날짜를 하루씩 펼쳐 정렬
+     */
+    private static List<LectureCursor> expected(List<Lecture> lectures) {
+        List<LectureCursor> cursors = new ArrayList<>();
+        for (Lecture lecture : lectures) {
+            LectureRecurrence recurrence = lecture.recurrence;
+            for (LocalDate date = recurrence.getStartDate();
+                !date.isAfter(recurrence.getEndDate()); date = date.plusDays(1)) {
+                if (recurrence.occursOn(date) && isVisible(recurrence, date)) {
+                    cursors.add(new LectureCursor(date, recurrence.getStartTime(), lecture.liveId));
+                }
+            }
+        }
+        cursors.sort(Comparator.naturalOrder());
+        return cursors;
+    }
+
+    private static boolean isVisible(LectureRecurrence recurrence, LocalDate date) {
+        if (date.isAfter(TODAY)) {
+            return true;
+        }
+        boolean endsLater = recurrence.getEndTime().isAfter(NOW);
+        if (date.isEqual(TODAY)) {
+            return endsLater || recurrence.isOvernight();
+        }
+        return date.isEqual(TODAY.minusDays(1)) && recurrence.isOvernight() && endsLater;
+    }
+
+    private static List<Lecture> randomLectures(Random random) {
+        String[] times = {"00:00", "09:00", "11:00", "12:00", "13:00", "23:00"};
+        List<Lecture> lectures = new ArrayList<>();
+        int count = 1 + random.nextInt(5);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = TODAY.plusDays(random.nextInt(10) - 5);
+            lectures.add(new Lecture(1L + random.nextInt(4) + i * 4L, start,
+                start.plusDays(random.nextInt(21)), random.nextInt(DayMask.ALL + 1) | MON,
+                times[random.nextInt(times.length)], times[random.nextInt(times.length)]));
+        }
+        return lectures;
+    }
+
+    private static String cursor(LocalDate date, String startTime, long liveId) {
+        return key(new LectureCursor(date, LocalTime.parse(startTime), liveId));
+    }
+
+    // LectureCursor는 equals가 없으므로 (날짜, 시작 시간, 강의 ID) 문자열로 비교
+    private static List<String> keys(List<LectureCursor> cursors) {
+        return cursors.stream().map(HomeOccurrenceStreamTest::key).toList();
+    }
+
+    private static String key(LectureCursor cursor) {
+        return cursor.getLectureDate() + " " + cursor.getStartTime() + " #" + cursor.getLiveId();
+    }
+
+    private static class Lecture {
+
+        private final long liveId;
+        private final LectureRecurrence recurrence;
+
+        Lecture(long liveId, LocalDate startDate, LocalDate endDate, int dayMask,
+            String startTime, String endTime) {
+            this.liveId = liveId;
+            this.recurrence = new LectureRecurrence(startDate, endDate, dayMask,
+                LocalTime.parse(startTime), LocalTime.parse(endTime));
+        }
+
+        HomeOccurrenceStream open(LectureCursor after) {
+            LiveLectures lecture = new LiveLectures();
+            lecture.setLiveId(liveId);
+            return new HomeOccurrenceStream(lecture, recurrence, true, TODAY, NOW, after);
+        }
+    }
+}